@@ -21,6 +21,7 @@ class Config:
     # 처리 제한
     MAX_TEXT_LENGTH = int(os.getenv('MAX_TEXT_LENGTH', '1000'))
     MAX_TOKENS = int(os.getenv('MAX_TOKENS', '500'))
+    BATCH_CLASSIFICATION_SIZE = int(os.getenv('BATCH_CLASSIFICATION_SIZE', '10'))  # LLM 호출 1회당 피드백 수
     
     # 신뢰도 임계값
     SENTIMENT_CONFIDENCE_THRESHOLD = float(os.getenv('SENTIMENT_CONFIDENCE_THRESHOLD', '0.7'))
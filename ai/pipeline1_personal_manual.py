@@ -8,12 +8,14 @@ AI 파이프라인 1: Living Manual Engine (강화 버전)
 import sys
 import json
 import traceback
-import hashlib
 from typing import Dict, Any, Optional, List
 from config import Config
 from utils.logger import create_logger
 from utils.metrics import create_metrics_collector
 from utils.classification_processor import ClassificationProcessor, ClassificationResult
+from utils.worker import run_worker, is_worker_mode, exit_code_for
+from utils.transport import is_stdin_mode, read_request_frame
+from utils.cache_digest import feedback_cache_key
 from master_tags import master_tag_system
 
 class LivingManualPipelineV2:
@@ -29,6 +31,10 @@ class LivingManualPipelineV2:
         if not Config.validate():
             raise ValueError("Configuration validation failed")
     
+    def bind_correlation_id(self, correlation_id: Optional[str]) -> None:
+        """재사용 중인 파이프라인을 새 요청에 연결 (로거만 교체)"""
+        self.logger = create_logger(correlation_id)
+    
     def process_feedback_text(self, feedback_text: str, context: Optional[Dict] = None) -> Dict[str, Any]:
         """
         피드백 텍스트를 마스터 태그 기반으로 분류 및 근거 추출
@@ -74,39 +80,10 @@ class LivingManualPipelineV2:
                     feedback_text, context
                 )
                 
-                # 3. 결과 품질 검증
-                data_quality = self._validate_data_quality(classification_results, feedback_text)
-                
-                # 4. 통계 정보 생성
-                statistics = self.classification_processor.get_classification_statistics(classification_results)
-                
-                # 5. 요약 생성
-                summary = self._generate_summary(classification_results, statistics)
-                
-                # 6. 최종 결과 구성
-                result_dicts = []
-                for result in classification_results:
-                    result_dict = result.to_dict()
-                    # 카테고리 정보 추가
-                    tag_def = self.master_tags.get_tag_by_keyword(result.keyword)
-                    if tag_def:
-                        result_dict["category"] = tag_def.category.value
-                    result_dicts.append(result_dict)
-                
-                final_result = {
-                    "success": True,
-                    "classification_results": result_dicts,
-                    "summary": summary,
-                    "statistics": statistics,
-                    "processing_info": {
-                        "method": "classification_v2",
-                        "master_tags_version": "v1",
-                        "total_master_tags": len(self.master_tags.get_tag_keywords()),
-                        "processing_model": Config.OPENAI_MODEL_COST_EFFECTIVE
-                    },
-                    "cache_key": cache_key,
-                    "data_quality": data_quality
-                }
+                # 3~6. 품질 검증, 통계, 요약, 최종 결과 구성
+                final_result = self._build_result(feedback_text, classification_results, cache_key)
+                statistics = final_result["statistics"]
+                data_quality = final_result["data_quality"]
                 
                 self.logger.info("피드백 분류 처리 완료", {
                     "results_count": len(classification_results),
@@ -130,18 +107,128 @@ class LivingManualPipelineV2:
                     "summary": "",
                     "statistics": {"total": 0, "avg_confidence": 0, "categories": {}},
                     "processing_info": {"method": "error", "error_type": type(e).__name__},
+                    "error_type": type(e).__name__,
                     "cache_key": "",
                     "data_quality": {"validation_passed": False, "issues": ["Processing failed"]},
                     "error": error_message
                 }
     
-    def _generate_cache_key(self, feedback_text: str, context: Optional[Dict] = None) -> str:
-        """캐시 키 생성"""
-        content = feedback_text
-        if context:
-            content += json.dumps(context, sort_keys=True, ensure_ascii=False)
+    def process_feedback_batch(self, items: List[Dict[str, Any]]) -> Dict[str, Any]:
+        """
+        여러 피드백을 한 번의 워커 호출로 분류 (LLM 호출도 묶어서 수행)
+        
+        Args:
+            items: [{"item_id": "...", "feedback_text": "...", "context": {...}}, ...]
+            
+        Returns:
+            {
+                "success": true/false,
+                "mode": "batch",
+                "items": [{"item_id": "...", "success": true, "classification_results": [...], ...}],
+                "statistics": {"total_items": 10, "succeeded": 9, "failed": 1},
+                "error": "오류 메시지 (배치 전체 실패시)"
+            }
+        """
         
-        return hashlib.sha256(content.encode('utf-8')).hexdigest()[:16]
+        with self.metrics:
+            try:
+                self.logger.info("피드백 배치 분류 시작", {"items_count": len(items)})
+                
+                batch_results = self.classification_processor.classify_feedback_batch(items)
+                
+                item_results = []
+                for item, classification in zip(items, batch_results):
+                    feedback_text = item["feedback_text"]
+                    context = item.get("context")
+                    
+                    if isinstance(classification, Exception):
+                        item_result = {
+                            "success": False,
+                            "classification_results": [],
+                            "error": str(classification),
+                            "error_type": type(classification).__name__
+                        }
+                    else:
+                        item_result = self._build_result(
+                            feedback_text, classification, self._generate_cache_key(feedback_text, context)
+                        )
+                    
+                    item_result["item_id"] = item.get("item_id")
+                    item_results.append(item_result)
+                
+                succeeded = len([r for r in item_results if r["success"]])
+                
+                self.logger.info("피드백 배치 분류 완료", {
+                    "items_count": len(items),
+                    "succeeded": succeeded
+                })
+                
+                return {
+                    "success": True,
+                    "mode": "batch",
+                    "items": item_results,
+                    "statistics": {
+                        "total_items": len(items),
+                        "succeeded": succeeded,
+                        "failed": len(items) - succeeded
+                    }
+                }
+                
+            except Exception as e:
+                self.logger.error("피드백 배치 분류 실패", {
+                    "error": str(e),
+                    "error_type": type(e).__name__,
+                    "traceback": traceback.format_exc()
+                })
+                
+                return {
+                    "success": False,
+                    "mode": "batch",
+                    "items": [],
+                    "error": str(e),
+                    "error_type": type(e).__name__
+                }
+    
+    def _build_result(self, feedback_text: str, classification_results: List[ClassificationResult],
+                      cache_key: str) -> Dict[str, Any]:
+        """분류 결과로 단건 응답 구성 (단건/배치 공용)"""
+        # 결과 품질 검증
+        data_quality = self._validate_data_quality(classification_results, feedback_text)
+        
+        # 통계 정보 생성
+        statistics = self.classification_processor.get_classification_statistics(classification_results)
+        
+        # 요약 생성
+        summary = self._generate_summary(classification_results, statistics)
+        
+        result_dicts = []
+        for result in classification_results:
+            result_dict = result.to_dict()
+            # 카테고리 정보 추가
+            tag_def = self.master_tags.get_tag_by_keyword(result.keyword)
+            if tag_def:
+                result_dict["category"] = tag_def.category.value
+            result_dicts.append(result_dict)
+        
+        return {
+            "success": True,
+            "classification_results": result_dicts,
+            "summary": summary,
+            "statistics": statistics,
+            "processing_info": {
+                "method": "classification_v2",
+                "master_tags_version": "v1",
+                "total_master_tags": len(self.master_tags.get_tag_keywords()),
+                "processing_model": Config.OPENAI_MODEL_COST_EFFECTIVE
+            },
+            "cache_key": cache_key,
+            "data_quality": data_quality
+        }
+    
+    def _generate_cache_key(self, feedback_text: str, context: Optional[Dict] = None) -> str:
+        """캐시 키 생성 (Java FeedbackCacheDigest와 같은 규격 - utils/cache_digest.py)"""
+        return feedback_cache_key(feedback_text, context, self.master_tags.fingerprint,
+                                  Config.OPENAI_MODEL_COST_EFFECTIVE)
     
     def _validate_data_quality(self, results: List[ClassificationResult], 
                               original_text: str) -> Dict[str, Any]:
@@ -206,9 +293,42 @@ class LivingManualPipelineV2:
         
         return f"{main_category} 영역에서 {total}개 태그 분류됨. {sentiment_trend} 피드백 (평균 신뢰도: {avg_conf:.2f}). 주요 태그: {', '.join(top_tags)}"
 
+# 워커 프로세스 하나가 재사용하는 파이프라인 (요청은 순차 처리)
+_worker_pipeline: Optional[LivingManualPipelineV2] = None
+
+def _pipeline_for(correlation_id: Optional[str]) -> LivingManualPipelineV2:
+    """분류기/설정 검증/메트릭 수집기는 워커당 한 번만 만들고 요청마다 로거만 바꾼다"""
+    global _worker_pipeline
+    if _worker_pipeline is None:
+        _worker_pipeline = LivingManualPipelineV2(correlation_id)
+    else:
+        _worker_pipeline.bind_correlation_id(correlation_id)
+    return _worker_pipeline
+
+def handle_worker_request(request: Dict[str, Any]) -> Dict[str, Any]:
+    """워커/stdin 프레임 모드 요청 처리 (커맨드라인 인자와 동일한 의미)"""
+    pipeline = _pipeline_for(request.get("correlation_id"))
+    
+    if request.get("mode") == "batch":
+        return pipeline.process_feedback_batch(json.loads(request["input_text"]))
+    
+    context_json = request.get("context")
+    context = json.loads(context_json) if context_json and context_json != "null" else None
+    return pipeline.process_feedback_text(request["input_text"], context)
+
 def main():
     """커맨드라인에서 호출될 때 실행"""
+    if is_worker_mode(sys.argv):
+        run_worker("living_manual_v2", handle_worker_request)
+        return
+    
     try:
+        # stdin 프레임 모드: python <script> --stdin (요청 envelope은 stdin으로 전달)
+        if is_stdin_mode(sys.argv):
+            result = handle_worker_request(read_request_frame())
+            print(json.dumps(result, ensure_ascii=False))
+            sys.exit(exit_code_for(result))
+        
         if len(sys.argv) < 2:
             result = {
                 "success": False,
@@ -217,7 +337,15 @@ def main():
                 "example": "python pipeline1_living_manual.py '동료가 매우 꼼꼼하고 성실합니다.' '{\"project\": \"A프로젝트\"}' 'corr_123'"
             }
             print(json.dumps(result, ensure_ascii=False))
-            sys.exit(1)
+            sys.exit(2)
+        
+        # 배치 모드: python pipeline1_personal_manual.py --batch <items_json> [correlation_id]
+        if sys.argv[1] == "--batch":
+            items = json.loads(sys.argv[2]) if len(sys.argv) > 2 else []
+            correlation_id = sys.argv[3] if len(sys.argv) > 3 else None
+            result = LivingManualPipelineV2(correlation_id).process_feedback_batch(items)
+            print(json.dumps(result, ensure_ascii=False))
+            sys.exit(exit_code_for(result))
         
         feedback_text = sys.argv[1]
         context = json.loads(sys.argv[2]) if len(sys.argv) > 2 and sys.argv[2] != "null" else None
@@ -231,7 +359,7 @@ def main():
         print(json.dumps(result, ensure_ascii=False))
         
         # 성공 여부에 따른 exit code 설정
-        sys.exit(0 if result["success"] else 1)
+        sys.exit(exit_code_for(result))
         
     except Exception as e:
         # 최상위 예외 처리
@@ -247,7 +375,7 @@ def main():
         }
         
         print(json.dumps(error_result, ensure_ascii=False))
-        sys.exit(1)
+        sys.exit(exit_code_for(error_result))
 
 if __name__ == "__main__":
     main()
@@ -14,6 +14,8 @@ import openai
 from config import Config
 from utils.logger import create_logger
 from utils.metrics import create_metrics_collector
+from utils.worker import run_worker, is_worker_mode, exit_code_for
+from utils.transport import is_stdin_mode, read_request_frame
 
 class CoachingGenerationPipeline:
     """AI 코칭 생성 파이프라인"""
@@ -26,6 +28,10 @@ class CoachingGenerationPipeline:
         if not Config.validate():
             raise ValueError("Configuration validation failed")
     
+    def bind_correlation_id(self, correlation_id: Optional[str]) -> None:
+        """재사용 중인 파이프라인을 새 요청에 연결 (로거만 교체)"""
+        self.logger = create_logger(correlation_id)
+    
     def generate_coaching_response(self, mcp_packet: Dict[str, Any]) -> Dict[str, Any]:
         """
         MCP 패킷을 기반으로 최종 코칭 응답 생성
@@ -99,6 +105,7 @@ class CoachingGenerationPipeline:
                     "best_hypothesis": "",
                     "coaching_card": {},
                     "processing_info": {"method": "error", "error_type": type(e).__name__},
+                    "error_type": type(e).__name__,
                     "error": error_message
                 }
     
@@ -359,9 +366,37 @@ class CoachingGenerationPipeline:
         
         return min(matches / len(query_keywords), 1.0)
 
+# 워커 프로세스 하나가 재사용하는 파이프라인 (요청은 순차 처리)
+_worker_pipeline: Optional[CoachingGenerationPipeline] = None
+
+def _pipeline_for(correlation_id: Optional[str]) -> CoachingGenerationPipeline:
+    """설정 검증/메트릭 수집기는 워커당 한 번만 만들고 요청마다 로거만 바꾼다"""
+    global _worker_pipeline
+    if _worker_pipeline is None:
+        _worker_pipeline = CoachingGenerationPipeline(correlation_id)
+    else:
+        _worker_pipeline.bind_correlation_id(correlation_id)
+    return _worker_pipeline
+
+def handle_worker_request(request: Dict[str, Any]) -> Dict[str, Any]:
+    """워커/stdin 프레임 모드 요청 처리 (context는 사용하지 않음)"""
+    mcp_packet = json.loads(request["input_text"])
+    pipeline = _pipeline_for(request.get("correlation_id"))
+    return pipeline.generate_coaching_response(mcp_packet)
+
 def main():
     """커맨드라인에서 호출될 때 실행"""
+    if is_worker_mode(sys.argv):
+        run_worker("coaching_generation", handle_worker_request)
+        return
+    
     try:
+        # stdin 프레임 모드: python <script> --stdin (요청 envelope은 stdin으로 전달)
+        if is_stdin_mode(sys.argv):
+            result = handle_worker_request(read_request_frame())
+            print(json.dumps(result, ensure_ascii=False))
+            sys.exit(exit_code_for(result))
+        
         if len(sys.argv) < 2:
             result = {
                 "success": False,
@@ -369,7 +404,7 @@ def main():
                 "usage": "python pipeline2_coaching_generation.py <mcp_packet_json> [correlation_id]"
             }
             print(json.dumps(result, ensure_ascii=False))
-            sys.exit(1)
+            sys.exit(2)
         
         mcp_packet_json = sys.argv[1]
         correlation_id = sys.argv[2] if len(sys.argv) > 2 else None
@@ -381,12 +416,13 @@ def main():
             result = {
                 "success": False,
                 "error": f"Invalid MCP packet JSON: {str(e)}",
+                "error_type": type(e).__name__,
                 "hypotheses": [],
                 "best_hypothesis": "",
                 "coaching_card": {}
             }
             print(json.dumps(result, ensure_ascii=False))
-            sys.exit(1)
+            sys.exit(exit_code_for(result))
         
         # 파이프라인 실행
         pipeline = CoachingGenerationPipeline(correlation_id)
@@ -396,7 +432,7 @@ def main():
         print(json.dumps(result, ensure_ascii=False))
         
         # 성공 여부에 따른 exit code 설정
-        sys.exit(0 if result["success"] else 1)
+        sys.exit(exit_code_for(result))
         
     except Exception as e:
         # 최상위 예외 처리
@@ -411,7 +447,7 @@ def main():
         }
         
         print(json.dumps(error_result, ensure_ascii=False))
-        sys.exit(1)
+        sys.exit(exit_code_for(error_result))
 
 if __name__ == "__main__":
     main()
@@ -0,0 +1,46 @@
+"""
+피드백 분류 결과 캐시 키 (Java FeedbackCacheDigest와 동일 규격)
+
+key = sha256(UTF-8(schema ␟ taxonomy ␟ pipeline ␟ model ␟ text ␟ context)) 64자리 hex (␟ = U+001F)
+- text: NFC 정규화 후 공백 문자 연속을 공백 하나로 치환, 앞뒤 공백 제거
+- context: 키 정렬, 구분자 공백 없는 JSON (ensure_ascii=False), 비어 있으면 ""
+- taxonomy: master_tags.json 바이트의 sha256 앞 16자리 - 태그 정의가 바뀌면 키가 바뀜
+- pipeline/model: 분류 로직 버전과 사용 모델 - 바뀌면 기존 캐시 항목은 더 이상 조회되지 않음
+"""
+import hashlib
+import json
+import re
+import unicodedata
+from typing import Any, Optional
+
+CACHE_KEY_SCHEMA = "feedback-v1"
+PIPELINE_VERSION = "pipeline1-v2"
+SEPARATOR = "\x1f"
+
+# Java 쪽 패턴과 같은 문자 집합 (언어별 \s 정의 차이를 피하기 위해 명시)
+_WHITESPACE = re.compile("[\t\n\x0b\x0c\r \x85\xa0\u1680\u2000-\u200a\u2028\u2029\u202f\u205f\u3000]+")
+
+
+def normalize_text(text: str) -> str:
+    """캐시 키용 텍스트 정규화"""
+    return _WHITESPACE.sub(" ", unicodedata.normalize("NFC", text or "")).strip(" ")
+
+
+def canonical_context(context: Optional[Any]) -> str:
+    """캐시 키용 컨텍스트 직렬화"""
+    if not context:
+        return ""
+    return json.dumps(context, sort_keys=True, ensure_ascii=False, separators=(",", ":"))
+
+
+def feedback_cache_key(feedback_text: str, context: Optional[Any], taxonomy_fingerprint: str, model: str) -> str:
+    """피드백 분류 캐시 키"""
+    content = SEPARATOR.join([
+        CACHE_KEY_SCHEMA,
+        taxonomy_fingerprint,
+        PIPELINE_VERSION,
+        model,
+        normalize_text(feedback_text),
+        canonical_context(context),
+    ])
+    return hashlib.sha256(content.encode("utf-8")).hexdigest()
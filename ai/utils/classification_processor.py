@@ -94,15 +94,135 @@ class ClassificationProcessor:
         
         return text
     
+    def classify_feedback_batch(self, items: List[Dict[str, Any]]) -> List[Any]:
+        """
+        여러 피드백을 묶어서 분류 (LLM 호출 1회당 최대 Config.BATCH_CLASSIFICATION_SIZE건)
+        
+        Args:
+            items: [{"feedback_text": "...", "context": {...}}, ...]
+            
+        Returns:
+            입력 순서대로 분류 결과 리스트 또는 해당 항목의 예외
+        """
+        results: List[Any] = [None] * len(items)
+        group_size = max(1, Config.BATCH_CLASSIFICATION_SIZE)
+        
+        for start in range(0, len(items), group_size):
+            group = list(range(start, min(start + group_size, len(items))))
+            cleaned = {i: self._preprocess_text(items[i]["feedback_text"]) for i in group}
+            
+            try:
+                raw_by_index = self._with_retries(
+                    lambda: self._batch_classification_attempt(group, cleaned, items)
+                )
+            except (openai.AuthenticationError, openai.PermissionDeniedError) as e:
+                for i in group:
+                    results[i] = e
+                continue
+            except Exception:
+                # 배치 호출 자체가 실패하면 추가 LLM 호출 없이 키워드 기반 분류로 대체
+                for i in group:
+                    results[i] = self._fallback_classification(items[i]["feedback_text"])
+                continue
+            
+            for i in group:
+                if i in raw_by_index:
+                    results[i] = self._validate_and_clean_results(raw_by_index[i], cleaned[i])
+                else:
+                    # 배치 응답에서 누락된 항목은 단건 분류로 보완
+                    try:
+                        results[i] = self.classify_feedback(items[i]["feedback_text"], items[i].get("context"))
+                    except Exception as e:
+                        results[i] = e
+        
+        return results
+    
+    def _batch_classification_attempt(self, group: List[int], cleaned: Dict[int, str],
+                                      items: List[Dict[str, Any]]) -> Dict[int, List[Dict]]:
+        """배치 분류 단일 시도 - {입력 인덱스: 원시 분류 항목 리스트}"""
+        prompt = self._build_batch_classification_prompt(group, cleaned, items)
+        
+        response = openai.chat.completions.create(
+            model=Config.OPENAI_MODEL_COST_EFFECTIVE,
+            messages=[
+                {"role": "system", "content": self._get_classification_system_prompt()},
+                {"role": "user", "content": prompt}
+            ],
+            max_tokens=Config.MAX_TOKENS * len(group),
+            temperature=0.2,
+        )
+        
+        parsed = json.loads(response.choices[0].message.content)
+        if not isinstance(parsed, dict):
+            raise ValueError("Batch classification response is not a JSON object")
+        
+        raw_by_index = {}
+        for position, i in enumerate(group, start=1):
+            entries = parsed.get(str(position))
+            if isinstance(entries, list):
+                raw_by_index[i] = [item for item in entries
+                                   if isinstance(item, dict) and self._is_valid_classification_item(item)]
+        return raw_by_index
+    
+    def _build_batch_classification_prompt(self, group: List[int], cleaned: Dict[int, str],
+                                           items: List[Dict[str, Any]]) -> str:
+        """배치 분류용 프롬프트 생성 - 마스터 태그 리스트는 한 번만 포함"""
+        potential_tags = []
+        for i in group:
+            for tag_keyword in self.master_tags.find_potential_tags(cleaned[i]):
+                if tag_keyword not in potential_tags:
+                    potential_tags.append(tag_keyword)
+        
+        if potential_tags:
+            tag_list = "\n".join(
+                f"{tag_def.keyword}: {tag_def.definition}"
+                for tag_def in (self.master_tags.get_tag_by_keyword(k) for k in potential_tags) if tag_def
+            )
+        else:
+            tag_list = self.master_tags.get_formatted_tag_list()
+        
+        prompt = "[피드백 텍스트 목록]\n"
+        for position, i in enumerate(group, start=1):
+            prompt += f'{position}. "{cleaned[i]}"\n'
+            if items[i].get("context"):
+                prompt += f"   [컨텍스트] {json.dumps(items[i]['context'], ensure_ascii=False)}\n"
+        
+        prompt += f"""
+[마스터 태그 리스트]
+{tag_list}
+
+각 피드백 텍스트를 독립적으로 분석하여 가장 적합한 마스터 태그를 선택하고 근거를 제시하세요.
+
+[출력 규칙]
+1. 피드백마다 최대 3개까지만 선택 (확신이 없으면 빈 배열)
+2. 반드시 마스터 태그 리스트에 있는 태그만 사용
+3. evidence는 해당 피드백 원본 텍스트에서 직접 인용
+4. 복합적 감정이면 Mixed 사용하고 세부 설명 추가
+5. confidence는 0.3 이상인 것만 포함
+
+[출력 형식]
+피드백 번호를 키로 하는 JSON 객체:
+{{
+  "1": [{{"keyword": "#선택된_마스터_태그", "sentiment": "Positive/Negative/Mixed", "evidence": "근거 문장", "confidence": 0.8}}],
+  "2": []
+}}
+"""
+        return prompt
+    
     def _classify_with_ai(self, text: str, potential_tags: List[str], 
                          context: Optional[Dict] = None) -> List[Dict]:
         """AI를 사용한 분류 수행"""
-        # 재시도 로직
+        return self._with_retries(
+            lambda: self._single_classification_attempt(text, potential_tags, context)
+        )
+    
+    def _with_retries(self, attempt_fn):
+        """OpenAI 호출 재시도 로직 (단건/배치 공용)"""
         last_exception = None
         
         for attempt in range(self.max_retries):
             try:
-                return self._single_classification_attempt(text, potential_tags, context)
+                return attempt_fn()
                 
             except openai.RateLimitError as e:
                 wait_time = self.retry_delay * (2 ** attempt) * 5  # Rate limit은 더 긴 대기
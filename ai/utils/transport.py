@@ -0,0 +1,49 @@
+"""
+stdin 프레임 전송 유틸리티
+Java PythonBridge가 요청을 명령행 인자 대신 stdin으로 보낼 때 사용 (ARG_MAX 제한, ps 노출 방지)
+
+프레임: [flags 1바이트][payload 길이 4바이트 big-endian][payload]
+- flags bit0: payload gzip 압축 여부
+- payload: 요청 envelope JSON (워커 요청과 같은 형식: correlation_id, mode, input_text, context)
+"""
+import gzip
+import json
+import struct
+import sys
+from typing import Any, BinaryIO, Dict, Optional
+
+FLAG_GZIP = 0x01
+HEADER = struct.Struct(">BI")
+MAX_PAYLOAD_BYTES = 64 * 1024 * 1024
+
+
+def is_stdin_mode(argv) -> bool:
+    """--stdin 플래그로 실행되었는지 확인"""
+    return len(argv) > 1 and argv[1] == "--stdin"
+
+
+def read_request_frame(stream: Optional[BinaryIO] = None) -> Dict[str, Any]:
+    """stdin에서 프레임 하나를 읽어 요청 envelope으로 반환"""
+    stream = stream or sys.stdin.buffer
+    flags, length = HEADER.unpack(_read_exact(stream, HEADER.size))
+    if length > MAX_PAYLOAD_BYTES:
+        raise ValueError(f"Request frame too large: {length} bytes")
+
+    payload = _read_exact(stream, length)
+    if flags & FLAG_GZIP:
+        payload = gzip.decompress(payload)
+
+    request = json.loads(payload.decode("utf-8"))
+    if not isinstance(request, dict):
+        raise ValueError("Request frame payload is not a JSON object")
+    return request
+
+
+def _read_exact(stream: BinaryIO, size: int) -> bytes:
+    data = bytearray()
+    while len(data) < size:
+        chunk = stream.read(size - len(data))
+        if not chunk:
+            raise ValueError(f"Truncated request frame: expected {size} bytes, got {len(data)}")
+        data.extend(chunk)
+    return bytes(data)
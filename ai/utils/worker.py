@@ -0,0 +1,88 @@
+"""
+장기 실행 워커 모드 유틸리티
+Java PythonWorkerPool과 stdin/stdout JSON-lines 프로토콜로 통신
+
+요청 (한 줄): {"type": "request", "correlation_id": "...", "mode": "single|batch", "input_text": "...", "context": "..."}
+응답 (한 줄): {"type": "response", "correlation_id": "...", "exit_code": 0, "response": {...}}
+
+exit_code는 프로세스 실행 방식과 같은 의미: 0=성공, 1=일시적/알 수 없는 실패(재시도 가능), 2=영구적 실패
+"""
+import sys
+import json
+import traceback
+from typing import Callable, Dict, Any
+
+# 요청 envelope -> 파이프라인 결과
+RequestHandler = Callable[[Dict[str, Any]], Dict[str, Any]]
+
+# 다시 실행해도 같은 결과가 나오는 오류 (입력 오류, 인증/권한 오류)
+PERMANENT_ERROR_TYPES = {
+    "ValueError", "TypeError", "KeyError", "JSONDecodeError", "UnicodeDecodeError",
+    "AuthenticationError", "PermissionDeniedError", "BadRequestError", "NotFoundError"
+}
+
+
+def run_worker(pipeline_name: str, handler: RequestHandler) -> None:
+    """
+    stdin에서 요청을 한 줄씩 읽어 처리하고 stdout으로 응답을 쓴다.
+    인터프리터, 모듈 임포트, 마스터 태그 시스템은 워커 수명 동안 재사용된다.
+    """
+    protocol_out = sys.stdout
+    # 파이프라인 로그(StructuredLogger는 stdout에 출력)가 프로토콜 채널을 오염시키지 않도록 stderr로 돌린다
+    sys.stdout = sys.stderr
+
+    _emit(protocol_out, {"type": "ready", "pipeline": pipeline_name})
+
+    for line in sys.stdin:
+        line = line.strip()
+        if not line:
+            continue
+
+        correlation_id = None
+        try:
+            request = json.loads(line)
+            correlation_id = request.get("correlation_id")
+            request_type = request.get("type", "request")
+
+            if request_type == "shutdown":
+                break
+
+            if request_type == "ping":
+                _emit(protocol_out, {"type": "pong", "correlation_id": correlation_id})
+                continue
+
+            result = handler(request)
+
+        except Exception as e:
+            result = {
+                "success": False,
+                "error": f"Worker request failed: {str(e)}",
+                "error_type": type(e).__name__,
+                "processing_info": {"method": "error", "traceback": traceback.format_exc()}
+            }
+
+        _emit(protocol_out, {
+            "type": "response",
+            "correlation_id": correlation_id,
+            "exit_code": exit_code_for(result),
+            "response": result
+        })
+
+
+def exit_code_for(result: Dict[str, Any]) -> int:
+    """파이프라인 결과 -> 종료 코드 (Java에서 재시도 여부 판단에 사용)"""
+    if result.get("success"):
+        return 0
+    error_type = result.get("error_type") or result.get("processing_info", {}).get("error_type")
+    return 2 if error_type in PERMANENT_ERROR_TYPES else 1
+
+
+def is_worker_mode(argv) -> bool:
+    """--worker 플래그로 실행되었는지 확인"""
+    return len(argv) > 1 and argv[1] == "--worker"
+
+
+def _emit(out, message: Dict[str, Any]) -> None:
+    out.write(json.dumps(message, ensure_ascii=False))
+    out.write("\n")
+    out.flush()
@@ -0,0 +1,142 @@
+package com.hrm.hrm.ai;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hrm.hrm.ai.classifier.ClassificationSummaries;
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.dto.CachedAiResponse;
+import com.hrm.hrm.ai.dto.ClassificationResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 응답 캐시 항목 직렬화 비교: 기존 GenericJackson2JsonRedisSerializer vs CachedAiResponseSerializer
+ * 항목당 바이트 수는 Setup에서 출력 ([bytes] ...), 인코드/디코드 지연은 벤치마크 결과로 비교
+ * 기존 형식은 기본 생성자와 같은 타입 정보(@class) 설정에 LocalDateTime 처리용 JavaTimeModule만 추가
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CachedAiResponseSerializerBenchmark {
+
+    @Param({"3", "20"})
+    private int resultCount;
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CachedAiResponseSerializer compactSerializer;
+    private CachedAiResponse entry;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+            ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(mapper);
+        compactSerializer = new CachedAiResponseSerializer(512);
+
+        entry = sampleEntry(resultCount);
+        jsonBytes = jsonSerializer.serialize(entry);
+        compactBytes = compactSerializer.serialize(entry);
+
+        System.out.printf("%n[bytes] results=%d json=%d compact=%d (%.1f%%)%n",
+            resultCount, jsonBytes.length, compactBytes.length, 100.0 * compactBytes.length / jsonBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonSerializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] compactEncode() {
+        return compactSerializer.serialize(entry);
+    }
+
+    @Benchmark
+    public Object compactDecode() {
+        return compactSerializer.deserialize(compactBytes);
+    }
+
+    /**
+     * 파이프라인 1 단건 응답 형태 (rawOutput은 LLM 원본 JSON 응답)
+     */
+    private static CachedAiResponse sampleEntry(int resultCount) {
+        String[] keywords = {"#꼼꼼함", "#책임감", "#소통능력", "#리더십", "#적극성", "#협업"};
+        String[] sentiments = {"Positive", "Negative", "Mixed"};
+
+        List<ClassificationResult> results = new ArrayList<>();
+        for (int i = 0; i < resultCount; i++) {
+            results.add(ClassificationResult.builder()
+                .keyword(keywords[i % keywords.length])
+                .sentiment(sentiments[i % sentiments.length])
+                .evidence("프로젝트 마감 전에 문서를 세 번씩 검토하고 팀원들의 질문에 빠르게 답해 주었습니다. " + i)
+                .confidence(0.5 + (i % 50) / 100.0)
+                .category("업무수행")
+                .mixedDetails(i % 3 == 2 ? Map.of("positive", "검토가 꼼꼼함", "negative", "일정이 다소 늦어짐") : null)
+                .build());
+        }
+
+        Map<String, Object> processingInfo = new LinkedHashMap<>();
+        processingInfo.put("method", "classification_v2");
+        processingInfo.put("master_tags_version", "v1");
+        processingInfo.put("total_master_tags", 17);
+        processingInfo.put("processing_model", "gpt-3.5-turbo");
+
+        Map<String, Object> dataQuality = new LinkedHashMap<>();
+        dataQuality.put("validation_passed", true);
+        dataQuality.put("issues", List.of());
+        dataQuality.put("quality_score", 1.0);
+
+        Map<String, Object> statistics = ClassificationSummaries.statistics(results);
+        AiResponse response = AiResponse.builder()
+            .success(true)
+            .classificationResults(results)
+            .structuredTags(results.stream().map(ClassificationResult::toStructuredTag).toList())
+            .summary(ClassificationSummaries.summary(results, statistics))
+            .statistics(statistics)
+            .dataQuality(dataQuality)
+            .processingInfo(processingInfo)
+            .cacheKey("0984c24d6f1f0c3c0d0c4b3a8b2e5d7f9a1b2c3d4e5f60718293a4b5c6d7e8f9")
+            .rawOutput(rawOutput(results))
+            .processingTimeMs(1840L)
+            .correlationId("feedback_1a2b3c4d")
+            .build();
+
+        return CachedAiResponse.builder()
+            .response(response)
+            .storedAtMs(System.currentTimeMillis())
+            .build();
+    }
+
+    private static String rawOutput(List<ClassificationResult> results) {
+        StringBuilder raw = new StringBuilder("[");
+        for (ClassificationResult result : results) {
+            if (raw.length() > 1) {
+                raw.append(',');
+            }
+            raw.append("{\"keyword\": \"").append(result.getKeyword())
+                .append("\", \"sentiment\": \"").append(result.getSentiment())
+                .append("\", \"evidence\": \"").append(result.getEvidence())
+                .append("\", \"confidence\": ").append(result.getConfidence()).append('}');
+        }
+        return raw.append(']').toString();
+    }
+}
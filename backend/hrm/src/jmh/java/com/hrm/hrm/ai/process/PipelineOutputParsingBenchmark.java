@@ -0,0 +1,109 @@
+package com.hrm.hrm.ai.process;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.dto.ClassificationResult;
+import com.hrm.hrm.ai.dto.PipelineOutput;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파이프라인 출력 파싱 비교: 기존 Map 경유 방식 vs PipelineOutputReader 직접 바인딩
+ * 출력 크기는 실제 파이프라인 1 결과 형태로 50KB / 500KB 생성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PipelineOutputParsingBenchmark {
+
+    @Param({"50", "500"})
+    private int outputKb;
+
+    private ObjectMapper objectMapper;
+    private PipelineOutputReader reader;
+    private byte[] output;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        reader = new PipelineOutputReader(objectMapper);
+        output = objectMapper.writeValueAsBytes(samplePipelineOutput(outputKb * 1024));
+    }
+
+    /**
+     * 기존 경로: 바이트 -> String -> Map -> 필드별 캐스팅
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void mapBased(Blackhole blackhole) throws Exception {
+        String text = new String(output, StandardCharsets.UTF_8);
+        Map<String, Object> raw = objectMapper.readValue(text, Map.class);
+
+        List<ClassificationResult> results = new ArrayList<>();
+        for (Object resultObj : (List<?>) raw.get("classification_results")) {
+            Map<?, ?> resultMap = (Map<?, ?>) resultObj;
+            results.add(ClassificationResult.builder()
+                .keyword((String) resultMap.get("keyword"))
+                .sentiment((String) resultMap.get("sentiment"))
+                .evidence((String) resultMap.get("evidence"))
+                .confidence(((Number) resultMap.getOrDefault("confidence", 0.0)).doubleValue())
+                .category((String) resultMap.get("category"))
+                .mixedDetails((Map<String, String>) resultMap.get("mixed_details"))
+                .definition((String) resultMap.get("definition"))
+                .metadata((Map<String, Object>) resultMap.get("metadata"))
+                .build());
+        }
+        blackhole.consume(results);
+        blackhole.consume(raw.get("statistics"));
+        blackhole.consume(text);
+    }
+
+    /**
+     * 새 경로: 바이트 -> PipelineOutput 직접 바인딩
+     */
+    @Benchmark
+    public void typedBinding(Blackhole blackhole) {
+        PipelineOutput result = reader.read(output, "benchmark");
+        blackhole.consume(result.getClassificationResults());
+        blackhole.consume(result.getStatistics());
+    }
+
+    private static Map<String, Object> samplePipelineOutput(int targetBytes) {
+        String[] keywords = {"#꼼꼼함", "#책임감", "#소통능력", "#리더십", "#적극성", "#협업"};
+        String[] sentiments = {"Positive", "Negative", "Mixed"};
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        int approximateBytes = 0;
+        for (int i = 0; approximateBytes < targetBytes; i++) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("keyword", keywords[i % keywords.length]);
+            result.put("sentiment", sentiments[i % sentiments.length]);
+            result.put("evidence", "프로젝트 마감 전에 문서를 세 번씩 검토하고 팀원들의 질문에 빠르게 답해 주었습니다. " + i);
+            result.put("confidence", 0.5 + (i % 50) / 100.0);
+            result.put("category", "업무수행");
+            if (i % 3 == 2) {
+                result.put("mixed_details", Map.of("positive", "검토가 꼼꼼함", "negative", "일정이 다소 늦어짐"));
+            }
+            result.put("definition", "맡은 일을 세심하게 확인하고 실수를 줄이려는 태도");
+            result.put("metadata", Map.of("source", "peer_feedback", "index", i));
+            results.add(result);
+            approximateBytes += 420;
+        }
+
+        Map<String, Object> output = new LinkedHashMap<>();
+        output.put("success", true);
+        output.put("classification_results", results);
+        output.put("summary", "업무수행 영역에서 " + results.size() + "개 태그 분류됨");
+        output.put("statistics", Map.of("total", results.size(), "avg_confidence", 0.74));
+        output.put("processing_info", Map.of("method", "ai_classification", "model", "gpt-4o-mini"));
+        output.put("cache_key", "feedback_benchmark");
+        output.put("data_quality", Map.of("validation_passed", true, "issues", List.of()));
+        return output;
+    }
+}
@@ -0,0 +1,218 @@
+package com.hrm.hrm.ai;
+
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.dto.CachedAiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * AI 응답 캐시 - stale-while-revalidate + 부정 캐시
+ * - fresh (저장 후 freshTtl 이내): 바로 반환
+ * - stale (freshTtl ~ staleTtl): 바로 반환하고 aiTaskExecutor에서 키당 한 번만 백그라운드 갱신
+ *   갱신이 실패하면 기존 값을 유지하고 negativeTtl 동안 재갱신하지 않음
+ * - negative (실패 응답, negativeTtl 이내): 같은 입력의 반복 실패 호출을 막기 위해 실패 응답을 그대로 반환
+ * - 대체(fallback_keyword) 결과는 저장하지 않음
+ * 반환 응답의 processingInfo에 cache_status(fresh|stale|negative|miss)와 cache_age_ms를 기록
+ * 지표: ai.cache.lookups{cache, status}, ai.cache.refresh{cache, result}, ai.cache.served.age{cache, status}
+ */
+@Slf4j
+@Component
+public class AiResponseCache {
+
+    public static final String STATUS_FRESH = "fresh";
+    public static final String STATUS_STALE = "stale";
+    public static final String STATUS_NEGATIVE = "negative";
+    public static final String STATUS_MISS = "miss";
+
+    @Value("${app.ai.cache.fresh-ttl.ms:600000}")
+    private long freshTtlMs;
+
+    // Redis 항목 TTL(1시간)보다 길면 의미 없음
+    @Value("${app.ai.cache.stale-ttl.ms:3600000}")
+    private long staleTtlMs;
+
+    @Value("${app.ai.cache.negative-ttl.ms:30000}")
+    private long negativeTtlMs;
+
+    private final CacheManager cacheManager;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public AiResponseCache(CacheManager cacheManager, @Qualifier("aiTaskExecutor") Executor refreshExecutor,
+                           MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("ai.cache.refresh.inflight", refreshing, Set::size)
+            .description("Background AI cache refreshes currently running")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 후 필요하면 loader로 계산 (loader는 요청 병합 등 호출자 쪽 보호를 포함해야 함)
+     */
+    public AiResponse get(String cacheName, String key, Supplier<AiResponse> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        CachedAiResponse entry = read(cache, key);
+        long now = System.currentTimeMillis();
+
+        if (entry != null && entry.getResponse() != null) {
+            long age = Math.max(0, now - entry.getStoredAtMs());
+            if (entry.isNegative()) {
+                if (age < negativeTtlMs) {
+                    return served(cacheName, entry.getResponse(), STATUS_NEGATIVE, age);
+                }
+            } else if (age < freshTtlMs) {
+                return served(cacheName, entry.getResponse(), STATUS_FRESH, age);
+            } else if (age < staleTtlMs) {
+                if (entry.getRefreshFailedAtMs() == null || now - entry.getRefreshFailedAtMs() >= negativeTtlMs) {
+                    scheduleRefresh(cache, cacheName, key, entry, loader);
+                }
+                return served(cacheName, entry.getResponse(), STATUS_STALE, age);
+            }
+        }
+
+        AiResponse response = loader.get();
+        // 대체 결과는 캐시하지 않음 - 파이프라인이 회복되면 바로 정상 결과로 교체
+        if (!isFallback(response)) {
+            write(cache, key, CachedAiResponse.builder()
+                .response(response)
+                .storedAtMs(now)
+                .negative(!response.isSuccess())
+                .build());
+        }
+        return served(cacheName, response, STATUS_MISS, 0);
+    }
+
+    public static boolean isFallback(AiResponse response) {
+        return response.getProcessingInfo() != null
+            && "fallback_keyword".equals(response.getProcessingInfo().get("method"));
+    }
+
+    private void scheduleRefresh(Cache cache, String cacheName, String key, CachedAiResponse stale,
+                                 Supplier<AiResponse> loader) {
+        String refreshId = cacheName + ":" + key;
+        if (!refreshing.add(refreshId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(cache, cacheName, key, stale, loader);
+                } finally {
+                    refreshing.remove(refreshId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(refreshId);
+            refreshCounter(cacheName, "rejected").increment();
+            log.debug("캐시 백그라운드 갱신 거부 (실행기 포화): {}", refreshId);
+        }
+    }
+
+    private void refresh(Cache cache, String cacheName, String key, CachedAiResponse stale,
+                         Supplier<AiResponse> loader) {
+        try {
+            AiResponse response = loader.get();
+            if (response.isSuccess() && !isFallback(response)) {
+                write(cache, key, CachedAiResponse.builder()
+                    .response(response).storedAtMs(System.currentTimeMillis()).build());
+                refreshCounter(cacheName, "success").increment();
+                return;
+            }
+            log.debug("캐시 백그라운드 갱신 실패, 기존 값 유지: {}:{} - {}",
+                cacheName, key, response.getErrorMessage());
+        } catch (RuntimeException e) {
+            log.warn("캐시 백그라운드 갱신 예외, 기존 값 유지: {}:{} - {}", cacheName, key, e.getMessage());
+        }
+
+        refreshCounter(cacheName, "failure").increment();
+        write(cache, key, CachedAiResponse.builder()
+            .response(stale.getResponse())
+            .storedAtMs(stale.getStoredAtMs())
+            .refreshFailedAtMs(System.currentTimeMillis())
+            .build());
+    }
+
+    /**
+     * 캐시 조회 - 캐시 장애나 이전 형식 항목은 미스로 처리
+     */
+    private CachedAiResponse read(Cache cache, String key) {
+        if (cache == null) {
+            return null;
+        }
+        try {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            return wrapper != null && wrapper.get() instanceof CachedAiResponse entry ? entry : null;
+        } catch (RuntimeException e) {
+            log.warn("AI 응답 캐시 조회 실패, 미스로 처리: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(Cache cache, String key, CachedAiResponse entry) {
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.put(key, entry);
+        } catch (RuntimeException e) {
+            log.warn("AI 응답 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 상태를 processingInfo에 기록한 복사본 반환 (L1 캐시 인스턴스는 수정하지 않음)
+     */
+    private AiResponse served(String cacheName, AiResponse response, String status, long ageMs) {
+        Counter.builder("ai.cache.lookups")
+            .tag("cache", cacheName)
+            .tag("status", status)
+            .description("AI response cache lookups by freshness")
+            .register(meterRegistry)
+            .increment();
+        if (!STATUS_MISS.equals(status)) {
+            DistributionSummary.builder("ai.cache.served.age")
+                .tag("cache", cacheName)
+                .tag("status", status)
+                .baseUnit("milliseconds")
+                .description("Age of AI responses served from cache")
+                .register(meterRegistry)
+                .record(ageMs);
+        }
+
+        Map<String, Object> processingInfo = new LinkedHashMap<>();
+        if (response.getProcessingInfo() != null) {
+            processingInfo.putAll(response.getProcessingInfo());
+        }
+        processingInfo.put("cache_status", status);
+        processingInfo.put("cache_age_ms", ageMs);
+        return response.toBuilder().processingInfo(processingInfo).build();
+    }
+
+    private Counter refreshCounter(String cacheName, String result) {
+        return Counter.builder("ai.cache.refresh")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .description("Background AI cache refresh outcomes")
+            .register(meterRegistry);
+    }
+}
@@ -1,20 +1,34 @@
 package com.hrm.hrm.ai;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hrm.hrm.ai.classifier.ClassificationMerger;
+import com.hrm.hrm.ai.classifier.ClassificationSummaries;
+import com.hrm.hrm.ai.classifier.FeedbackCacheDigest;
+import com.hrm.hrm.ai.classifier.FeedbackClassifier;
+import com.hrm.hrm.ai.classifier.FeedbackTextSplitter;
 import com.hrm.hrm.ai.dto.*;
+import com.hrm.hrm.ai.exception.AiCircuitOpenException;
 import com.hrm.hrm.ai.exception.AiProcessingException;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.MeterRegistry;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * AI 서비스 - Python 파이프라인과의 고수준 인터페이스
@@ -23,21 +37,65 @@ import java.util.concurrent.CompletableFuture;
 @Service
 public class AiService {
     
+    public static final String FEEDBACK_CACHE = "feedback_processing";
+    
+    // 파이프라인 1회 실행 제한 시간 - 병합된 요청의 대기 상한으로도 사용
+    private static final int FEEDBACK_TIMEOUT_SECONDS = 30;
+    private static final int COACHING_TIMEOUT_SECONDS = 60;
+    
     private final PythonBridge pythonBridge;
     private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final InFlightRequestCoalescer requestCoalescer;
+    private final FeedbackCacheDigest feedbackCacheDigest;
+    private final List<FeedbackClassifier> feedbackClassifiers;
+    private final AiResponseCache responseCache;
+    private final Executor aiChunkExecutor;
+    private FeedbackClassifier feedbackClassifier;
+    
+    // 단건 피드백 분류 엔진 (python | java)
+    @Value("${app.ai.classifier.engine:python}")
+    private String classifierEngine;
+    
+    // 이 길이를 넘는 피드백은 문장 단위 청크로 나눠 병렬 분류 (청크마다 캐시)
+    @Value("${app.ai.long-text.threshold:500}")
+    private int longTextThreshold;
+    
+    @Value("${app.ai.long-text.chunk-size:400}")
+    private int longTextChunkSize;
+    
+    @Value("${app.ai.long-text.max-results:5}")
+    private int longTextMaxResults;
+    
+    @Value("${app.ai.batch.max-items:100}")
+    private int batchMaxItems;
+    
+    @Value("${app.ai.batch.seconds-per-item:0.5}")
+    private double batchSecondsPerItem;
     
     // 메트릭 카운터들
     private final Counter feedbackProcessingSuccessCounter;
     private final Counter feedbackProcessingFailureCounter;
+    private final Counter feedbackFallbackCounter;
     private final Counter coachingGenerationSuccessCounter;
     private final Counter coachingGenerationFailureCounter;
     private final Timer feedbackProcessingTimer;
     private final Timer coachingGenerationTimer;
+    private final Timer feedbackBatchTimer;
     
     @Autowired
-    public AiService(PythonBridge pythonBridge, MeterRegistry meterRegistry) {
+    public AiService(PythonBridge pythonBridge, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                     InFlightRequestCoalescer requestCoalescer, FeedbackCacheDigest feedbackCacheDigest,
+                     List<FeedbackClassifier> feedbackClassifiers, AiResponseCache responseCache,
+                     @Qualifier("aiChunkExecutor") Executor aiChunkExecutor) {
         this.pythonBridge = pythonBridge;
         this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.requestCoalescer = requestCoalescer;
+        this.feedbackCacheDigest = feedbackCacheDigest;
+        this.feedbackClassifiers = feedbackClassifiers;
+        this.responseCache = responseCache;
+        this.aiChunkExecutor = aiChunkExecutor;
         
         // 메트릭 초기화
         this.feedbackProcessingSuccessCounter = Counter.builder("ai.feedback.processing.success")
@@ -49,6 +107,10 @@ public class AiService {
             .tag("error_type", "")
             .register(meterRegistry);
             
+        this.feedbackFallbackCounter = Counter.builder("ai.feedback.processing.fallback")
+            .description("Feedback requests answered by keyword fallback while the pipeline was shed")
+            .register(meterRegistry);
+            
         this.coachingGenerationSuccessCounter = Counter.builder("ai.coaching.generation.success")
             .description("Successful coaching generation operations")
             .register(meterRegistry);
@@ -65,6 +127,19 @@ public class AiService {
         this.coachingGenerationTimer = Timer.builder("ai.coaching.generation.duration")
             .description("Time spent generating coaching responses")
             .register(meterRegistry);
+            
+        this.feedbackBatchTimer = Timer.builder("ai.feedback.batch.duration")
+            .description("Time spent classifying one feedback batch")
+            .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void selectFeedbackClassifier() {
+        this.feedbackClassifier = feedbackClassifiers.stream()
+            .filter(classifier -> classifier.engine().equalsIgnoreCase(classifierEngine))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("알 수 없는 분류 엔진: " + classifierEngine));
+        log.info("피드백 분류 엔진: {}", feedbackClassifier.engine());
     }
     
     /**
@@ -77,96 +152,351 @@ public class AiService {
     
     /**
      * 피드백 텍스트를 구조화된 태그로 변환 (동기)
+     * 동시에 들어온 동일 요청은 한 번만 실행하고 결과를 공유
+     * longTextThreshold를 넘는 텍스트는 청크 단위로 분류 후 병합 (processLongFeedback)
+     * 캐시는 stale-while-revalidate + 부정 캐시 (AiResponseCache), 상태는 processingInfo.cache_status
      */
-    @Cacheable(value = "feedback_processing", 
-               key = "T(java.util.Objects).hash(#feedbackText, #context)",
-               condition = "#feedbackText.length() < 500") // 짧은 텍스트만 캐싱
     public AiResponse processFeedback(String feedbackText, String context) {
+        if (feedbackText.length() > longTextThreshold) {
+            return processLongFeedback(feedbackText, context);
+        }
+        return classifyCached(feedbackText, context);
+    }
+    
+    /**
+     * 긴 피드백 처리 - 문장 경계 청크로 나눠 전용 aiChunkExecutor에서 병렬 분류 후 결과 병합
+     * 청크마다 feedback_processing 캐시와 요청 병합을 따로 적용하므로,
+     * 일부 문장만 고쳐 다시 제출한 피드백은 바뀐 청크만 새로 분류됨
+     */
+    private AiResponse processLongFeedback(String feedbackText, String context) {
+        String correlationId = generateCorrelationId("feedback_long");
+        long startedAt = System.nanoTime();
+        
+        List<String> chunks = FeedbackTextSplitter.split(feedbackText, longTextChunkSize);
+        log.info("긴 피드백 청크 분할 - {}자, {}개 청크 (correlationId: {})", 
+            feedbackText.length(), chunks.size(), correlationId);
+        
+        List<CompletableFuture<AiResponse>> futures = chunks.stream()
+            .map(chunk -> classifyChunkAsync(chunk, context)
+                .exceptionally(e -> AiResponse.error("청크 분류 중 오류 발생: " + e.getMessage(), correlationId)))
+            .toList();
+        List<AiResponse> responses = futures.stream().map(CompletableFuture::join).toList();
+        
+        return mergeChunkResponses(feedbackText, context, chunks, responses, correlationId,
+            (System.nanoTime() - startedAt) / 1_000_000);
+    }
+    
+    private CompletableFuture<AiResponse> classifyChunkAsync(String chunk, String context) {
+        try {
+            return CompletableFuture.supplyAsync(() -> classifyCached(chunk, context), aiChunkExecutor);
+        } catch (RejectedExecutionException e) {
+            // 실행기 포화 - 호출 스레드에서 처리
+            return CompletableFuture.completedFuture(classifyCached(chunk, context));
+        }
+    }
+    
+    /**
+     * 단건(또는 청크 하나) 분류 - Python cache_key와 같은 SHA-256 키로 캐시 조회 후 요청 병합을 거쳐 실행
+     */
+    private AiResponse classifyCached(String feedbackText, String context) {
+        String digest = feedbackCacheDigest.of(feedbackText, context);
+        return responseCache.get(FEEDBACK_CACHE, digest,
+            () -> requestCoalescer.execute("feedback", digest, FEEDBACK_TIMEOUT_SECONDS,
+                () -> executeFeedbackProcessing(feedbackText, context)));
+    }
+    
+    /**
+     * 청크 응답 병합 - 한 청크라도 성공하면 성공, 모두 실패하면 첫 오류를 그대로 반환
+     */
+    private AiResponse mergeChunkResponses(String feedbackText, String context, List<String> chunks,
+                                           List<AiResponse> responses, String correlationId, long processingTimeMs) {
+        List<List<ClassificationResult>> chunkResults = new ArrayList<>(responses.size());
+        int succeeded = 0;
+        int fallback = 0;
+        Map<String, Integer> cacheStatuses = new LinkedHashMap<>();
+        for (int i = 0; i < responses.size(); i++) {
+            AiResponse response = responses.get(i);
+            if (response.isSuccess()) {
+                succeeded++;
+                if (AiResponseCache.isFallback(response)) {
+                    fallback++;
+                }
+            }
+            if (response.getProcessingInfo() != null && response.getProcessingInfo().get("cache_status") != null) {
+                cacheStatuses.merge(String.valueOf(response.getProcessingInfo().get("cache_status")), 1, Integer::sum);
+            }
+            chunkResults.add(response.isSuccess() ? classificationResultsOf(response, chunks.get(i)) : List.of());
+        }
+        
+        if (succeeded == 0) {
+            AiResponse first = responses.get(0);
+            log.warn("긴 피드백 청크 전체 실패 - {}개 청크 (correlationId: {})", responses.size(), correlationId);
+            return AiResponse.builder()
+                .success(false)
+                .errorMessage(first.getErrorMessage())
+                .errorType(first.getErrorType())
+                .correlationId(correlationId)
+                .processingTimeMs(processingTimeMs)
+                .build();
+        }
+        
+        List<ClassificationResult> merged = ClassificationMerger.merge(chunkResults, longTextMaxResults);
+        Map<String, Object> statistics = ClassificationSummaries.statistics(merged);
+        
+        Map<String, Object> processingInfo = new LinkedHashMap<>();
+        // 모든 성공 청크가 대체 결과면 전체도 대체 결과로 표시 (캐시/후속 처리에서 같은 의미 유지)
+        processingInfo.put("method", fallback == succeeded ? "fallback_keyword" : "chunked");
+        processingInfo.put("chunk_count", responses.size());
+        processingInfo.put("failed_chunks", responses.size() - succeeded);
+        processingInfo.put("fallback_chunks", fallback);
+        processingInfo.put("chunk_cache_status", cacheStatuses);
+        processingInfo.put("engine", feedbackClassifier.engine());
+        
+        log.info("긴 피드백 병합 완료 - 청크 성공 {}/{}, 태그 {}개 (correlationId: {})", 
+            succeeded, responses.size(), merged.size(), correlationId);
+        
+        return AiResponse.builder()
+            .success(true)
+            .classificationResults(merged)
+            .structuredTags(merged.stream().map(ClassificationResult::toStructuredTag).toList())
+            .summary(ClassificationSummaries.summary(merged, statistics))
+            .statistics(statistics)
+            .dataQuality(ClassificationSummaries.dataQuality(merged, feedbackText, longTextMaxResults))
+            .processingInfo(processingInfo)
+            .cacheKey(feedbackCacheDigest.of(feedbackText, context))
+            .processingTimeMs(processingTimeMs)
+            .correlationId(correlationId)
+            .build();
+    }
+    
+    /**
+     * 응답의 분류 결과 - classificationResults가 없는 응답(대체 결과 등)은 structuredTags에서 변환
+     * 근거가 없는 태그는 청크 원문을 근거로 사용
+     */
+    private List<ClassificationResult> classificationResultsOf(AiResponse response, String chunk) {
+        if (response.getClassificationResults() != null) {
+            return response.getClassificationResults();
+        }
+        if (response.getStructuredTags() == null) {
+            return List.of();
+        }
+        return response.getStructuredTags().stream()
+            .map(tag -> ClassificationResult.builder()
+                .keyword(tag.getTag())
+                .sentiment(tag.getSentiment())
+                .evidence(tag.getMetadata() != null ? tag.getMetadata() : chunk)
+                .confidence(tag.getConfidence())
+                .category(tag.getCategory())
+                .build())
+            .toList();
+    }
+    
+    private AiResponse executeFeedbackProcessing(String feedbackText, String context) {
         String correlationId = generateCorrelationId("feedback");
         
-        return Timer.Sample.start(meterRegistry)
-            .stop(feedbackProcessingTimer.wrap(() -> {
-                try {
-                    log.info("피드백 처리 시작 (correlationId: {})", correlationId);
-                    
-                    AiRequest request = AiRequest.builder()
-                        .script("pipeline1_living_manual.py")
-                        .inputText(feedbackText)
-                        .context(context)
-                        .correlationId(correlationId)
-                        .retryEnabled(true)
-                        .maxRetries(3)
-                        .timeoutSeconds(30)
-                        .build();
-                    
-                    AiResponse response = pythonBridge.executeScript(request);
+        return feedbackProcessingTimer.record(() -> {
+            try {
+                log.info("피드백 처리 시작 (correlationId: {})", correlationId);
+                
+                AiRequest request = AiRequest.builder()
+                    .script("pipeline1_personal_manual.py")
+                    .inputText(feedbackText)
+                    .context(context)
+                    .correlationId(correlationId)
+                    .retryEnabled(true)
+                    .maxRetries(3)
+                    .timeoutSeconds(FEEDBACK_TIMEOUT_SECONDS)
+                    .build();
+                
+                AiResponse response = feedbackClassifier.classify(request);
+                
+                if (response.isSuccess()) {
+                    feedbackProcessingSuccessCounter.increment();
+                    log.info("피드백 처리 완료 - 태그 {}개 생성 (correlationId: {})", 
+                        response.getStructuredTags() != null ? response.getStructuredTags().size() : 0,
+                        correlationId);
+                } else {
+                    feedbackProcessingFailureCounter.increment();
+                    log.warn("피드백 처리 실패: {} (correlationId: {})", 
+                        response.getErrorMessage(), correlationId);
+                }
+                
+                return response;
+                
+            } catch (AiCircuitOpenException e) {
+                // 파이프라인 과부하 - 대기/재시도 없이 키워드 추출로 대체
+                feedbackFallbackCounter.increment();
+                log.warn("피드백 파이프라인 보호 계층 거부, 대체 처리 (correlationId: {}): {}", 
+                    correlationId, e.getMessage());
+                return fallbackKeywordExtraction(feedbackText, context, correlationId);
+                
+            } catch (AiProcessingException e) {
+                feedbackProcessingFailureCounter.increment();
+                log.error("피드백 처리 예외 (correlationId: {}): {}", correlationId, e.getMessage());
+                return AiResponse.error("피드백 처리 중 오류 발생: " + e.getMessage(), e, correlationId);
+            }
+        });
+    }
+    
+    /**
+     * 여러 피드백을 일괄 분류 (대량 가져오기용)
+     * 워커 호출 한 번에 최대 batchMaxItems건을 보내며, 결과는 itemId별 AiResponse로 반환
+     * 각 항목은 단건 processFeedback과 같은 성공/실패 의미를 가짐
+     */
+    public Map<String, AiResponse> processFeedbackBatch(List<FeedbackItem> items) {
+        Map<String, AiResponse> results = new LinkedHashMap<>();
+        if (items == null || items.isEmpty()) {
+            return results;
+        }
+        
+        for (FeedbackItem item : items) {
+            if (item.getItemId() == null || item.getFeedbackText() == null) {
+                throw new IllegalArgumentException("배치 항목에는 itemId와 feedbackText가 필요합니다.");
+            }
+        }
+        
+        for (int start = 0; start < items.size(); start += batchMaxItems) {
+            List<FeedbackItem> chunk = items.subList(start, Math.min(start + batchMaxItems, items.size()));
+            results.putAll(processFeedbackChunk(chunk));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * 배치 한 묶음 처리 - 배치 전체가 실패하면 모든 항목을 실패 응답으로 채움
+     */
+    private Map<String, AiResponse> processFeedbackChunk(List<FeedbackItem> chunk) {
+        String correlationId = generateCorrelationId("feedback_batch");
+        
+        return feedbackBatchTimer.record(() -> {
+            Map<String, AiResponse> results = new LinkedHashMap<>();
+            
+            try {
+                log.info("피드백 배치 처리 시작 - {}건 (correlationId: {})", chunk.size(), correlationId);
+                
+                AiRequest request = AiRequest.builder()
+                    .script("pipeline1_personal_manual.py")
+                    .mode(AiRequest.MODE_BATCH)
+                    .priority(5) // 백그라운드 재분류 - 대화형 요청에 양보
+                    .inputText(toBatchPayload(chunk))
+                    .correlationId(correlationId)
+                    .retryEnabled(true)
+                    .maxRetries(2)
+                    .timeoutSeconds(FEEDBACK_TIMEOUT_SECONDS + (int) Math.ceil(chunk.size() * batchSecondsPerItem))
+                    .build();
+                
+                Map<String, AiResponse> responses = pythonBridge.executeBatch(request);
+                
+                for (FeedbackItem item : chunk) {
+                    AiResponse response = responses.get(item.getItemId());
+                    if (response == null) {
+                        response = AiResponse.error("배치 응답에 항목 결과가 없습니다", 
+                            correlationId + ":" + item.getItemId());
+                    }
                     
                     if (response.isSuccess()) {
                         feedbackProcessingSuccessCounter.increment();
-                        log.info("피드백 처리 완료 - 태그 {}개 생성 (correlationId: {})", 
-                            response.getStructuredTags() != null ? response.getStructuredTags().size() : 0,
-                            correlationId);
                     } else {
                         feedbackProcessingFailureCounter.increment();
-                        log.warn("피드백 처리 실패: {} (correlationId: {})", 
-                            response.getErrorMessage(), correlationId);
                     }
-                    
-                    return response;
-                    
-                } catch (AiProcessingException e) {
+                    results.put(item.getItemId(), response);
+                }
+                
+                log.info("피드백 배치 처리 완료 - 성공 {}/{}건 (correlationId: {})", 
+                    results.values().stream().filter(AiResponse::isSuccess).count(), chunk.size(), correlationId);
+                
+            } catch (AiProcessingException e) {
+                log.error("피드백 배치 처리 예외 (correlationId: {}): {}", correlationId, e.getMessage());
+                for (FeedbackItem item : chunk) {
                     feedbackProcessingFailureCounter.increment();
-                    log.error("피드백 처리 예외 (correlationId: {}): {}", correlationId, e.getMessage());
-                    return AiResponse.error("피드백 처리 중 오류 발생: " + e.getMessage(), e, correlationId);
+                    results.put(item.getItemId(), AiResponse.error(
+                        "피드백 배치 처리 중 오류 발생: " + e.getMessage(), e, correlationId + ":" + item.getItemId()));
                 }
-            }));
+            }
+            
+            return results;
+        });
+    }
+    
+    /**
+     * 배치 요청 페이로드 구성 - context는 단건 처리와 같이 JSON 객체로 전달
+     */
+    private String toBatchPayload(List<FeedbackItem> chunk) {
+        List<Map<String, Object>> payload = new ArrayList<>(chunk.size());
+        for (FeedbackItem item : chunk) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("item_id", item.getItemId());
+            entry.put("feedback_text", item.getFeedbackText());
+            entry.put("context", parseContext(item.getContext()));
+            payload.add(entry);
+        }
+        return objectMapperToJson(payload);
+    }
+    
+    private Object parseContext(String context) {
+        if (context == null || "null".equals(context)) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(context);
+        } catch (Exception e) {
+            log.warn("배치 항목 컨텍스트 JSON 파싱 실패, 무시: {}", e.getMessage());
+            return null;
+        }
     }
     
     /**
      * MCP 기반 코칭 가설 및 카드 생성
      */
     public AiResponse generateCoachingResponse(Map<String, Object> mcpPacket) {
+        // MCP 패킷을 JSON 문자열로 변환 (키 정렬 - 같은 내용이면 같은 digest)
+        String mcpPacketJson = objectMapperToJson(mcpPacket);
+        
+        return requestCoalescer.execute("coaching",
+            InFlightRequestCoalescer.digest(mcpPacketJson), COACHING_TIMEOUT_SECONDS,
+            () -> executeCoachingGeneration(mcpPacketJson));
+    }
+    
+    private AiResponse executeCoachingGeneration(String mcpPacketJson) {
         String correlationId = generateCorrelationId("coaching");
         
-        return Timer.Sample.start(meterRegistry)
-            .stop(coachingGenerationTimer.wrap(() -> {
-                try {
-                    log.info("코칭 생성 시작 (correlationId: {})", correlationId);
+        return coachingGenerationTimer.record(() -> {
+            try {
+                log.info("코칭 생성 시작 (correlationId: {})", correlationId);
+                
+                AiRequest request = AiRequest.builder()
+                    .script("pipeline2_coaching_generation.py")
+                    .inputText(mcpPacketJson)
+                    .correlationId(correlationId)
+                    .retryEnabled(true)
+                    .maxRetries(2) // 코칭 생성은 재시도 횟수 줄임
+                    .timeoutSeconds(COACHING_TIMEOUT_SECONDS) // 더 긴 타임아웃
+                    .priority(1) // 매니저가 기다리는 대화형 요청
+                    .build();
+                
+                AiResponse response = pythonBridge.executeScript(request);
+                
+                if (response.isSuccess()) {
+                    coachingGenerationSuccessCounter.increment();
                     
-                    // MCP 패킷을 JSON 문자열로 변환
-                    String mcpPacketJson = objectMapperToJson(mcpPacket);
-                    
-                    AiRequest request = AiRequest.builder()
-                        .script("pipeline2_coaching_generation.py")
-                        .inputText(mcpPacketJson)
-                        .correlationId(correlationId)
-                        .retryEnabled(true)
-                        .maxRetries(2) // 코칭 생성은 재시도 횟수 줄임
-                        .timeoutSeconds(60) // 더 긴 타임아웃
-                        .build();
-                    
-                    AiResponse response = pythonBridge.executeScript(request);
-                    
-                    if (response.isSuccess()) {
-                        coachingGenerationSuccessCounter.increment();
-                        
-                        CoachingCard card = response.getCoachingCard();
-                        log.info("코칭 생성 완료 - 신뢰도: {} (correlationId: {})", 
-                            card != null ? card.getConfidenceScore() : "N/A", correlationId);
-                    } else {
-                        coachingGenerationFailureCounter.increment();
-                        log.warn("코칭 생성 실패: {} (correlationId: {})", 
-                            response.getErrorMessage(), correlationId);
-                    }
-                    
-                    return response;
-                    
-                } catch (AiProcessingException e) {
+                    CoachingCard card = response.getCoachingCard();
+                    log.info("코칭 생성 완료 - 신뢰도: {} (correlationId: {})", 
+                        card != null ? card.getConfidenceScore() : "N/A", correlationId);
+                } else {
                     coachingGenerationFailureCounter.increment();
-                    log.error("코칭 생성 예외 (correlationId: {}): {}", correlationId, e.getMessage());
-                    return AiResponse.error("코칭 생성 중 오류 발생: " + e.getMessage(), e, correlationId);
+                    log.warn("코칭 생성 실패: {} (correlationId: {})", 
+                        response.getErrorMessage(), correlationId);
                 }
-            }));
+                
+                return response;
+                
+            } catch (AiProcessingException e) {
+                coachingGenerationFailureCounter.increment();
+                log.error("코칭 생성 예외 (correlationId: {}): {}", correlationId, e.getMessage());
+                return AiResponse.error("코칭 생성 중 오류 발생: " + e.getMessage(), e, correlationId);
+            }
+        });
     }
     
     /**
@@ -247,18 +577,20 @@ public class AiService {
     /**
      * 우아한 성능 저하 - 기본 키워드 추출
      */
-    public AiResponse fallbackKeywordExtraction(String feedbackText, String correlationId) {
+    public AiResponse fallbackKeywordExtraction(String feedbackText, String context, String correlationId) {
         log.info("대체 키워드 추출 사용 (correlationId: {})", correlationId);
         
         // 간단한 한국어 키워드 매칭
         List<StructuredTag> fallbackTags = extractBasicKeywords(feedbackText);
         
-        return AiResponse.successForPipeline1(
+        AiResponse response = AiResponse.successForPipeline1(
             fallbackTags, 
             "기본 키워드 분석 결과", 
-            generateCacheKey(feedbackText),
+            feedbackCacheDigest.of(feedbackText, context),
             correlationId
         );
+        response.setProcessingInfo(Map.of("method", "fallback_keyword"));
+        return response;
     }
     
     /**
@@ -304,21 +636,14 @@ public class AiService {
         return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
     }
     
-    /**
-     * 캐시 키 생성
-     */
-    private String generateCacheKey(String text) {
-        return "cache_" + text.hashCode();
-    }
-    
     /**
      * 객체를 JSON 문자열로 변환
      */
     private String objectMapperToJson(Object obj) {
         try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = 
-                new com.fasterxml.jackson.databind.ObjectMapper();
-            return mapper.writeValueAsString(obj);
+            return objectMapper.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValueAsString(obj);
         } catch (Exception e) {
             log.error("JSON 변환 실패: {}", e.getMessage());
             return "{}";
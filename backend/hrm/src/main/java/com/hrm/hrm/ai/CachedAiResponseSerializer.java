@@ -0,0 +1,167 @@
+package com.hrm.hrm.ai;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.hrm.hrm.ai.classifier.ClassificationSummaries;
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.dto.CachedAiResponse;
+import com.hrm.hrm.ai.dto.ClassificationResult;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * AI 응답 캐시(CachedAiResponse) 전용 Redis 직렬화
+ * 형식: [header 1바이트][payload]
+ * - header 상위 4비트 = 형식 버전(1), bit0 = payload가 raw deflate 압축됨
+ * - payload = Smile(바이너리 JSON), 필드 기반, null 생략, 클래스 이름 없음
+ * 캐시 사본에서 빼는 필드 (조회 시 복원)
+ * - rawOutput: 디버깅용 원본 출력, 복원하지 않음
+ * - structuredTags, statistics: classificationResults에서 다시 계산
+ * - timestamp: 저장 시각(storedAtMs)으로 복원
+ * 버전이 다르거나 이전 JSON 형식 항목은 미스(null)로 처리해 새로 채우게 함
+ */
+public class CachedAiResponseSerializer implements RedisSerializer<Object> {
+
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_DEFLATE = 0x01;
+
+    private final ObjectMapper smileMapper;
+    private final int compressMinBytes;
+
+    /**
+     * @param compressMinBytes 이 크기 이상인 payload를 압축 (0 미만이면 압축하지 않음)
+     */
+    public CachedAiResponseSerializer(int compressMinBytes) {
+        this.compressMinBytes = compressMinBytes;
+        this.smileMapper = new ObjectMapper(new SmileFactory())
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+            .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .addMixIn(AiResponse.class, CompactAiResponse.class);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!(value instanceof CachedAiResponse entry)) {
+            throw new SerializationException("AI 응답 캐시에는 CachedAiResponse만 저장할 수 있습니다: "
+                + value.getClass().getName());
+        }
+
+        try {
+            byte[] payload = smileMapper.writeValueAsBytes(entry);
+            int flags = 0;
+            if (compressMinBytes >= 0 && payload.length >= compressMinBytes) {
+                byte[] compressed = deflate(payload);
+                if (compressed.length < payload.length) {
+                    flags |= FLAG_DEFLATE;
+                    payload = compressed;
+                }
+            }
+
+            byte[] frame = new byte[payload.length + 1];
+            frame[0] = (byte) (FORMAT_VERSION << 4 | flags);
+            System.arraycopy(payload, 0, frame, 1, payload.length);
+            return frame;
+        } catch (IOException e) {
+            throw new SerializationException("AI 응답 캐시 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int header = bytes[0] & 0xFF;
+        if (header >>> 4 != FORMAT_VERSION) {
+            return null; // 다른 버전 또는 이전 JSON 항목 ('{' = 0x7B)
+        }
+
+        try {
+            byte[] payload = (header & FLAG_DEFLATE) != 0
+                ? inflate(bytes, 1, bytes.length - 1)
+                : Arrays.copyOfRange(bytes, 1, bytes.length);
+            CachedAiResponse entry = smileMapper.readValue(payload, CachedAiResponse.class);
+            restoreDerivedFields(entry);
+            return entry;
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("AI 응답 캐시 역직렬화 실패", e);
+        }
+    }
+
+    private static void restoreDerivedFields(CachedAiResponse entry) {
+        AiResponse response = entry.getResponse();
+        if (response == null) {
+            return;
+        }
+        response.setTimestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.getStoredAtMs()),
+            ZoneId.systemDefault()));
+        if (response.getClassificationResults() != null) {
+            response.setStructuredTags(response.getClassificationResults().stream()
+                .map(ClassificationResult::toStructuredTag)
+                .toList());
+            response.setStatistics(ClassificationSummaries.statistics(response.getClassificationResults()));
+        }
+    }
+
+    private static byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 잘렸습니다");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 캐시 사본에서 제외할 AiResponse 필드
+     */
+    @JsonIgnoreProperties({"rawOutput", "structuredTags", "statistics", "timestamp"})
+    private abstract static class CompactAiResponse {
+    }
+}
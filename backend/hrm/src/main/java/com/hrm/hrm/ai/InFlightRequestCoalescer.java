@@ -0,0 +1,113 @@
+package com.hrm.hrm.ai;
+
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.exception.AiTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 AI 요청 병합 (single-flight)
+ * 같은 내용의 요청이 동시에 진행 중이면 첫 요청만 Python 파이프라인을 실행하고,
+ * 나머지는 같은 CompletableFuture의 결과를 공유
+ * (@Cacheable은 첫 요청이 끝나야 채워지므로 동시 중복 요청을 막지 못함)
+ * 합류한 요청은 파이프라인 제한 시간까지만 기다리고, 넘기면 AiTimeoutException (첫 요청은 계속 진행)
+ */
+@Slf4j
+@Component
+public class InFlightRequestCoalescer {
+
+    private final Map<String, CompletableFuture<AiResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public InFlightRequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("ai.request.inflight", inFlight, Map::size)
+            .description("Distinct AI requests currently executing")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 같은 operation/digest 요청이 진행 중이면 최대 joinTimeoutSeconds 동안 그 결과를 기다리고, 없으면 직접 실행
+     */
+    public AiResponse execute(String operation, String digest, int joinTimeoutSeconds, Supplier<AiResponse> call) {
+        String requestId = operation + ":" + digest;
+        CompletableFuture<AiResponse> leader = new CompletableFuture<>();
+        CompletableFuture<AiResponse> existing = inFlight.putIfAbsent(requestId, leader);
+
+        if (existing != null) {
+            counter(operation, "joined").increment();
+            log.debug("진행 중인 동일 요청에 합류: {}", requestId);
+            try {
+                return existing.get(joinTimeoutSeconds, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                counter(operation, "join_timeout").increment();
+                log.warn("진행 중인 동일 요청 대기 시간 초과 ({}초): {}", joinTimeoutSeconds, requestId);
+                throw new AiTimeoutException(
+                    String.format("진행 중인 동일 요청 대기 시간 초과 (%d초)", joinTimeoutSeconds),
+                    requestId, operation, joinTimeoutSeconds);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AiProcessingException("진행 중인 동일 요청 대기 중 인터럽트 발생", e, requestId);
+            }
+        }
+
+        counter(operation, "executed").increment();
+        try {
+            AiResponse response = call.get();
+            leader.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(requestId, leader);
+        }
+    }
+
+    /**
+     * 요청 내용 digest (SHA-256) - 구분자를 넣어 필드 경계가 섞이지 않게 함
+     */
+    public static String digest(String... parts) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                sha256.update(part == null ? new byte[]{0} : part.getBytes(StandardCharsets.UTF_8));
+                sha256.update((byte) 0x1f);
+            }
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return Counter.builder("ai.request.coalesce")
+            .description("AI requests by single-flight outcome (executed, joined or join_timeout)")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -1,19 +1,39 @@
 package com.hrm.hrm.ai;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hrm.hrm.ai.dto.AiRequest;
 import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.dto.ClassificationResult;
+import com.hrm.hrm.ai.dto.PipelineOutput;
+import com.hrm.hrm.ai.exception.AiOutputTooLargeException;
 import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.exception.AiResponseParseException;
+import com.hrm.hrm.ai.exception.AiTimeoutException;
+import com.hrm.hrm.ai.process.PipelineOutputReader;
+import com.hrm.hrm.ai.process.PipelineRequestFrame;
+import com.hrm.hrm.ai.process.ProcessOutputPump;
+import com.hrm.hrm.ai.process.ProcessReaper;
+import com.hrm.hrm.ai.protection.PipelineProtectionManager;
+import com.hrm.hrm.ai.retry.AiRetryExecutor;
+import com.hrm.hrm.ai.scheduler.AiJobScheduler;
+import com.hrm.hrm.ai.worker.PythonWorkerPoolManager;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 /**
  * Python AI 스크립트와의 브리지 클래스
@@ -35,65 +55,123 @@ public class PythonBridge {
     @Value("${app.ai.max.retries:3}")
     private int defaultMaxRetries;
     
-    @Value("${app.ai.retry.delay.ms:1000}")
-    private long retryDelayMs;
+    @Value("${app.ai.output.max-stdout-bytes:4194304}")
+    private long maxStdoutBytes;
+    
+    @Value("${app.ai.output.max-stderr-bytes:1048576}")
+    private long maxStderrBytes;
+    
+    @Value("${app.ai.output.drain-timeout.ms:2000}")
+    private long outputDrainTimeoutMs;
+    
+    // 요청을 명령행 인자 대신 stdin 프레임으로 받는 스크립트 (--stdin 지원)
+    @Value("${app.ai.transport.stdin-scripts:pipeline1_personal_manual.py,pipeline2_coaching_generation.py}")
+    private String[] stdinScripts;
+    
+    // 이 크기 이상의 요청은 gzip 압축 (음수면 압축 안 함)
+    @Value("${app.ai.transport.compress-min-bytes:32768}")
+    private int compressMinBytes;
     
     private final ObjectMapper objectMapper;
+    private final PythonWorkerPoolManager workerPoolManager;
+    private final AiJobScheduler jobScheduler;
+    private final PipelineProtectionManager protectionManager;
+    private final AiRetryExecutor retryExecutor;
+    private final PipelineOutputReader pipelineOutputReader;
+    private final ProcessReaper processReaper;
+    
+    // stdout/stderr 펌프 + stdin 요청 프레임 전송 스레드 (프로세스당 최대 3개)
+    private final ExecutorService outputPumpExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "py-output-pump");
+        thread.setDaemon(true);
+        return thread;
+    });
     
-    public PythonBridge(ObjectMapper objectMapper) {
+    public PythonBridge(ObjectMapper objectMapper, PythonWorkerPoolManager workerPoolManager,
+                        AiJobScheduler jobScheduler, PipelineProtectionManager protectionManager,
+                        AiRetryExecutor retryExecutor, PipelineOutputReader pipelineOutputReader,
+                        ProcessReaper processReaper) {
         this.objectMapper = objectMapper;
+        this.workerPoolManager = workerPoolManager;
+        this.jobScheduler = jobScheduler;
+        this.protectionManager = protectionManager;
+        this.retryExecutor = retryExecutor;
+        this.pipelineOutputReader = pipelineOutputReader;
+        this.processReaper = processReaper;
     }
     
     /**
      * Python 스크립트 실행 (재시도 로직 포함)
      */
     public AiResponse executeScript(AiRequest request) throws AiProcessingException {
-        int maxRetries = request.isRetryEnabled() ? request.getMaxRetries() : 1;
-        AiProcessingException lastException = null;
-        
-        for (int attempt = 1; attempt <= maxRetries; attempt++) {
-            try {
-                log.debug("AI 스크립트 실행 시도 {}/{}: {} (correlationId: {})", 
-                    attempt, maxRetries, request.getScript(), request.getCorrelationId());
-                
-                return executeScriptSingleAttempt(request);
-                
-            } catch (AiProcessingException e) {
-                lastException = e;
-                
-                if (!e.isRetryable() || attempt == maxRetries) {
-                    log.error("AI 스크립트 실행 최종 실패: {} (correlationId: {})", 
-                        e.getMessage(), request.getCorrelationId());
-                    throw e;
-                }
-                
-                // 재시도 전 대기
-                long delay = retryDelayMs * attempt; // 선형 백오프
-                try {
-                    Thread.sleep(delay);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new AiProcessingException("재시도 중 인터럽트 발생", request.getCorrelationId());
-                }
-                
-                log.warn("AI 스크립트 실행 실패, {}ms 후 재시도 {}/{}: {} (correlationId: {})", 
-                    delay, attempt, maxRetries, e.getMessage(), request.getCorrelationId());
-            }
-        }
-        
-        throw lastException;
+        return retryExecutor.execute(request, this::executeScriptSingleAttempt);
+    }
+    
+    /**
+     * Python 스크립트 비동기 실행 - 재시도 대기 중에도 스레드를 점유하지 않음
+     */
+    public CompletableFuture<AiResponse> executeScriptAsync(AiRequest request) {
+        return retryExecutor.executeAsync(request, this::executeScriptSingleAttempt);
+    }
+    
+    /**
+     * 배치 모드 실행 - 항목 ID별 응답 (재시도 로직 포함)
+     */
+    public Map<String, AiResponse> executeBatch(AiRequest request) throws AiProcessingException {
+        return retryExecutor.execute(request, this::executeBatchSingleAttempt);
+    }
+    
+    /**
+     * 배치 모드 비동기 실행
+     */
+    public CompletableFuture<Map<String, AiResponse>> executeBatchAsync(AiRequest request) {
+        return retryExecutor.executeAsync(request, this::executeBatchSingleAttempt);
     }
     
     /**
      * Python 스크립트 단일 실행 시도
      */
     private AiResponse executeScriptSingleAttempt(AiRequest request) throws AiProcessingException {
+        ScriptOutput output = runScript(request);
+        return parseAiResponse(output, request.getCorrelationId());
+    }
+    
+    /**
+     * 배치 모드 단일 실행 시도
+     */
+    private Map<String, AiResponse> executeBatchSingleAttempt(AiRequest request) throws AiProcessingException {
+        ScriptOutput output = runScript(request);
+        return parseBatchResponse(output, request.getCorrelationId());
+    }
+    
+    /**
+     * 스크립트 실행 - 워커 풀 대상이면 워커로, 아니면 프로세스를 새로 띄워 실행
+     * 시도마다 우선순위 스케줄러의 실행 슬롯을 받으며, 재시도 대기 중에는 슬롯을 반납
+     * 스크립트별 보호 계층(서킷 브레이커, 동시 실행 한도)은 슬롯을 받은 뒤 적용 -
+     * 대기열 시간이 지연 측정과 동시 실행 한도에 섞이지 않도록
+     */
+    private ScriptOutput runScript(AiRequest request) throws AiProcessingException {
+        return jobScheduler.execute(request, () -> protectionManager.execute(request, () -> {
+            if (workerPoolManager.supports(request.getScript())) {
+                return runWithWorker(request);
+            }
+            return runWithProcess(request);
+        }));
+    }
+    
+    /**
+     * 새 프로세스로 단일 실행
+     */
+    private ScriptOutput runWithProcess(AiRequest request) throws AiProcessingException {
         long startTime = System.currentTimeMillis();
         String correlationId = request.getCorrelationId();
         
         try {
-            // 1. 프로세스 명령어 구성
-            List<String> command = buildCommand(request);
+            // 1. 프로세스 명령어 구성 (stdin 전송 대상이면 요청 내용은 명령행에 넣지 않음)
+            boolean stdinTransport = usesStdinTransport(request.getScript());
+            List<String> command = stdinTransport
+                ? List.of(pythonPath, request.getScript(), "--stdin")
+                : buildCommand(request);
             
             // 2. ProcessBuilder 생성 및 설정
             ProcessBuilder processBuilder = new ProcessBuilder(command);
@@ -107,8 +185,17 @@ public class PythonBridge {
             log.debug("Python 프로세스 시작: {} (correlationId: {})", 
                 String.join(" ", command), correlationId);
             
-            // 3. 프로세스 실행
+            // 3. 프로세스 실행 및 출력 펌프 시작 (파이프 버퍼가 차서 자식이 멈추지 않도록 동시에 비움)
             Process process = processBuilder.start();
+            processReaper.register(process, request.getScript(), false);
+            ProcessOutputPump outputPump = ProcessOutputPump.start(
+                process, outputPumpExecutor, correlationId, maxStdoutBytes, maxStderrBytes);
+            
+            // 요청 프레임은 펌프 스레드에서 전송 - stdin을 읽지 않는 자식이 있어도 타임아웃 시계는 이미 진행 중
+            // (타임아웃 시 프로세스 트리를 종료하면 파이프가 닫혀 전송도 실패로 끝남)
+            if (stdinTransport) {
+                outputPumpExecutor.execute(() -> writeRequestFrame(process, request));
+            }
             
             // 4. 타임아웃과 함께 대기
             int timeoutSeconds = request.getTimeoutSeconds() != null ? 
@@ -116,34 +203,43 @@ public class PythonBridge {
                 
             boolean finished = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
             
+            // 출력 상한 초과 시 펌프가 프로세스를 종료하므로 타임아웃보다 먼저 확인
+            if (outputPump.isStdoutOverflow()) {
+                throw new AiOutputTooLargeException(
+                    String.format("Python 스크립트 출력 크기 초과 (상한 %d bytes)", outputPump.getMaxStdoutBytes()),
+                    correlationId, request.getScript(), outputPump.getMaxStdoutBytes()
+                );
+            }
+            
             if (!finished) {
-                process.destroyForcibly();
-                throw new AiProcessingException(
+                // 직계 자식만이 아니라 자손(손자 프로세스, OpenAI 연결)까지 종료
+                processReaper.killTree(process, "타임아웃 " + timeoutSeconds + "초");
+                throw new AiTimeoutException(
                     String.format("Python 스크립트 실행 타임아웃 (%d초)", timeoutSeconds),
-                    correlationId, request.getScript()
+                    correlationId, request.getScript(), timeoutSeconds
                 );
             }
             
-            // 5. 결과 읽기
-            String output = readProcessOutput(process.getInputStream());
-            String error = readProcessOutput(process.getErrorStream());
+            // 5. 남은 출력 드레인 후 결과 읽기
+            outputPump.awaitDrained(outputDrainTimeoutMs, TimeUnit.MILLISECONDS);
+            byte[] output = outputPump.getResultBytes();
+            String error = outputPump.getStderr();
             int exitCode = process.exitValue();
             
             long processingTime = System.currentTimeMillis() - startTime;
             
-            log.debug("Python 프로세스 완료: exitCode={}, 처리시간={}ms (correlationId: {})", 
-                exitCode, processingTime, correlationId);
+            log.debug("Python 프로세스 완료: exitCode={}, 처리시간={}ms, stdout={}bytes (correlationId: {})", 
+                exitCode, processingTime, outputPump.getStdoutBytes(), correlationId);
             
             // 6. 프로세스 종료 코드 확인
             if (exitCode != 0) {
                 throw new AiProcessingException(
                     String.format("Python 스크립트 실행 실패 (exitCode=%d): %s", exitCode, error),
-                    correlationId, request.getScript(), exitCode
+                    correlationId, request.getScript(), exitCode, extractErrorType(output)
                 );
             }
             
-            // 7. JSON 응답 파싱
-            return parseAiResponse(output, processingTime, correlationId);
+            return new ScriptOutput(output, null, processingTime);
             
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -161,12 +257,97 @@ public class PythonBridge {
     }
     
     /**
-     * 프로세스 명령어 구성
+     * 장기 실행 워커 풀을 통한 단일 실행 시도
+     */
+    private ScriptOutput runWithWorker(AiRequest request) throws AiProcessingException {
+        long startTime = System.currentTimeMillis();
+        String correlationId = request.getCorrelationId();
+        int timeoutSeconds = request.getTimeoutSeconds() != null ? 
+            request.getTimeoutSeconds() : defaultTimeoutSeconds;
+        
+        JsonNode envelope = workerPoolManager.execute(request, timeoutSeconds);
+        
+        long processingTime = System.currentTimeMillis() - startTime;
+        int exitCode = envelope.path("exit_code").asInt(1);
+        JsonNode response = envelope.path("response");
+        
+        log.debug("Python 워커 처리 완료: exitCode={}, 처리시간={}ms (correlationId: {})", 
+            exitCode, processingTime, correlationId);
+        
+        // 프로세스 실행 방식과 동일한 종료 코드 의미 유지
+        if (exitCode != 0) {
+            throw new AiProcessingException(
+                String.format("Python 스크립트 실행 실패 (exitCode=%d): %s", exitCode, response.path("error").asText("")),
+                correlationId, request.getScript(), exitCode, errorTypeOf(response)
+            );
+        }
+        
+        return new ScriptOutput(null, response, processingTime);
+    }
+    
+    /**
+     * 실패 결과 JSON에서 Python 오류 타입 추출 (재시도 판단용)
+     */
+    private String extractErrorType(byte[] output) {
+        if (output == null || output.length == 0) {
+            return null;
+        }
+        try {
+            return errorTypeOf(objectMapper.readTree(output));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    
+    private String errorTypeOf(JsonNode result) {
+        JsonNode errorType = result.path("error_type");
+        if (errorType.isMissingNode() || errorType.isNull()) {
+            errorType = result.path("processing_info").path("error_type");
+        }
+        return errorType.isTextual() ? errorType.asText() : null;
+    }
+    
+    private boolean usesStdinTransport(String script) {
+        for (String stdinScript : stdinScripts) {
+            if (stdinScript.trim().equals(script)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 요청 envelope을 stdin 프레임으로 전송 후 stdin 닫기
+     * 자식이 먼저 종료되어 쓰기가 실패하면 종료 코드/출력으로 원인을 판단하도록 로그만 남김
+     */
+    private void writeRequestFrame(Process process, AiRequest request) {
+        try (OutputStream stdin = process.getOutputStream()) {
+            byte[] payload = objectMapper.writeValueAsBytes(PipelineRequestFrame.envelope(request));
+            int sent = PipelineRequestFrame.write(stdin, payload, compressMinBytes);
+            log.debug("요청 프레임 전송: {} bytes (원본 {} bytes) (correlationId: {})", 
+                sent, payload.length, request.getCorrelationId());
+        } catch (IOException e) {
+            log.warn("요청 프레임 전송 실패 (correlationId: {}): {}", request.getCorrelationId(), e.getMessage());
+        }
+    }
+    
+    /**
+     * 프로세스 명령어 구성 (명령행 인자 전송 - stdin 프레임을 지원하지 않는 스크립트용)
      */
     private List<String> buildCommand(AiRequest request) {
         List<String> command = new ArrayList<>();
         command.add(pythonPath);
         command.add(request.getScript());
+        
+        if (AiRequest.MODE_BATCH.equals(request.getMode())) {
+            command.add("--batch");
+            command.add(request.getInputText());
+            if (request.getCorrelationId() != null) {
+                command.add(request.getCorrelationId());
+            }
+            return command;
+        }
+        
         command.add(request.getInputText());
         
         if (request.getContext() != null) {
@@ -183,204 +364,104 @@ public class PythonBridge {
     }
     
     /**
-     * 프로세스 출력 읽기
+     * AI 응답 파싱 - 출력 JSON을 PipelineOutput으로 직접 바인딩
      */
-    private String readProcessOutput(InputStream inputStream) throws IOException {
-        StringBuilder output = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(inputStream, "UTF-8"))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
-            }
+    private AiResponse parseAiResponse(ScriptOutput output, String correlationId) throws AiProcessingException {
+        if (output.isEmpty()) {
+            throw new AiProcessingException("Python 스크립트가 빈 응답을 반환했습니다", correlationId);
         }
-        return output.toString().trim();
-    }
-    
-    /**
-     * AI 응답 파싱
-     */
-    private AiResponse parseAiResponse(String output, long processingTime, String correlationId) 
-            throws AiProcessingException {
+        
         try {
-            if (output == null || output.trim().isEmpty()) {
-                throw new AiProcessingException("Python 스크립트가 빈 응답을 반환했습니다", correlationId);
-            }
-            
-            // JSON 파싱 시도
-            Map<String, Object> rawResponse = objectMapper.readValue(output, Map.class);
-            
-            // AiResponse 객체 구성
-            AiResponse.AiResponseBuilder builder = AiResponse.builder()
-                .success((Boolean) rawResponse.getOrDefault("success", false))
-                .summary((String) rawResponse.get("summary"))
-                .cacheKey((String) rawResponse.get("cache_key"))
-                .errorMessage((String) rawResponse.get("error"))
-                .errorType((String) rawResponse.get("error_type"))
-                .processingTimeMs(processingTime)
-                .correlationId(correlationId)
-                .rawOutput(output);
-            
-            // 분류 결과 파싱 (파이프라인 1 강화 결과)
-            if (rawResponse.containsKey("classification_results")) {
-                List<com.hrm.hrm.ai.dto.ClassificationResult> classificationResults = 
-                    parseClassificationResults(rawResponse.get("classification_results"));
-                builder.classificationResults(classificationResults);
-                
-                // 하위 호환성을 위해 StructuredTag도 생성
-                List<com.hrm.hrm.ai.dto.StructuredTag> structuredTags = 
-                    classificationResults.stream()
-                        .map(com.hrm.hrm.ai.dto.ClassificationResult::toStructuredTag)
-                        .collect(java.util.stream.Collectors.toList());
-                builder.structuredTags(structuredTags);
-            }
+            return toAiResponse(output.bind(pipelineOutputReader, correlationId), 
+                output.processingTimeMs(), correlationId);
             
-            // 기존 방식 지원 (하위 호환성)
-            if (rawResponse.containsKey("structured_tags")) {
-                builder.structuredTags(parseStructuredTags(rawResponse.get("structured_tags")));
-            }
-            
-            // 통계 정보 파싱
-            if (rawResponse.containsKey("statistics")) {
-                builder.statistics((Map<String, Object>) rawResponse.get("statistics"));
-            }
-            
-            // 데이터 품질 정보 파싱
-            if (rawResponse.containsKey("data_quality")) {
-                builder.dataQuality((Map<String, Object>) rawResponse.get("data_quality"));
-            }
-            
-            // 가설 및 코칭 카드 파싱 (파이프라인 2 결과)
-            if (rawResponse.containsKey("hypotheses")) {
-                builder.hypotheses((List<String>) rawResponse.get("hypotheses"));
-            }
-            
-            if (rawResponse.containsKey("best_hypothesis")) {
-                builder.bestHypothesis((String) rawResponse.get("best_hypothesis"));
-            }
-            
-            if (rawResponse.containsKey("coaching_card")) {
-                builder.coachingCard(parseCoachingCard(rawResponse.get("coaching_card")));
-            }
-            
-            // 처리 정보
-            if (rawResponse.containsKey("processing_info")) {
-                builder.processingInfo((Map<String, Object>) rawResponse.get("processing_info"));
-            }
-            
-            return builder.build();
-            
-        } catch (Exception e) {
+        } catch (AiResponseParseException e) {
             log.error("AI 응답 파싱 실패 (correlationId: {}): {}", correlationId, e.getMessage());
             
             // 파싱 실패 시 raw 텍스트 응답 반환
             return AiResponse.builder()
                 .success(false)
-                .errorMessage("AI 응답 파싱 실패: " + e.getMessage())
-                .rawOutput(output)
-                .processingTimeMs(processingTime)
+                .errorMessage(e.getMessage())
+                .errorType(e.getClass().getSimpleName())
+                .rawOutput(output.raw())
+                .processingTimeMs(output.processingTimeMs())
                 .correlationId(correlationId)
                 .build();
         }
     }
     
     /**
-     * 분류 결과 리스트 파싱 (강화 버전)
+     * 배치 응답 파싱 - 항목 ID별 AiResponse (항목 단위 성공/실패 유지)
      */
-    private List<com.hrm.hrm.ai.dto.ClassificationResult> parseClassificationResults(Object resultsObj) {
-        try {
-            if (resultsObj instanceof List) {
-                List<?> resultsList = (List<?>) resultsObj;
-                List<com.hrm.hrm.ai.dto.ClassificationResult> results = new ArrayList<>();
-                
-                for (Object resultObj : resultsList) {
-                    if (resultObj instanceof Map) {
-                        Map<?, ?> resultMap = (Map<?, ?>) resultObj;
-                        com.hrm.hrm.ai.dto.ClassificationResult result = com.hrm.hrm.ai.dto.ClassificationResult.builder()
-                            .keyword((String) resultMap.get("keyword"))
-                            .sentiment((String) resultMap.get("sentiment"))
-                            .evidence((String) resultMap.get("evidence"))
-                            .confidence(((Number) resultMap.getOrDefault("confidence", 0.0)).doubleValue())
-                            .category((String) resultMap.get("category"))
-                            .mixedDetails((Map<String, String>) resultMap.get("mixed_details"))
-                            .definition((String) resultMap.get("definition"))
-                            .metadata((Map<String, Object>) resultMap.get("metadata"))
-                            .build();
-                        
-                        if (result.isValid()) {
-                            results.add(result);
-                        }
-                    }
-                }
-                
-                return results;
+    private Map<String, AiResponse> parseBatchResponse(ScriptOutput output, String correlationId) 
+            throws AiProcessingException {
+        PipelineOutput batch = output.bind(pipelineOutputReader, correlationId);
+        
+        Map<String, AiResponse> results = new LinkedHashMap<>();
+        if (batch.getItems() == null) {
+            return results;
+        }
+        
+        for (PipelineOutput item : batch.getItems()) {
+            if (item == null || item.getItemId() == null) {
+                continue;
             }
-        } catch (Exception e) {
-            log.warn("분류 결과 파싱 실패: {}", e.getMessage());
+            String itemCorrelationId = correlationId + ":" + item.getItemId();
+            results.put(item.getItemId(), toAiResponse(item, output.processingTimeMs(), itemCorrelationId));
         }
         
-        return new ArrayList<>();
+        return results;
     }
     
     /**
-     * 구조화된 태그 리스트 파싱 (하위 호환성)
+     * 바인딩된 파이프라인 출력을 AiResponse로 변환 (단건/배치 항목 공용)
      */
-    @Deprecated
-    private List<com.hrm.hrm.ai.dto.StructuredTag> parseStructuredTags(Object tagsObj) {
-        try {
-            if (tagsObj instanceof List) {
-                List<?> tagsList = (List<?>) tagsObj;
-                List<com.hrm.hrm.ai.dto.StructuredTag> result = new ArrayList<>();
-                
-                for (Object tagObj : tagsList) {
-                    if (tagObj instanceof Map) {
-                        Map<?, ?> tagMap = (Map<?, ?>) tagObj;
-                        com.hrm.hrm.ai.dto.StructuredTag tag = com.hrm.hrm.ai.dto.StructuredTag.builder()
-                            .tag((String) tagMap.get("tag"))
-                            .sentiment((String) tagMap.get("sentiment"))
-                            .confidence(((Number) tagMap.getOrDefault("confidence", 0.0)).doubleValue())
-                            .category((String) tagMap.get("category"))
-                            .metadata((String) tagMap.get("metadata"))
-                            .build();
-                        
-                        if (tag.isValid()) {
-                            result.add(tag);
-                        }
-                    }
+    private AiResponse toAiResponse(PipelineOutput output, long processingTime, String correlationId) {
+        AiResponse.AiResponseBuilder builder = AiResponse.builder()
+            .success(Boolean.TRUE.equals(output.getSuccess()))
+            .summary(output.getSummary())
+            .cacheKey(output.getCacheKey())
+            .errorMessage(output.getError())
+            .errorType(output.getErrorType())
+            .statistics(output.getStatistics())
+            .dataQuality(output.getDataQuality())
+            .hypotheses(output.getHypotheses())
+            .bestHypothesis(output.getBestHypothesis())
+            .coachingCard(output.getCoachingCard())
+            .processingInfo(output.getProcessingInfo())
+            .processingTimeMs(processingTime)
+            .correlationId(correlationId);
+        
+        // 분류 결과 (파이프라인 1 강화 결과) - 유효한 결과만 유지
+        if (output.getClassificationResults() != null) {
+            List<ClassificationResult> classificationResults = new ArrayList<>();
+            for (ClassificationResult result : output.getClassificationResults()) {
+                if (result == null) {
+                    continue;
+                }
+                if (result.getConfidence() == null) {
+                    result.setConfidence(0.0);
+                }
+                if (result.isValid()) {
+                    classificationResults.add(result);
                 }
-                
-                return result;
             }
-        } catch (Exception e) {
-            log.warn("구조화된 태그 파싱 실패: {}", e.getMessage());
+            builder.classificationResults(classificationResults);
+            
+            // 하위 호환성을 위해 StructuredTag도 생성
+            builder.structuredTags(classificationResults.stream()
+                .map(ClassificationResult::toStructuredTag)
+                .collect(java.util.stream.Collectors.toList()));
         }
         
-        return new ArrayList<>();
-    }
-    
-    /**
-     * 코칭 카드 파싱
-     */
-    private com.hrm.hrm.ai.dto.CoachingCard parseCoachingCard(Object cardObj) {
-        try {
-            if (cardObj instanceof Map) {
-                Map<?, ?> cardMap = (Map<?, ?>) cardObj;
-                return com.hrm.hrm.ai.dto.CoachingCard.builder()
-                    .goal((String) cardMap.get("goal"))
-                    .keyQuestions((List<String>) cardMap.get("key_questions"))
-                    .thingsToAvoid((List<String>) cardMap.get("things_to_avoid"))
-                    .dataSummary((String) cardMap.get("data_summary"))
-                    .confidenceScore(((Number) cardMap.getOrDefault("confidence_score", 0.0)).doubleValue())
-                    .recommendedActions((List<String>) cardMap.get("recommended_actions"))
-                    .expectedOutcome((String) cardMap.get("expected_outcome"))
-                    .followUpSuggestion((String) cardMap.get("follow_up_suggestion"))
-                    .build();
-            }
-        } catch (Exception e) {
-            log.warn("코칭 카드 파싱 실패: {}", e.getMessage());
+        // 기존 방식 지원 (하위 호환성)
+        if (output.getStructuredTags() != null) {
+            builder.structuredTags(output.getStructuredTags().stream()
+                .filter(tag -> tag != null && tag.isValid())
+                .collect(java.util.stream.Collectors.toList()));
         }
         
-        return null;
+        return builder.build();
     }
     
     /**
@@ -404,4 +485,41 @@ public class PythonBridge {
             return false;
         }
     }
+    
+    /**
+     * 스크립트 실행 결과 (파싱 전) - 프로세스 실행은 결과 JSON 바이트, 워커는 이미 읽힌 JSON 트리
+     * 프로세스 stdout을 스트림째 바인딩하지 않고 결과 줄 하나를 바이트로 보관하는 이유:
+     * - stdout에 StructuredLogger 로그 줄과 결과 줄이 섞여 있고, 결과는 종료 시점의 마지막 JSON 줄이라 EOF 전에는 알 수 없음
+     * - 바인딩 여부는 종료 코드를 확인한 뒤 결정하고, 실패 시 같은 바이트에서 error_type과 rawOutput을 얻음
+     * 보관본은 결과 줄 하나뿐이며 String/Map 중간 표현 없이 바이트에서 바로 PipelineOutput으로 바인딩됨
+     */
+    private record ScriptOutput(byte[] json, JsonNode tree, long processingTimeMs) {
+        
+        PipelineOutput bind(PipelineOutputReader reader, String correlationId) throws AiResponseParseException {
+            return tree != null ? reader.read(tree, correlationId) : reader.read(json, correlationId);
+        }
+        
+        boolean isEmpty() {
+            if (tree != null) {
+                return false;
+            }
+            if (json != null) {
+                for (byte b : json) {
+                    if (!Character.isWhitespace(b)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        
+        String raw() {
+            return tree != null ? tree.toString() : new String(json, StandardCharsets.UTF_8);
+        }
+    }
+    
+    @PreDestroy
+    void shutdownOutputPumps() {
+        outputPumpExecutor.shutdownNow();
+    }
 }
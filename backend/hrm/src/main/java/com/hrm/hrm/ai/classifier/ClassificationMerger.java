@@ -0,0 +1,131 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.hrm.hrm.ai.dto.ClassificationResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 청크별 분류 결과를 하나의 결과 목록으로 병합
+ * - keyword 기준으로 중복 제거 (처음 등장한 순서 유지 후 신뢰도순 정렬)
+ * - confidence: 청크별 신뢰도를 독립 근거로 보고 결합 (1 - Π(1 - c)), 소수 셋째 자리 반올림
+ * - sentiment: 청크 간 긍정/부정이 갈리거나 Mixed가 있으면 Mixed, mixedDetails에 가장 확실한 긍정/부정 근거
+ * - evidence: 신뢰도 높은 순으로 서로 다른 근거 최대 3개를 " / "로 연결
+ * - metadata: chunk_count(근거 청크 수), chunks(청크 인덱스)
+ */
+public final class ClassificationMerger {
+
+    static final int MAX_EVIDENCES = 3;
+    static final String EVIDENCE_SEPARATOR = " / ";
+
+    private ClassificationMerger() {
+    }
+
+    /**
+     * @param chunkResults 청크 순서대로의 분류 결과 목록 (실패 청크는 빈 목록)
+     * @param maxResults   병합 결과 상한 (신뢰도 높은 순으로 자름)
+     */
+    public static List<ClassificationResult> merge(List<List<ClassificationResult>> chunkResults, int maxResults) {
+        Map<String, List<ChunkResult>> byKeyword = new LinkedHashMap<>();
+        for (int chunkIndex = 0; chunkIndex < chunkResults.size(); chunkIndex++) {
+            for (ClassificationResult result : chunkResults.get(chunkIndex)) {
+                if (result.getKeyword() == null || result.getConfidence() == null) {
+                    continue;
+                }
+                byKeyword.computeIfAbsent(result.getKeyword(), keyword -> new ArrayList<>())
+                    .add(new ChunkResult(chunkIndex, result));
+            }
+        }
+
+        List<ClassificationResult> merged = new ArrayList<>(byKeyword.size());
+        for (List<ChunkResult> group : byKeyword.values()) {
+            merged.add(mergeGroup(group));
+        }
+        merged.sort(Comparator.comparing(ClassificationResult::getConfidence).reversed());
+        return merged.size() > maxResults ? new ArrayList<>(merged.subList(0, maxResults)) : merged;
+    }
+
+    private static ClassificationResult mergeGroup(List<ChunkResult> group) {
+        List<ChunkResult> byConfidence = new ArrayList<>(group);
+        byConfidence.sort(Comparator.comparing((ChunkResult chunk) -> chunk.result().getConfidence()).reversed());
+        ClassificationResult best = byConfidence.get(0).result();
+
+        double missProbability = 1.0;
+        for (ChunkResult chunk : group) {
+            missProbability *= 1.0 - Math.min(1.0, Math.max(0.0, chunk.result().getConfidence()));
+        }
+        double confidence = Math.round((1.0 - missProbability) * 1000) / 1000.0;
+
+        List<String> evidences = byConfidence.stream()
+            .map(chunk -> chunk.result().getEvidence())
+            .filter(evidence -> evidence != null && !evidence.isBlank())
+            .distinct()
+            .limit(MAX_EVIDENCES)
+            .toList();
+
+        Map<String, String> mixedDetails = mixedDetails(byConfidence);
+        String sentiment = mixedDetails != null ? "Mixed" : best.getSentiment();
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        if (best.getMetadata() != null) {
+            metadata.putAll(best.getMetadata());
+        }
+        metadata.put("chunk_count", group.stream().map(ChunkResult::chunkIndex).distinct().count());
+        metadata.put("chunks", group.stream().map(ChunkResult::chunkIndex).distinct().toList());
+
+        return ClassificationResult.builder()
+            .keyword(best.getKeyword())
+            .sentiment(sentiment)
+            .evidence(String.join(EVIDENCE_SEPARATOR, evidences))
+            .confidence(confidence)
+            .category(best.getCategory())
+            .mixedDetails(mixedDetails)
+            .definition(best.getDefinition())
+            .metadata(metadata)
+            .build();
+    }
+
+    /**
+     * 청크 간 감정이 갈린 경우에만 긍정/부정 근거 구성 (단일 청크의 Mixed는 그 청크의 세부 정보 유지)
+     */
+    private static Map<String, String> mixedDetails(List<ChunkResult> byConfidence) {
+        String positive = null;
+        String negative = null;
+        Map<String, String> existingMixed = null;
+        for (ChunkResult chunk : byConfidence) {
+            ClassificationResult result = chunk.result();
+            if (result.isPositive() && positive == null) {
+                positive = result.getEvidence();
+            } else if (result.isNegative() && negative == null) {
+                negative = result.getEvidence();
+            } else if (result.isMixed() && existingMixed == null) {
+                existingMixed = result.getMixedDetails() != null ? result.getMixedDetails() : Map.of();
+            }
+        }
+
+        if (positive == null && negative == null && existingMixed == null) {
+            return null;
+        }
+        if (existingMixed == null && (positive == null || negative == null)) {
+            return null; // 모든 청크가 같은 방향
+        }
+
+        Map<String, String> details = new LinkedHashMap<>();
+        if (existingMixed != null) {
+            details.putAll(existingMixed);
+        }
+        if (positive != null) {
+            details.put("positive", positive);
+        }
+        if (negative != null) {
+            details.put("negative", negative);
+        }
+        return details;
+    }
+
+    private record ChunkResult(int chunkIndex, ClassificationResult result) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.hrm.hrm.ai.dto.ClassificationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 분류 결과 목록의 statistics/summary/data_quality 계산 (pipeline1 _build_result와 같은 형태)
+ * Java 분류 엔진과 긴 피드백 청크 병합에서 공용
+ */
+public final class ClassificationSummaries {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private ClassificationSummaries() {
+    }
+
+    public static Map<String, Object> statistics(List<ClassificationResult> results) {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        if (results.isEmpty()) {
+            statistics.put("total", 0);
+            statistics.put("avg_confidence", 0);
+            statistics.put("categories", Map.of());
+            return statistics;
+        }
+
+        Map<String, Integer> categories = new LinkedHashMap<>();
+        Map<String, Integer> sentiments = new LinkedHashMap<>();
+        sentiments.put("positive", 0);
+        sentiments.put("negative", 0);
+        sentiments.put("mixed", 0);
+        double confidenceSum = 0;
+        for (ClassificationResult result : results) {
+            confidenceSum += result.getConfidence();
+            if (result.getCategory() != null) {
+                categories.merge(result.getCategory(), 1, Integer::sum);
+            }
+            sentiments.computeIfPresent(result.getSentiment().toLowerCase(), (sentiment, count) -> count + 1);
+        }
+
+        statistics.put("total", results.size());
+        statistics.put("avg_confidence", Math.round(confidenceSum / results.size() * 1000) / 1000.0);
+        statistics.put("categories", categories);
+        statistics.put("sentiments", sentiments);
+        return statistics;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static String summary(List<ClassificationResult> results, Map<String, Object> statistics) {
+        if (results.isEmpty()) {
+            return "분류된 태그가 없습니다.";
+        }
+
+        Map<String, Integer> categories = (Map<String, Integer>) statistics.get("categories");
+        String mainCategory = categories.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElse("일반");
+
+        Map<String, Integer> sentiments = (Map<String, Integer>) statistics.get("sentiments");
+        int positive = sentiments.get("positive");
+        int negative = sentiments.get("negative");
+        String sentimentTrend = positive > negative ? "긍정적" : negative > positive ? "부정적" : "중립적";
+
+        String topTags = String.join(", ", results.stream()
+            .sorted(Comparator.comparing(ClassificationResult::getConfidence).reversed())
+            .limit(2)
+            .map(ClassificationResult::getKeyword)
+            .toList());
+
+        return String.format("%s 영역에서 %d개 태그 분류됨. %s 피드백 (평균 신뢰도: %.2f). 주요 태그: %s",
+            mainCategory, results.size(), sentimentTrend, (Double) statistics.get("avg_confidence"), topTags);
+    }
+
+    /**
+     * maxResults: 결과 수 상한 (단건 분류는 3, 청크 병합은 병합 상한)
+     */
+    public static Map<String, Object> dataQuality(List<ClassificationResult> results, String originalText,
+                                                  int maxResults) {
+        List<String> issues = new ArrayList<>();
+
+        if (results.isEmpty()) {
+            issues.add("No classification results");
+        } else if (results.size() > maxResults) {
+            issues.add("Too many results (>" + maxResults + ")");
+        }
+
+        long lowConfidenceCount = results.stream().filter(r -> r.getConfidence() < 0.5).count();
+        if (lowConfidenceCount > 0) {
+            issues.add(lowConfidenceCount + " results with low confidence");
+        }
+
+        for (ClassificationResult result : results) {
+            if (result.getEvidence().length() < 10) {
+                issues.add("Short evidence for " + result.getKeyword());
+            }
+            boolean evidenceFound = Arrays.stream(WHITESPACE.split(result.getEvidence().strip()))
+                .anyMatch(word -> !word.isEmpty() && originalText.contains(word));
+            if (!evidenceFound) {
+                issues.add("Evidence not found in original text for " + result.getKeyword());
+            }
+        }
+
+        if (results.stream().map(ClassificationResult::getKeyword).distinct().count() != results.size()) {
+            issues.add("Duplicate tags found");
+        }
+
+        Map<String, Object> dataQuality = new LinkedHashMap<>();
+        dataQuality.put("validation_passed", issues.isEmpty());
+        dataQuality.put("issues", issues);
+        dataQuality.put("quality_score", Math.max(0, 1.0 - issues.size() * 0.2));
+        return dataQuality;
+    }
+}
@@ -0,0 +1,106 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 피드백 분류 결과 캐시 키 (Python utils/cache_digest.py와 동일 규격)
+ * key = sha256(UTF-8(schema ␟ taxonomy ␟ pipeline ␟ model ␟ text ␟ context)) 64자리 hex
+ * - text: NFC 정규화, 공백 문자 연속을 공백 하나로, 앞뒤 공백 제거
+ * - context: 키 정렬, 공백 없는 JSON, 비어 있으면 ""
+ * - taxonomy: master_tags.json 내용 해시, pipeline/model: 분류 로직 버전과 사용 모델
+ * 태그 정의나 모델이 바뀌면 키가 바뀌어 이전 결과를 재사용하지 않음
+ */
+@Component
+public class FeedbackCacheDigest {
+
+    static final String CACHE_KEY_SCHEMA = "feedback-v1";
+    static final String PIPELINE_VERSION = "pipeline1-v2";
+    private static final String SEPARATOR = "\u001f";
+
+    // Python 쪽 패턴과 같은 문자 집합 (언어별 \s 정의 차이를 피하기 위해 명시)
+    private static final Pattern WHITESPACE =
+        Pattern.compile("[\\t\\n\\x0B\\f\\r \\u0085\\u00A0\\u1680\\u2000-\\u200A\\u2028\\u2029\\u202F\\u205F\\u3000]+");
+
+    // Python cache_key와 같은 모델명 - OPENAI_MODEL_COST_EFFECTIVE 설정을 공유
+    @Value("${openai.model.cost-effective}")
+    private String model;
+
+    private final MasterTagCatalog masterTags;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter canonicalWriter;
+
+    public FeedbackCacheDigest(MasterTagCatalog masterTags, ObjectMapper objectMapper) {
+        this.masterTags = masterTags;
+        this.objectMapper = objectMapper;
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * 피드백 분류 캐시 키 (@Cacheable 키, 응답 cacheKey 공용)
+     */
+    public String of(String feedbackText, String context) {
+        String content = String.join(SEPARATOR,
+            CACHE_KEY_SCHEMA,
+            masterTags.getFingerprint(),
+            PIPELINE_VERSION,
+            model,
+            normalizeText(feedbackText),
+            canonicalContext(context));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        String collapsed = WHITESPACE.matcher(Normalizer.normalize(text, Normalizer.Form.NFC)).replaceAll(" ");
+        int start = 0;
+        int end = collapsed.length();
+        while (start < end && collapsed.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && collapsed.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return collapsed.substring(start, end);
+    }
+
+    /**
+     * 컨텍스트 JSON 정규화 - Python json.dumps(sort_keys=True, separators=(",", ":"))와 같은 출력
+     * JSON이 아니면 원문 문자열을 그대로 사용
+     */
+    String canonicalContext(String context) {
+        if (context == null || context.isBlank()) {
+            return "";
+        }
+        try {
+            Object parsed = objectMapper.readValue(context, Object.class);
+            if (parsed == null || (parsed instanceof Map<?, ?> map && map.isEmpty())
+                    || (parsed instanceof List<?> list && list.isEmpty())) {
+                return "";
+            }
+            return canonicalWriter.writeValueAsString(parsed);
+        } catch (JsonProcessingException e) {
+            return context;
+        }
+    }
+}
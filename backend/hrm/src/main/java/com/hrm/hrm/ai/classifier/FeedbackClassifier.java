@@ -0,0 +1,24 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+
+/**
+ * 파이프라인 1 (피드백 분류) 실행 엔진
+ * - python: pipeline1_personal_manual.py 실행 (워커 풀/프로세스)
+ * - java: OpenAiService로 같은 흐름을 JVM 안에서 실행 (프로세스 생성 비용 없음)
+ * 엔진 선택은 app.ai.classifier.engine
+ */
+public interface FeedbackClassifier {
+
+    /**
+     * 엔진 이름 (app.ai.classifier.engine 값과 매칭)
+     */
+    String engine();
+
+    /**
+     * 단건 피드백 분류 - 응답 형식은 두 엔진이 동일 (classificationResults, statistics, dataQuality 등)
+     */
+    AiResponse classify(AiRequest request) throws AiProcessingException;
+}
@@ -0,0 +1,69 @@
+package com.hrm.hrm.ai.classifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 긴 피드백을 문장 경계에 맞춰 청크로 분할
+ * - 문장 종결 부호(. ! ? 。 등) 뒤 공백과 줄바꿈을 경계로 보고, 문장을 순서대로 maxChars 이내로 묶음
+ * - 한 문장이 maxChars보다 길면 그 안의 마지막 공백에서 (없으면 maxChars에서) 자름
+ * 청크는 원문 문장을 그대로 담으므로 청크별 분류 근거(evidence)가 원문에서 그대로 찾아짐
+ */
+public final class FeedbackTextSplitter {
+
+    private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?。！？…])\\s+|\\s*\\R\\s*");
+
+    private FeedbackTextSplitter() {
+    }
+
+    public static List<String> split(String text, int maxChars) {
+        if (maxChars <= 0) {
+            throw new IllegalArgumentException("maxChars는 양수여야 합니다: " + maxChars);
+        }
+
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String sentence : SENTENCE_BOUNDARY.split(text.strip())) {
+            if (sentence.isBlank()) {
+                continue;
+            }
+            for (String piece : hardSplit(sentence.strip(), maxChars)) {
+                if (current.length() > 0 && current.length() + 1 + piece.length() > maxChars) {
+                    chunks.add(current.toString());
+                    current.setLength(0);
+                }
+                if (current.length() > 0) {
+                    current.append(' ');
+                }
+                current.append(piece);
+            }
+        }
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks;
+    }
+
+    private static List<String> hardSplit(String sentence, int maxChars) {
+        List<String> pieces = new ArrayList<>();
+        String rest = sentence;
+        while (rest.length() > maxChars) {
+            int cut = rest.lastIndexOf(' ', maxChars);
+            if (cut <= 0) {
+                cut = maxChars;
+                // 서로게이트 쌍 중간에서 자르지 않음
+                if (Character.isHighSurrogate(rest.charAt(cut - 1))) {
+                    cut--;
+                }
+            }
+            pieces.add(rest.substring(0, cut).strip());
+            rest = rest.substring(cut).strip();
+        }
+        if (!rest.isEmpty()) {
+            pieces.add(rest);
+        }
+        return pieces;
+    }
+}
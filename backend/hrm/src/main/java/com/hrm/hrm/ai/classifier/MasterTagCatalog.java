@@ -0,0 +1,182 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import jakarta.annotation.PostConstruct;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 마스터 태그 택소노미 (ai/master_tags.json)
+ * - Python master_tags.py와 같은 파일을 읽으므로 두 분류 엔진의 태그 정의가 항상 일치
+ * - 프롬프트용 태그 목록, 키워드 사전 필터링 등 master_tags.MasterTagSystem과 같은 동작 제공
+ */
+@Slf4j
+@Component
+public class MasterTagCatalog {
+
+    static final String FILE_NAME = "master_tags.json";
+
+    @Value("${app.ai.scripts.path:ai}")
+    private String scriptsPath;
+
+    private final ObjectMapper objectMapper;
+    private String version;
+    private String fingerprint = "";
+    private List<String> categories = List.of();
+    private List<TagDefinition> tags = List.of();
+    private Map<String, TagDefinition> tagsByKeyword = Map.of();
+
+    public MasterTagCatalog(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        try {
+            load(Path.of(scriptsPath, FILE_NAME));
+        } catch (IllegalStateException e) {
+            // Python 엔진만 쓰는 환경에서는 기동을 막지 않음 - Java 엔진 호출 시 오류
+            log.error("마스터 태그 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 태그 정의 파일 읽기
+     */
+    void load(Path file) {
+        try {
+            byte[] raw = Files.readAllBytes(file);
+            Document document = objectMapper.readValue(raw, Document.class);
+
+            Map<String, TagDefinition> byKeyword = new LinkedHashMap<>();
+            for (TagDefinition tag : document.getTags()) {
+                byKeyword.put(tag.getKeyword(), tag);
+            }
+
+            this.version = document.getVersion();
+            this.fingerprint = HexFormat.of().formatHex(sha256(raw)).substring(0, 16);
+            this.categories = List.copyOf(document.getCategories());
+            this.tags = List.copyOf(document.getTags());
+            this.tagsByKeyword = Collections.unmodifiableMap(byKeyword);
+            log.info("마스터 태그 {}개 로드 (version: {}, fingerprint: {}, 파일: {})", tags.size(), version, fingerprint, file);
+
+        } catch (IOException e) {
+            throw new IllegalStateException("마스터 태그 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return !tags.isEmpty();
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * 태그 정의 파일 내용 해시 (sha256 앞 16자리) - Python master_tag_system.fingerprint와 같은 값
+     * 파일이 바뀌면 분류 캐시 키가 바뀜 (로드 실패 시 빈 문자열)
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public List<TagDefinition> getAllTags() {
+        return tags;
+    }
+
+    public TagDefinition getTag(String keyword) {
+        return tagsByKeyword.get(keyword);
+    }
+
+    public boolean isValidTag(String keyword) {
+        return tagsByKeyword.containsKey(keyword);
+    }
+
+    /**
+     * AI 프롬프트용 카테고리별 태그 목록
+     */
+    public String formattedTagList() {
+        List<String> lines = new ArrayList<>();
+        for (String category : categories) {
+            lines.add("\n[" + category + "]");
+            for (TagDefinition tag : tags) {
+                if (category.equals(tag.getCategory())) {
+                    lines.add(tag.getKeyword() + ": " + tag.getDefinition());
+                }
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * 텍스트에서 잠재적 태그 찾기 (긍정 키워드 우선, 없으면 부정 키워드 매칭)
+     */
+    public List<String> findPotentialTags(String text) {
+        String lowerText = text.toLowerCase();
+        List<String> potentialTags = new ArrayList<>();
+
+        for (TagDefinition tag : tags) {
+            if (containsAny(lowerText, tag.getPositiveKeywords()) || containsAny(lowerText, tag.getNegativeKeywords())) {
+                potentialTags.add(tag.getKeyword());
+            }
+        }
+        return potentialTags;
+    }
+
+    private boolean containsAny(String text, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class TagDefinition {
+        private String keyword;
+        private String category;
+        private String definition;
+        private List<String> positiveKeywords = List.of();
+        private List<String> negativeKeywords = List.of();
+        private List<String> examplesPositive = List.of();
+        private List<String> examplesNegative = List.of();
+    }
+
+    @Data
+    @NoArgsConstructor
+    static class Document {
+        private String version;
+        private List<String> categories = List.of();
+        private List<TagDefinition> tags = List.of();
+    }
+}
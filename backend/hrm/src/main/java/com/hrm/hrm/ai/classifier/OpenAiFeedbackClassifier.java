@@ -0,0 +1,462 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.dto.ClassificationResult;
+import com.hrm.hrm.ai.exception.AiCircuitOpenException;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.protection.PipelineProtectionManager;
+import com.hrm.hrm.ai.retry.AiRetryExecutor;
+import com.theokanning.openai.OpenAiHttpException;
+import com.theokanning.openai.completion.chat.ChatCompletionRequest;
+import com.theokanning.openai.completion.chat.ChatCompletionResult;
+import com.theokanning.openai.completion.chat.ChatMessage;
+import com.theokanning.openai.completion.chat.ChatMessageRole;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 파이프라인 1 Java 네이티브 실행 (utils/classification_processor.py + pipeline1 결과 구성 이식)
+ * - 프롬프트 구성, 채팅 완성 호출, 응답 파싱, 근거 검증을 JVM 안에서 처리해 프로세스 생성 비용 제거
+ * - HTTP 호출은 GptConfig의 OpenAiService 빈 (커넥션 풀 공유)
+ * - 재시도/서킷 브레이커는 Python 경로와 같은 AiRetryExecutor, PipelineProtectionManager 사용
+ * - AI 호출이 최종 실패하면 Python과 같이 키워드 매칭 분류로 대체
+ */
+@Slf4j
+@Component
+public class OpenAiFeedbackClassifier implements FeedbackClassifier {
+
+    private static final Set<String> SENTIMENTS = Set.of("Positive", "Negative", "Mixed");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern UNSAFE_CHARACTERS = Pattern.compile("[;&|`$()]");
+    private static final Pattern TAG_PATTERN = Pattern.compile("#([가-힣]+)");
+
+    private static final String SYSTEM_PROMPT = """
+        당신은 HR 전문가이자 텍스트 분석 AI입니다.
+
+        핵심 임무:
+        1. 주어진 피드백 텍스트를 분석하여 마스터 태그 리스트에서 가장 적합한 태그를 선택
+        2. 선택한 이유를 원본 텍스트에서 직접 인용하여 근거로 제시
+        3. 정확한 감정 분석 (긍정/부정/복합)
+
+        엄격한 규칙:
+        - 절대 마스터 태그 리스트에 없는 새로운 태그를 만들지 마세요
+        - evidence는 반드시 원본 텍스트에서 그대로 인용해야 합니다
+        - 확신이 없으면 선택하지 마세요 (빈 배열 반환 가능)
+        - 반드시 유효한 JSON 배열 형식으로만 응답하세요
+
+        분석 접근법:
+        1. 텍스트의 핵심 의미 파악
+        2. 마스터 태그와의 매칭도 검토
+        3. 감정의 방향성 판단
+        4. 구체적 근거 추출""";
+
+    // 캐시 키에도 포함되는 모델 - Python 엔진과 같은 OPENAI_MODEL_COST_EFFECTIVE 설정을 공유
+    @Value("${openai.model.cost-effective}")
+    private String model;
+
+    @Value("${app.ai.classifier.openai.max-tokens:500}")
+    private int maxTokens;
+
+    @Value("${app.ai.classifier.openai.temperature:0.2}")
+    private double temperature;
+
+    @Value("${app.ai.classifier.max-text-length:1000}")
+    private int maxTextLength;
+
+    private final OpenAiService openAiService;
+    private final MasterTagCatalog masterTags;
+    private final FeedbackCacheDigest cacheDigest;
+    private final ObjectMapper objectMapper;
+    private final AiRetryExecutor retryExecutor;
+    private final PipelineProtectionManager protectionManager;
+    private final Counter fallbackCounter;
+
+    public OpenAiFeedbackClassifier(OpenAiService openAiService, MasterTagCatalog masterTags,
+                                    FeedbackCacheDigest cacheDigest, ObjectMapper objectMapper,
+                                    AiRetryExecutor retryExecutor, PipelineProtectionManager protectionManager,
+                                    MeterRegistry meterRegistry) {
+        this.openAiService = openAiService;
+        this.masterTags = masterTags;
+        this.cacheDigest = cacheDigest;
+        this.objectMapper = objectMapper;
+        this.retryExecutor = retryExecutor;
+        this.protectionManager = protectionManager;
+        this.fallbackCounter = Counter.builder("ai.classifier.openai.fallback")
+            .description("Java classifier requests answered by keyword matching after the AI call failed")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String engine() {
+        return "java";
+    }
+
+    @Override
+    public AiResponse classify(AiRequest request) throws AiProcessingException {
+        long startTime = System.currentTimeMillis();
+        String feedbackText = request.getInputText();
+        String context = normalizeContext(request.getContext());
+        String correlationId = request.getCorrelationId();
+
+        if (feedbackText == null || feedbackText.isBlank()) {
+            throw new AiProcessingException("피드백 텍스트가 비어 있습니다", correlationId, request.getScript(), 2, "ValueError");
+        }
+        if (!masterTags.isLoaded()) {
+            throw new AiProcessingException("마스터 태그가 로드되지 않았습니다", correlationId, request.getScript(), 2, "ValueError");
+        }
+
+        List<ClassificationResult> results;
+        String method = "classification_v2";
+        try {
+            String cleanedText = preprocess(feedbackText);
+            List<String> potentialTags = masterTags.findPotentialTags(cleanedText);
+
+            List<JsonNode> rawResults = retryExecutor.execute(request, attempt -> protectionManager.execute(attempt,
+                () -> requestClassification(cleanedText, potentialTags, context, correlationId)));
+            results = validateAndClean(rawResults, cleanedText);
+
+        } catch (AiCircuitOpenException e) {
+            throw e;
+        } catch (AiProcessingException e) {
+            fallbackCounter.increment();
+            log.warn("OpenAI 분류 실패, 키워드 매칭으로 대체 (correlationId: {}): {}", correlationId, e.getMessage());
+            results = fallbackClassification(feedbackText);
+            // 캐시와 호출자가 대체 결과를 구분할 수 있도록 AiService 대체 응답과 같은 표시
+            method = "fallback_keyword";
+        }
+
+        return buildResponse(feedbackText, context, results, method, System.currentTimeMillis() - startTime,
+            correlationId);
+    }
+
+    /**
+     * 채팅 완성 호출 1회 - OpenAI 오류는 Python과 같은 error_type으로 변환해 재시도 판단에 사용
+     */
+    private List<JsonNode> requestClassification(String text, List<String> potentialTags, String context,
+                                                 String correlationId) {
+        ChatCompletionRequest completionRequest = ChatCompletionRequest.builder()
+            .model(model)
+            .messages(List.of(
+                new ChatMessage(ChatMessageRole.SYSTEM.value(), SYSTEM_PROMPT),
+                new ChatMessage(ChatMessageRole.USER.value(), buildPrompt(text, potentialTags, context))))
+            .maxTokens(maxTokens)
+            .temperature(temperature)
+            .build();
+
+        try {
+            ChatCompletionResult result = openAiService.createChatCompletion(completionRequest);
+            if (result.getChoices() == null || result.getChoices().isEmpty()) {
+                throw new AiProcessingException("OpenAI 응답에 선택지가 없습니다", correlationId, "openai", 1, "APIError");
+            }
+            return parseClassificationResponse(result.getChoices().get(0).getMessage().getContent());
+
+        } catch (OpenAiHttpException e) {
+            throw new AiProcessingException("OpenAI API 오류 (HTTP " + e.statusCode + "): " + e.getMessage(),
+                correlationId, "openai", 1, httpErrorType(e.statusCode));
+        } catch (AiProcessingException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            String errorType = hasCause(e, InterruptedIOException.class) ? "APITimeoutError"
+                : hasCause(e, IOException.class) ? "APIConnectionError" : e.getClass().getSimpleName();
+            throw new AiProcessingException("OpenAI 호출 실패: " + e.getMessage(), correlationId, "openai", 1, errorType);
+        }
+    }
+
+    private String httpErrorType(int statusCode) {
+        return switch (statusCode) {
+            case 400 -> "BadRequestError";
+            case 401 -> "AuthenticationError";
+            case 403 -> "PermissionDeniedError";
+            case 404 -> "NotFoundError";
+            case 429 -> "RateLimitError";
+            default -> statusCode >= 500 ? "InternalServerError" : "APIStatusError";
+        };
+    }
+
+    private boolean hasCause(Throwable e, Class<? extends Throwable> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 텍스트 전처리 - 길이 제한, 공백 정리, 특수문자 제거
+     */
+    String preprocess(String text) {
+        if (text.length() > maxTextLength) {
+            text = text.substring(0, maxTextLength) + "...";
+        }
+        text = WHITESPACE.matcher(text.strip()).replaceAll(" ");
+        return UNSAFE_CHARACTERS.matcher(text).replaceAll("");
+    }
+
+    /**
+     * 분류용 프롬프트 - 잠재적 태그가 있으면 해당 태그만 제시 (토큰 절약)
+     */
+    String buildPrompt(String text, List<String> potentialTags, String context) {
+        String tagList;
+        if (!potentialTags.isEmpty()) {
+            StringJoiner relevantTags = new StringJoiner("\n");
+            for (String keyword : potentialTags) {
+                MasterTagCatalog.TagDefinition tag = masterTags.getTag(keyword);
+                if (tag != null) {
+                    relevantTags.add(tag.getKeyword() + ": " + tag.getDefinition());
+                }
+            }
+            tagList = relevantTags.toString();
+        } else {
+            tagList = masterTags.formattedTagList();
+        }
+
+        StringBuilder prompt = new StringBuilder()
+            .append("\n[피드백 텍스트]\n\"").append(text).append("\"\n");
+        if (context != null) {
+            prompt.append("\n[컨텍스트]\n").append(context);
+        }
+        prompt.append("""
+
+
+            [마스터 태그 리스트]
+            """).append(tagList).append("""
+
+
+            위 피드백 텍스트를 분석하여 가장 적합한 마스터 태그를 선택하고 근거를 제시하세요.
+
+            [출력 규칙]
+            1. 최대 3개까지만 선택 (확신이 없으면 1개라도 상관없음)
+            2. 반드시 마스터 태그 리스트에 있는 태그만 사용
+            3. evidence는 원본 텍스트에서 직접 인용
+            4. 복합적 감정이면 Mixed 사용하고 세부 설명 추가
+            5. confidence는 0.3 이상인 것만 포함
+
+            [출력 형식]
+            [
+              {
+                "keyword": "#선택된_마스터_태그",
+                "sentiment": "Positive/Negative/Mixed",
+                "evidence": "근거가 되는 원본 문장",
+                "confidence": 0.8,
+                "mixed_details": {"positive": "긍정 부분", "negative": "부정 부분"}
+              }
+            ]
+            """);
+        return prompt.toString();
+    }
+
+    /**
+     * AI 응답 파싱 - JSON 배열의 유효 항목만 사용, JSON이 아니면 태그 패턴 추출
+     */
+    List<JsonNode> parseClassificationResponse(String content) {
+        JsonNode parsed;
+        try {
+            parsed = objectMapper.readTree(content == null ? "" : content);
+        } catch (JsonProcessingException e) {
+            return extractTagsWithRegex(content);
+        }
+
+        List<JsonNode> validItems = new ArrayList<>();
+        if (parsed == null || !parsed.isArray()) {
+            return validItems;
+        }
+        for (JsonNode item : parsed) {
+            if (isValidClassificationItem(item)) {
+                validItems.add(item);
+            }
+        }
+        return validItems;
+    }
+
+    private boolean isValidClassificationItem(JsonNode item) {
+        if (!item.isObject()) {
+            return false;
+        }
+        for (String field : List.of("keyword", "sentiment", "evidence", "confidence")) {
+            if (!item.has(field)) {
+                return false;
+            }
+        }
+        if (!masterTags.isValidTag(item.get("keyword").asText())
+                || !SENTIMENTS.contains(item.get("sentiment").asText())) {
+            return false;
+        }
+        Double confidence = confidenceOf(item.get("confidence"));
+        return confidence != null && confidence >= 0.3 && confidence <= 1.0;
+    }
+
+    private Double confidenceOf(JsonNode node) {
+        if (node.isNumber()) {
+            return node.asDouble();
+        }
+        if (node.isTextual()) {
+            try {
+                return Double.parseDouble(node.asText().strip());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private List<JsonNode> extractTagsWithRegex(String content) {
+        List<JsonNode> results = new ArrayList<>();
+        Matcher matcher = TAG_PATTERN.matcher(content);
+        while (matcher.find()) {
+            String keyword = "#" + matcher.group(1);
+            if (masterTags.isValidTag(keyword)) {
+                results.add(objectMapper.createObjectNode()
+                    .put("keyword", keyword)
+                    .put("sentiment", "Positive")
+                    .put("evidence", "AI 응답 파싱 실패로 기본 처리")
+                    .put("confidence", 0.5));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 결과 검증 및 정제 - 원본에 없는 근거는 원문 앞부분으로 대체, 신뢰도 순 최대 3개
+     */
+    List<ClassificationResult> validateAndClean(List<JsonNode> rawResults, String originalText) {
+        List<ClassificationResult> validated = new ArrayList<>();
+
+        for (JsonNode item : rawResults) {
+            String evidence = item.get("evidence").asText();
+            if (!isEvidenceInText(evidence, originalText)) {
+                evidence = originalText.length() > 100 ? originalText.substring(0, 100) + "..." : originalText;
+            }
+
+            String keyword = item.get("keyword").asText();
+            MasterTagCatalog.TagDefinition tag = masterTags.getTag(keyword);
+            ClassificationResult result = ClassificationResult.builder()
+                .keyword(keyword)
+                .sentiment(item.get("sentiment").asText())
+                .evidence(evidence)
+                .confidence(confidenceOf(item.get("confidence")))
+                .category(tag != null ? tag.getCategory() : null)
+                .mixedDetails(mixedDetailsOf(item.get("mixed_details")))
+                .build();
+
+            if (result.isValid()) {
+                validated.add(result);
+            }
+        }
+
+        validated.sort(Comparator.comparing(ClassificationResult::getConfidence).reversed());
+        return validated.size() > 3 ? new ArrayList<>(validated.subList(0, 3)) : validated;
+    }
+
+    private Map<String, String> mixedDetailsOf(JsonNode node) {
+        if (node == null || !node.isObject() || node.isEmpty()) {
+            return null;
+        }
+        Map<String, String> details = new LinkedHashMap<>();
+        node.fields().forEachRemaining(entry -> details.put(entry.getKey(), entry.getValue().asText()));
+        return details;
+    }
+
+    /**
+     * 근거가 원본 텍스트에 있는지 확인 (정확히 포함되거나 단어 80% 이상 일치)
+     */
+    private boolean isEvidenceInText(String evidence, String originalText) {
+        if (originalText.contains(evidence)) {
+            return true;
+        }
+        Set<String> evidenceWords = words(evidence);
+        if (evidenceWords.isEmpty()) {
+            return false;
+        }
+        Set<String> originalWords = words(originalText);
+        long overlap = evidenceWords.stream().filter(originalWords::contains).count();
+        return (double) overlap / evidenceWords.size() >= 0.8;
+    }
+
+    private Set<String> words(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : WHITESPACE.split(text.strip())) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * AI 실패 시 키워드 매칭 기반 분류 (최대 2개, 신뢰도 0.5)
+     */
+    List<ClassificationResult> fallbackClassification(String feedbackText) {
+        String lowerText = feedbackText.toLowerCase();
+        List<ClassificationResult> results = new ArrayList<>();
+
+        for (String keyword : masterTags.findPotentialTags(feedbackText)) {
+            if (results.size() >= 2) {
+                break;
+            }
+            MasterTagCatalog.TagDefinition tag = masterTags.getTag(keyword);
+            boolean negative = tag.getNegativeKeywords().stream().anyMatch(lowerText::contains);
+            results.add(ClassificationResult.builder()
+                .keyword(keyword)
+                .sentiment(negative ? "Negative" : "Positive")
+                .evidence(feedbackText)
+                .confidence(0.5)
+                .category(tag.getCategory())
+                .build());
+        }
+        return results;
+    }
+
+    /**
+     * pipeline1 _build_result와 같은 형태의 응답 구성
+     */
+    private AiResponse buildResponse(String feedbackText, String context, List<ClassificationResult> results,
+                                     String method, long processingTimeMs, String correlationId) {
+        Map<String, Object> statistics = ClassificationSummaries.statistics(results);
+
+        Map<String, Object> processingInfo = new LinkedHashMap<>();
+        processingInfo.put("method", method);
+        processingInfo.put("master_tags_version", masterTags.getVersion());
+        processingInfo.put("total_master_tags", masterTags.getAllTags().size());
+        processingInfo.put("processing_model", model);
+        processingInfo.put("engine", engine());
+
+        return AiResponse.builder()
+            .success(true)
+            .classificationResults(results)
+            .structuredTags(results.stream().map(ClassificationResult::toStructuredTag).toList())
+            .summary(ClassificationSummaries.summary(results, statistics))
+            .statistics(statistics)
+            .dataQuality(ClassificationSummaries.dataQuality(results, feedbackText, 3))
+            .processingInfo(processingInfo)
+            .cacheKey(cacheDigest.of(feedbackText, context))
+            .processingTimeMs(processingTimeMs)
+            .correlationId(correlationId)
+            .build();
+    }
+
+    /**
+     * 빈 컨텍스트("{}", "null", 공백)는 Python의 falsy 컨텍스트처럼 없는 것으로 취급
+     */
+    private String normalizeContext(String context) {
+        if (context == null || context.isBlank()) {
+            return null;
+        }
+        String trimmed = context.strip();
+        return trimmed.equals("{}") || trimmed.equals("null") ? null : trimmed;
+    }
+}
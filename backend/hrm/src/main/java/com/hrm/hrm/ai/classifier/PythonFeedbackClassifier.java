@@ -0,0 +1,30 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.hrm.hrm.ai.PythonBridge;
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Python 파이프라인 1 실행 (기존 경로)
+ */
+@Component
+public class PythonFeedbackClassifier implements FeedbackClassifier {
+
+    private final PythonBridge pythonBridge;
+
+    public PythonFeedbackClassifier(PythonBridge pythonBridge) {
+        this.pythonBridge = pythonBridge;
+    }
+
+    @Override
+    public String engine() {
+        return "python";
+    }
+
+    @Override
+    public AiResponse classify(AiRequest request) throws AiProcessingException {
+        return pythonBridge.executeScript(request);
+    }
+}
@@ -16,6 +16,16 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AiRequest {
     
+    /**
+     * 실행 모드 - 단건 처리 (기본값)
+     */
+    public static final String MODE_SINGLE = "single";
+    
+    /**
+     * 실행 모드 - 여러 피드백 일괄 분류 (inputText는 항목 배열 JSON)
+     */
+    public static final String MODE_BATCH = "batch";
+    
     /**
      * 실행할 Python 스크립트명
      */
@@ -26,6 +36,11 @@ public class AiRequest {
      */
     private String inputText;
     
+    /**
+     * 실행 모드 (single, batch) - null이면 single
+     */
+    private String mode;
+    
     /**
      * 추가 컨텍스트 (JSON 형태)
      */
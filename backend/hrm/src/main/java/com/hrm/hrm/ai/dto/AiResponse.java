@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
  * AI 파이프라인 응답 DTO (강화 버전)
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -0,0 +1,37 @@
+package com.hrm.hrm.ai.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 응답 캐시 항목 (stale-while-revalidate / 부정 캐시용)
+ * 신선도는 저장 시각 기준으로 판단하므로 Redis TTL과 별개로 동작
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedAiResponse {
+
+    /**
+     * 캐시된 응답 (부정 캐시 항목이면 실패 응답)
+     */
+    private AiResponse response;
+
+    /**
+     * 저장 시각 (epoch ms)
+     */
+    private long storedAtMs;
+
+    /**
+     * 실패 응답을 짧게 보관하는 부정 캐시 항목 여부
+     */
+    private boolean negative;
+
+    /**
+     * 마지막 백그라운드 갱신 실패 시각 (epoch ms) - 이 시각부터 부정 캐시 TTL 동안 재갱신하지 않음
+     */
+    private Long refreshFailedAtMs;
+}
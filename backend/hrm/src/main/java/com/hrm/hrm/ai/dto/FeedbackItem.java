@@ -0,0 +1,33 @@
+package com.hrm.hrm.ai.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 배치 분류 요청의 피드백 항목
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FeedbackItem {
+    
+    /**
+     * 항목 식별자 (PeerFeedback ID 등) - 결과 매칭용
+     */
+    private String itemId;
+    
+    /**
+     * 분류할 피드백 텍스트
+     */
+    private String feedbackText;
+    
+    /**
+     * 추가 컨텍스트 (JSON 형태, processFeedback의 context와 동일)
+     */
+    private String context;
+}
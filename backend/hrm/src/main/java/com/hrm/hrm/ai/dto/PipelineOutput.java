@@ -0,0 +1,58 @@
+package com.hrm.hrm.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Python 파이프라인 출력 JSON 바인딩용 DTO (snake_case 필드는 PipelineOutputReader에서 매핑)
+ * 파이프라인 1/2, 배치 응답을 하나의 형태로 받으며 모르는 필드는 무시
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PipelineOutput {
+    
+    private Boolean success;
+    
+    /**
+     * 파이프라인 1 결과
+     */
+    private List<ClassificationResult> classificationResults;
+    
+    @Deprecated
+    private List<StructuredTag> structuredTags;
+    
+    private String summary;
+    
+    private Map<String, Object> statistics;
+    
+    private Map<String, Object> dataQuality;
+    
+    private String cacheKey;
+    
+    /**
+     * 파이프라인 2 결과
+     */
+    private List<String> hypotheses;
+    
+    private String bestHypothesis;
+    
+    private CoachingCard coachingCard;
+    
+    private Map<String, Object> processingInfo;
+    
+    private String error;
+    
+    private String errorType;
+    
+    /**
+     * 배치 응답 - 항목별 결과와 항목 ID
+     */
+    private List<PipelineOutput> items;
+    
+    private String itemId;
+}
@@ -0,0 +1,20 @@
+package com.hrm.hrm.ai.exception;
+
+/**
+ * 파이프라인 보호 계층이 요청을 실행하지 않고 거부했을 때 발생하는 예외
+ * (서킷 브레이커 OPEN 또는 동시 실행 한도 초과)
+ */
+public class AiCircuitOpenException extends AiProcessingException {
+
+    public AiCircuitOpenException(String message, String correlationId, String aiPipeline) {
+        super(message, correlationId, aiPipeline);
+    }
+
+    /**
+     * 과부하 상태에서 재시도하면 부하만 키우므로 즉시 실패 처리
+     */
+    @Override
+    public boolean isRetryable() {
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.hrm.hrm.ai.exception;
+
+/**
+ * Python 프로세스 출력이 허용 크기를 초과했을 때 발생하는 예외
+ * 타임아웃과 구분하기 위해 별도 타입으로 분리
+ */
+public class AiOutputTooLargeException extends AiProcessingException {
+
+    private final long limitBytes;
+
+    public AiOutputTooLargeException(String message, String correlationId, String aiPipeline, long limitBytes) {
+        super(message, correlationId, aiPipeline);
+        this.limitBytes = limitBytes;
+    }
+
+    public long getLimitBytes() {
+        return limitBytes;
+    }
+
+    /**
+     * 같은 입력은 다시 실행해도 같은 크기의 출력을 내므로 재시도하지 않음
+     */
+    @Override
+    public boolean isRetryable() {
+        return false;
+    }
+}
@@ -1,19 +1,31 @@
 package com.hrm.hrm.ai.exception;
 
+import java.util.Set;
+
 /**
  * AI 처리 과정에서 발생하는 예외
  */
 public class AiProcessingException extends RuntimeException {
     
+    /**
+     * Python 측이 보고하는 일시적 오류 타입 (error_type)
+     */
+    private static final Set<String> TRANSIENT_ERROR_TYPES = Set.of(
+        "RateLimitError", "APITimeoutError", "APIConnectionError", "InternalServerError",
+        "TimeoutError", "ConnectionError"
+    );
+    
     private final String correlationId;
     private final String aiPipeline;
     private final int exitCode;
+    private final String errorType;
     
     public AiProcessingException(String message, String correlationId) {
         super(message);
         this.correlationId = correlationId;
         this.aiPipeline = "unknown";
         this.exitCode = -1;
+        this.errorType = null;
     }
     
     public AiProcessingException(String message, String correlationId, String aiPipeline) {
@@ -21,6 +33,7 @@ public class AiProcessingException extends RuntimeException {
         this.correlationId = correlationId;
         this.aiPipeline = aiPipeline;
         this.exitCode = -1;
+        this.errorType = null;
     }
     
     public AiProcessingException(String message, String correlationId, String aiPipeline, int exitCode) {
@@ -28,6 +41,16 @@ public class AiProcessingException extends RuntimeException {
         this.correlationId = correlationId;
         this.aiPipeline = aiPipeline;
         this.exitCode = exitCode;
+        this.errorType = null;
+    }
+    
+    public AiProcessingException(String message, String correlationId, String aiPipeline, int exitCode,
+                                 String errorType) {
+        super(message);
+        this.correlationId = correlationId;
+        this.aiPipeline = aiPipeline;
+        this.exitCode = exitCode;
+        this.errorType = errorType;
     }
     
     public AiProcessingException(String message, Throwable cause, String correlationId) {
@@ -35,6 +58,7 @@ public class AiProcessingException extends RuntimeException {
         this.correlationId = correlationId;
         this.aiPipeline = "unknown";
         this.exitCode = -1;
+        this.errorType = null;
     }
     
     public String getCorrelationId() {
@@ -49,10 +73,20 @@ public class AiProcessingException extends RuntimeException {
         return exitCode;
     }
     
+    /**
+     * Python 측이 보고한 오류 타입 (예: RateLimitError), 없으면 null
+     */
+    public String getErrorType() {
+        return errorType;
+    }
+    
     /**
      * 일시적 오류 여부 판단
      */
     public boolean isTransient() {
+        if (errorType != null && TRANSIENT_ERROR_TYPES.contains(errorType)) {
+            return true;
+        }
         String message = getMessage().toLowerCase();
         return message.contains("timeout") 
             || message.contains("network") 
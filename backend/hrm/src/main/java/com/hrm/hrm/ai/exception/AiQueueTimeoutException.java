@@ -0,0 +1,19 @@
+package com.hrm.hrm.ai.exception;
+
+/**
+ * 작업 스케줄러 대기열에서 실행 슬롯을 받지 못하고 대기 시간이 만료되었을 때 발생하는 예외
+ * 파이프라인은 실행되지 않았으므로 보호 계층의 실패율에는 반영하지 않음
+ */
+public class AiQueueTimeoutException extends AiProcessingException {
+
+    private final long queueTimeoutMs;
+
+    public AiQueueTimeoutException(String message, String correlationId, long queueTimeoutMs) {
+        super(message, correlationId);
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    public long getQueueTimeoutMs() {
+        return queueTimeoutMs;
+    }
+}
@@ -0,0 +1,27 @@
+package com.hrm.hrm.ai.exception;
+
+/**
+ * 파이프라인 출력 JSON을 응답 DTO로 바인딩하지 못했을 때 발생하는 예외
+ * fieldPath는 실패 위치 (예: classification_results[2].confidence)
+ */
+public class AiResponseParseException extends AiProcessingException {
+
+    private final String fieldPath;
+
+    public AiResponseParseException(String message, Throwable cause, String correlationId, String fieldPath) {
+        super(message, cause, correlationId);
+        this.fieldPath = fieldPath;
+    }
+
+    public String getFieldPath() {
+        return fieldPath;
+    }
+
+    /**
+     * 출력 형식 불일치는 다시 실행해도 반복되므로 재시도하지 않음
+     */
+    @Override
+    public boolean isRetryable() {
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.hrm.hrm.ai.exception;
+
+/**
+ * Python 스크립트가 제한 시간 안에 끝나지 않았을 때 발생하는 예외
+ */
+public class AiTimeoutException extends AiProcessingException {
+
+    private final int timeoutSeconds;
+
+    public AiTimeoutException(String message, String correlationId, String aiPipeline, int timeoutSeconds) {
+        super(message, correlationId, aiPipeline);
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+}
@@ -0,0 +1,88 @@
+package com.hrm.hrm.ai.process;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.hrm.hrm.ai.dto.PipelineOutput;
+import com.hrm.hrm.ai.exception.AiResponseParseException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 파이프라인 출력 JSON -> PipelineOutput 직접 바인딩
+ * - Map 중간 표현과 필드별 캐스팅 없이 Jackson 스트리밍 파서에서 타입 DTO로 바로 읽음
+ * - snake_case 매핑은 이 리더에만 적용 (API 응답 DTO의 직렬화 형식은 그대로 유지)
+ * - 실패 시 필드 경로를 담은 AiResponseParseException
+ */
+@Component
+public class PipelineOutputReader {
+
+    private final ObjectReader reader;
+
+    public PipelineOutputReader(ObjectMapper objectMapper) {
+        this.reader = objectMapper.copy()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .readerFor(PipelineOutput.class);
+    }
+
+    public PipelineOutput read(byte[] json, String correlationId) throws AiResponseParseException {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw parseFailure(e, correlationId);
+        }
+    }
+
+    /**
+     * 워커 응답처럼 이미 트리로 읽힌 출력 바인딩 (문자열 재직렬화 없음)
+     */
+    public PipelineOutput read(JsonNode json, String correlationId) throws AiResponseParseException {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw parseFailure(e, correlationId);
+        }
+    }
+
+    private AiResponseParseException parseFailure(IOException e, String correlationId) {
+        if (e instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()) {
+            String fieldPath = fieldPath(mappingException);
+            return new AiResponseParseException(
+                String.format("AI 응답 필드 바인딩 실패 (%s): %s", fieldPath, mappingException.getOriginalMessage()),
+                e, correlationId, fieldPath);
+        }
+        if (e instanceof JsonProcessingException processingException && processingException.getLocation() != null) {
+            JsonLocation location = processingException.getLocation();
+            return new AiResponseParseException(
+                String.format("AI 응답 JSON 구문 오류 (line %d, column %d): %s",
+                    location.getLineNr(), location.getColumnNr(), processingException.getOriginalMessage()),
+                e, correlationId, null);
+        }
+        return new AiResponseParseException("AI 응답 읽기 실패: " + e.getMessage(), e, correlationId, null);
+    }
+
+    /**
+     * Jackson 참조 경로 -> JSON 필드 경로 (예: items[3].classification_results[0].confidence)
+     */
+    private String fieldPath(JsonMappingException e) {
+        StringBuilder path = new StringBuilder();
+        for (JsonMappingException.Reference reference : e.getPath()) {
+            if (reference.getFieldName() != null) {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(reference.getFieldName());
+            } else if (reference.getIndex() >= 0) {
+                path.append('[').append(reference.getIndex()).append(']');
+            }
+        }
+        return path.toString();
+    }
+}
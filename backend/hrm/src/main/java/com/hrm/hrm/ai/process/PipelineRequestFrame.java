@@ -0,0 +1,63 @@
+package com.hrm.hrm.ai.process;
+
+import com.hrm.hrm.ai.dto.AiRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Python 파이프라인 요청 envelope과 stdin 프레임 형식
+ * 프레임: [flags 1바이트][payload 길이 4바이트 big-endian][payload] (ai/utils/transport.py와 동일)
+ * flags bit0 = gzip 압축
+ */
+public final class PipelineRequestFrame {
+
+    public static final int FLAG_GZIP = 0x01;
+
+    private PipelineRequestFrame() {
+    }
+
+    /**
+     * 요청 envelope (워커 요청과 stdin 프레임 payload 공용)
+     */
+    public static Map<String, Object> envelope(AiRequest request) {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("correlation_id", request.getCorrelationId());
+        envelope.put("mode", request.getMode() != null ? request.getMode() : AiRequest.MODE_SINGLE);
+        envelope.put("input_text", request.getInputText());
+        envelope.put("context", request.getContext());
+        return envelope;
+    }
+
+    /**
+     * 프레임 하나를 쓰고 flush - compressMinBytes 이상이면 gzip 압축 (0 미만이면 압축하지 않음)
+     * @return 실제 전송된 payload 바이트 수
+     */
+    public static int write(OutputStream out, byte[] payload, int compressMinBytes) throws IOException {
+        int flags = 0;
+        byte[] body = payload;
+
+        if (compressMinBytes >= 0 && payload.length >= compressMinBytes) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(payload);
+            }
+            if (compressed.size() < payload.length) {
+                flags |= FLAG_GZIP;
+                body = compressed.toByteArray();
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeByte(flags);
+        data.writeInt(body.length);
+        data.write(body);
+        data.flush();
+        return body.length;
+    }
+}
@@ -0,0 +1,219 @@
+package com.hrm.hrm.ai.process;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+
+/**
+ * Python 프로세스의 stdout/stderr를 실행 중에 동시에 비우는 펌프
+ * - 파이프 버퍼가 가득 차 자식 프로세스가 write에서 멈추는 상황 방지
+ * - 스트림별 바이트 상한 적용 (stdout 초과 시 프로세스 종료, stderr 초과 시 절단)
+ * - stdout을 줄 단위로 분류: 구조화 로그 줄은 로그로 넘기고, 결과 JSON 줄은 바이트 그대로 보관
+ *   (결과는 문자열 변환 없이 PipelineOutputReader가 바로 바인딩)
+ */
+@Slf4j
+public class ProcessOutputPump {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final byte[] STRUCTURED_LOG_PREFIX = "{\"timestamp\"".getBytes(StandardCharsets.UTF_8);
+
+    private final Process process;
+    private final String correlationId;
+    private final long maxStdoutBytes;
+    private final long maxStderrBytes;
+
+    private final StringBuilder stdout = new StringBuilder();
+    private final StringBuilder stderr = new StringBuilder();
+    private volatile byte[] lastJsonLine;
+    private volatile boolean stdoutOverflow;
+    private volatile boolean stderrTruncated;
+    private volatile long stdoutBytes;
+    private volatile long stderrBytes;
+
+    private Future<?> stdoutTask;
+    private Future<?> stderrTask;
+
+    private ProcessOutputPump(Process process, String correlationId, long maxStdoutBytes, long maxStderrBytes) {
+        this.process = process;
+        this.correlationId = correlationId;
+        this.maxStdoutBytes = maxStdoutBytes;
+        this.maxStderrBytes = maxStderrBytes;
+    }
+
+    /**
+     * 프로세스 시작 직후 호출 - 두 스트림 펌프를 executor에서 시작
+     */
+    public static ProcessOutputPump start(Process process, ExecutorService executor, String correlationId,
+                                          long maxStdoutBytes, long maxStderrBytes) {
+        ProcessOutputPump pump = new ProcessOutputPump(process, correlationId, maxStdoutBytes, maxStderrBytes);
+        pump.stdoutTask = executor.submit(() -> pump.pump(process.getInputStream(), true));
+        pump.stderrTask = executor.submit(() -> pump.pump(process.getErrorStream(), false));
+        return pump;
+    }
+
+    /**
+     * 프로세스 종료 후 남은 출력을 마저 읽을 때까지 대기
+     * (손자 프로세스가 파이프를 잡고 있을 수 있으므로 대기 시간은 제한)
+     */
+    public void awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Future<?> task : new Future<?>[]{stdoutTask, stderrTask}) {
+            try {
+                task.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.cancel(true);
+                log.warn("프로세스 출력 드레인 타임아웃 (correlationId: {})", correlationId);
+            } catch (ExecutionException e) {
+                log.warn("프로세스 출력 읽기 실패 (correlationId: {}): {}", correlationId, e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void pump(InputStream inputStream, boolean isStdout) {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        ByteArrayOutputStream currentLine = new ByteArrayOutputStream();
+
+        try (InputStream in = inputStream) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (!accept(read, isStdout)) {
+                    continue; // 상한 초과분은 버리되 계속 읽어 자식이 막히지 않게 함
+                }
+                int lineStart = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        currentLine.write(buffer, lineStart, i - lineStart);
+                        onLine(currentLine.toByteArray(), isStdout);
+                        currentLine.reset();
+                        lineStart = i + 1;
+                    }
+                }
+                currentLine.write(buffer, lineStart, read - lineStart);
+            }
+            if (currentLine.size() > 0) {
+                onLine(currentLine.toByteArray(), isStdout);
+            }
+        } catch (IOException e) {
+            // 프로세스 강제 종료 시 스트림이 닫히는 것은 정상
+            log.debug("프로세스 스트림 종료 (correlationId: {}): {}", correlationId, e.getMessage());
+        }
+    }
+
+    /**
+     * 바이트 상한 확인 - 보관 가능한 청크면 true
+     */
+    private boolean accept(int read, boolean isStdout) {
+        if (isStdout) {
+            stdoutBytes += read;
+            if (stdoutBytes > maxStdoutBytes) {
+                if (!stdoutOverflow) {
+                    stdoutOverflow = true;
+                    log.warn("Python stdout 상한 초과 ({} bytes), 프로세스 종료 (correlationId: {})",
+                        maxStdoutBytes, correlationId);
+                    ProcessReaper.destroyTree(process);
+                }
+                return false;
+            }
+        } else {
+            stderrBytes += read;
+            if (stderrBytes > maxStderrBytes) {
+                if (!stderrTruncated) {
+                    stderrTruncated = true;
+                    log.debug("Python stderr 상한 초과 ({} bytes), 이후 출력 생략 (correlationId: {})",
+                        maxStderrBytes, correlationId);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void onLine(byte[] line, boolean isStdout) {
+        if (!isStdout) {
+            synchronized (stderr) {
+                stderr.append(new String(line, StandardCharsets.UTF_8)).append('\n');
+            }
+            return;
+        }
+
+        int start = skipWhitespace(line);
+        if (startsWith(line, start, STRUCTURED_LOG_PREFIX)) {
+            // StructuredLogger 로그 줄 - 결과와 섞이지 않도록 보관하지 않음
+            if (log.isDebugEnabled()) {
+                log.debug("[python] {}", new String(line, StandardCharsets.UTF_8).trim());
+            }
+            return;
+        }
+        if (start < line.length && line[start] == '{') {
+            lastJsonLine = line;
+            return;
+        }
+        synchronized (stdout) {
+            stdout.append(new String(line, StandardCharsets.UTF_8)).append('\n');
+        }
+    }
+
+    private static int skipWhitespace(byte[] line) {
+        int i = 0;
+        while (i < line.length && (line[i] == ' ' || line[i] == '\t' || line[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean startsWith(byte[] line, int offset, byte[] prefix) {
+        if (line.length - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (line[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 결과 JSON 줄 (마지막 JSON 객체 줄) 바이트, 없으면 로그 줄을 제외한 나머지 stdout
+     */
+    public byte[] getResultBytes() {
+        byte[] jsonLine = lastJsonLine;
+        return jsonLine != null ? jsonLine : getStdout().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 결과 문자열 (오류 보고/디버깅용)
+     */
+    public String getResult() {
+        return new String(getResultBytes(), StandardCharsets.UTF_8).trim();
+    }
+
+    public String getStdout() {
+        synchronized (stdout) {
+            return stdout.toString().trim();
+        }
+    }
+
+    public String getStderr() {
+        synchronized (stderr) {
+            String error = stderr.toString().trim();
+            return stderrTruncated ? error + "\n...(truncated)" : error;
+        }
+    }
+
+    public boolean isStdoutOverflow() {
+        return stdoutOverflow;
+    }
+
+    public long getStdoutBytes() {
+        return stdoutBytes;
+    }
+
+    public long getMaxStdoutBytes() {
+        return maxStdoutBytes;
+    }
+}
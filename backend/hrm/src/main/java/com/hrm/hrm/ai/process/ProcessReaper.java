@@ -0,0 +1,246 @@
+package com.hrm.hrm.ai.process;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이 JVM이 띄운 Python 프로세스 트리 관리
+ * - 실행한 프로세스와 그 자손(ProcessHandle.descendants)을 추적해 타임아웃/종료 시 트리 전체를 종료
+ * - 부모가 먼저 죽어 고아가 된 자손도 잡을 수 있도록 주기적으로 자손 목록을 기록
+ * - 주기적 스윕: 종료된 프로세스의 남은 자손, 수명 초과 단발 실행, 추적되지 않은 Python 자식 정리
+ * - JVM 종료 시(셧다운 훅 + 컨텍스트 종료) 추적 중인 트리 전체 종료
+ */
+@Slf4j
+@Component
+public class ProcessReaper {
+
+    @Value("${app.ai.python.path:python}")
+    private String pythonPath;
+
+    @Value("${app.ai.reaper.sweep.ms:30000}")
+    private long sweepIntervalMs;
+
+    // 단발 실행 프로세스의 최대 수명 (어떤 타임아웃보다도 길게)
+    @Value("${app.ai.reaper.max-age.ms:600000}")
+    private long maxAgeMs;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, TrackedProcess> tracked = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "py-process-reaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Thread shutdownHook = new Thread(this::killAll, "py-process-reaper-shutdown");
+    private Counter reapedCounter;
+
+    public ProcessReaper(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        Gauge.builder("ai.process.children.live", this, ProcessReaper::countLiveDescendants)
+            .description("Live child processes (and their descendants) of this JVM")
+            .register(meterRegistry);
+        Gauge.builder("ai.process.tracked", tracked, Map::size)
+            .description("Python processes tracked by the reaper")
+            .register(meterRegistry);
+        reapedCounter = Counter.builder("ai.process.reaped")
+            .description("Processes killed by the reaper (timeouts, leaks, shutdown)")
+            .register(meterRegistry);
+
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 새로 띄운 프로세스 등록 - longLived(워커)는 최대 수명 제한에서 제외
+     */
+    public void register(Process process, String label, boolean longLived) {
+        TrackedProcess trackedProcess = new TrackedProcess(process.toHandle(), label, longLived);
+        tracked.put(process.pid(), trackedProcess);
+
+        // 정상 종료 시에도 남은 자손(고아)이 있으면 정리
+        process.onExit().thenRun(() -> {
+            tracked.remove(process.pid());
+            killRecordedDescendants(trackedProcess, "부모 종료 후 남은 자손");
+        });
+    }
+
+    /**
+     * 프로세스와 모든 자손 강제 종료 (타임아웃 등)
+     */
+    public void killTree(Process process, String reason) {
+        TrackedProcess trackedProcess = tracked.remove(process.pid());
+        // 스윕 기록은 최대 한 주기 늦으므로 종료 시점의 자손을 직접 수집하고, 이미 고아가 된 기록된 자손과 합침
+        int killed = destroyTree(process.toHandle(),
+            trackedProcess != null ? trackedProcess.descendants : Set.of());
+        if (killed > 0) {
+            reapedCounter.increment(killed);
+            log.warn("프로세스 트리 종료: pid={} ({}개, 사유: {})", process.pid(), killed, reason);
+        }
+    }
+
+    /**
+     * 자손을 먼저 수집한 뒤 트리 전체 강제 종료 (부모를 먼저 죽이면 자손이 재부모화되어 놓칠 수 있음)
+     * @return 종료 신호를 보낸 프로세스 수
+     */
+    public static int destroyTree(ProcessHandle root) {
+        return destroyTree(root, Set.of());
+    }
+
+    /**
+     * 종료 시점의 자손 스냅샷 + 이전에 기록된 자손을 부모보다 먼저 종료
+     * 부모가 살아 있는 동안 자손을 죽여 부모가 새 자식을 띄우거나 자손이 재부모화되는 틈을 줄임
+     */
+    private static int destroyTree(ProcessHandle root, Collection<ProcessHandle> knownDescendants) {
+        Set<ProcessHandle> descendants = new LinkedHashSet<>();
+        root.descendants().forEach(descendants::add);
+        descendants.addAll(knownDescendants);
+
+        int killed = 0;
+        for (ProcessHandle descendant : descendants) {
+            if (descendant.isAlive() && descendant.destroyForcibly()) {
+                killed++;
+            }
+        }
+        if (root.isAlive() && root.destroyForcibly()) {
+            killed++;
+        }
+        return killed;
+    }
+
+    public static int destroyTree(Process process) {
+        return destroyTree(process.toHandle());
+    }
+
+    /**
+     * 주기적 정리
+     */
+    void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            for (TrackedProcess trackedProcess : tracked.values()) {
+                if (!trackedProcess.handle.isAlive()) {
+                    tracked.remove(trackedProcess.handle.pid());
+                    reap(killRecordedDescendants(trackedProcess, "부모 종료 후 남은 자손"));
+                    continue;
+                }
+                if (!trackedProcess.longLived && now - trackedProcess.startedAt > maxAgeMs) {
+                    tracked.remove(trackedProcess.handle.pid());
+                    reap(destroyTree(trackedProcess.handle, trackedProcess.descendants));
+                    log.warn("수명 초과 Python 프로세스 종료: pid={} ({})", trackedProcess.handle.pid(), trackedProcess.label);
+                    continue;
+                }
+                // 고아가 되기 전에 현재 자손 기록
+                trackedProcess.handle.descendants().forEach(d -> trackedProcess.descendants.add(d));
+            }
+
+            // 추적되지 않은 Python 자식 (등록 전 실패 등으로 누수된 인터프리터)
+            ProcessHandle.current().children()
+                .filter(child -> !tracked.containsKey(child.pid()))
+                .filter(this::isPythonInterpreter)
+                .filter(child -> startedBefore(child, now - sweepIntervalMs))
+                .forEach(child -> {
+                    log.warn("추적되지 않은 Python 프로세스 정리: pid={} ({})",
+                        child.pid(), child.info().commandLine().orElse("?"));
+                    reap(destroyTree(child));
+                });
+
+        } catch (Exception e) {
+            log.warn("프로세스 스윕 실패: {}", e.getMessage());
+        }
+    }
+
+    private int killRecordedDescendants(TrackedProcess trackedProcess, String reason) {
+        int killed = 0;
+        for (ProcessHandle descendant : trackedProcess.descendants) {
+            if (descendant.isAlive() && descendant.destroyForcibly()) {
+                killed++;
+            }
+        }
+        if (killed > 0) {
+            log.warn("Python 자손 프로세스 {}개 종료 (부모 pid={}, 사유: {})", killed, trackedProcess.handle.pid(), reason);
+        }
+        return killed;
+    }
+
+    private void reap(int killed) {
+        if (killed > 0 && reapedCounter != null) {
+            reapedCounter.increment(killed);
+        }
+    }
+
+    private boolean isPythonInterpreter(ProcessHandle handle) {
+        Optional<String> command = handle.info().command();
+        String executable = pythonPath.substring(pythonPath.lastIndexOf('/') + 1);
+        return command.map(c -> c.substring(c.lastIndexOf('/') + 1).startsWith(executable)).orElse(false);
+    }
+
+    private boolean startedBefore(ProcessHandle handle, long epochMillis) {
+        return handle.info().startInstant()
+            .map(start -> start.toEpochMilli() < epochMillis)
+            .orElse(false);
+    }
+
+    private double countLiveDescendants() {
+        return ProcessHandle.current().descendants().filter(ProcessHandle::isAlive).count();
+    }
+
+    /**
+     * 추적 중인 모든 프로세스 트리 종료 (JVM 종료 시)
+     */
+    void killAll() {
+        int killed = 0;
+        for (TrackedProcess trackedProcess : tracked.values()) {
+            killed += destroyTree(trackedProcess.handle, trackedProcess.descendants);
+        }
+        tracked.clear();
+        if (killed > 0) {
+            log.info("종료 시 Python 프로세스 {}개 정리", killed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+        killAll();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // 이미 JVM 종료 중 - 훅이 실행됨
+        }
+    }
+
+    private static final class TrackedProcess {
+        private final ProcessHandle handle;
+        private final String label;
+        private final boolean longLived;
+        private final long startedAt = System.currentTimeMillis();
+        private final Set<ProcessHandle> descendants = ConcurrentHashMap.newKeySet();
+
+        private TrackedProcess(ProcessHandle handle, String label, boolean longLived) {
+            this.handle = handle;
+            this.label = label;
+            this.longLived = longLived;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.hrm.hrm.ai.protection;
+
+import com.hrm.hrm.ai.exception.AiCircuitOpenException;
+import com.hrm.hrm.ai.exception.AiOutputTooLargeException;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.exception.AiQueueTimeoutException;
+import com.hrm.hrm.ai.exception.AiTimeoutException;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Supplier;
+
+/**
+ * 스크립트 하나에 대한 서킷 브레이커 + AIMD 동시 실행 한도
+ * - CLOSED: 최근 windowSize건 중 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: openDurationMs 동안 즉시 거부, 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenTrials건만 통과, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * - 한도: 정상 응답마다 1/limit씩 증가, 과부하 신호(rate limit, 타임아웃, 느린 응답)마다 backoffRatio 배로 감소
+ */
+@Slf4j
+class PipelineGuard {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Value
+    @Builder
+    static class Settings {
+        int windowSize;
+        int minimumCalls;
+        double failureRateThreshold;
+        long openDurationMs;
+        int halfOpenTrials;
+        int initialLimit;
+        int minLimit;
+        int maxLimit;
+        double backoffRatio;
+        long latencyThresholdMs;
+    }
+
+    private final String script;
+    private final Settings settings;
+
+    // 최근 결과 링 버퍼 (true = 실패)
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failuresInWindow;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    private double limit;
+    private int inFlight;
+
+    private long rejectedCount;
+    private long openedCount;
+
+    PipelineGuard(String script, Settings settings) {
+        this.script = script;
+        this.settings = settings;
+        this.outcomes = new boolean[settings.getWindowSize()];
+        this.limit = settings.getInitialLimit();
+    }
+
+    /**
+     * 보호 계층을 통과하면 작업 실행, 아니면 AiCircuitOpenException
+     */
+    <T> T execute(String correlationId, Supplier<T> task) throws AiProcessingException {
+        State admittedIn = acquire(correlationId);
+        long startTime = System.currentTimeMillis();
+        try {
+            T result = task.get();
+            onSuccess(admittedIn, System.currentTimeMillis() - startTime);
+            return result;
+        } catch (AiProcessingException e) {
+            onFailure(admittedIn, e);
+            throw e;
+        } catch (RuntimeException e) {
+            onFailure(admittedIn, null);
+            throw e;
+        }
+    }
+
+    private synchronized State acquire(String correlationId) {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < settings.getOpenDurationMs()) {
+                rejectedCount++;
+                throw new AiCircuitOpenException(
+                    String.format("AI 파이프라인 서킷 OPEN 상태 - 즉시 실패 처리 (%s)", script), correlationId, script);
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits <= 0) {
+                rejectedCount++;
+                throw new AiCircuitOpenException(
+                    String.format("AI 파이프라인 서킷 HALF_OPEN 시험 호출 진행 중 (%s)", script), correlationId, script);
+            }
+            halfOpenPermits--;
+        } else if (inFlight >= getLimit()) {
+            rejectedCount++;
+            throw new AiCircuitOpenException(
+                String.format("AI 파이프라인 동시 실행 한도 초과 (%s, 한도 %d)", script, getLimit()), correlationId, script);
+        }
+
+        inFlight++;
+        return state;
+    }
+
+    private synchronized void onSuccess(State admittedIn, long latencyMs) {
+        inFlight--;
+
+        if (latencyMs > settings.getLatencyThresholdMs()) {
+            decreaseLimit();
+        } else if (inFlight + 1 >= getLimit()) {
+            // 한도까지 사용 중일 때만 증가 - 여유가 있는데 한도만 부풀지 않도록
+            limit = Math.min(settings.getMaxLimit(), limit + 1.0 / limit);
+        }
+
+        if (admittedIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= settings.getHalfOpenTrials()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    private synchronized void onFailure(State admittedIn, AiProcessingException e) {
+        inFlight--;
+
+        if (e != null && !countsAsFailure(e)) {
+            // 입력 오류 등 영구적 실패는 파이프라인 상태와 무관
+            if (admittedIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+                halfOpenPermits++;
+            }
+            return;
+        }
+
+        if (e == null || e.isTransient() || e instanceof AiTimeoutException) {
+            decreaseLimit();
+        }
+
+        if (admittedIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= settings.getMinimumCalls()
+                    && (double) failuresInWindow / recordedCalls >= settings.getFailureRateThreshold()) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 파이프라인 상태를 반영하는 실패인지 여부
+     * 입력 오류(exit code 2), 출력 상한 초과, 스케줄러 대기 시간 초과, 호출자 인터럽트는 제외
+     */
+    private boolean countsAsFailure(AiProcessingException e) {
+        return e.getExitCode() != 2
+            && !(e instanceof AiOutputTooLargeException)
+            && !(e instanceof AiQueueTimeoutException)
+            && !(e.getCause() instanceof InterruptedException);
+    }
+
+    private void decreaseLimit() {
+        limit = Math.max(settings.getMinLimit(), limit * settings.getBackoffRatio());
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failuresInWindow--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failuresInWindow++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State next) {
+        log.warn("AI 파이프라인 서킷 상태 변경: {} {} -> {} (한도 {})", script, state, next, getLimit());
+        state = next;
+
+        switch (next) {
+            case OPEN -> {
+                openedAt = System.currentTimeMillis();
+                openedCount++;
+            }
+            case HALF_OPEN -> {
+                halfOpenPermits = settings.getHalfOpenTrials();
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                recordedCalls = 0;
+                failuresInWindow = 0;
+                outcomeIndex = 0;
+            }
+        }
+    }
+
+    synchronized State getState() {
+        // 조회 시점에도 OPEN 유지 시간이 지났으면 HALF_OPEN으로 보이도록
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= settings.getOpenDurationMs()) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    synchronized int getLimit() {
+        return (int) Math.floor(limit);
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    synchronized long getOpenedCount() {
+        return openedCount;
+    }
+}
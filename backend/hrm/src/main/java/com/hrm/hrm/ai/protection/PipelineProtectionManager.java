@@ -0,0 +1,132 @@
+package com.hrm.hrm.ai.protection;
+
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 파이프라인 스크립트별 보호 계층 (서킷 브레이커 + 적응형 동시 실행 한도)
+ * OpenAI rate limit 등으로 파이프라인이 과부하일 때 모든 호출자가 동시에 재시도하며
+ * 부하를 키우지 않도록, 한도를 자동으로 줄이고 서킷이 열리면 즉시 실패 처리
+ */
+@Slf4j
+@Component
+public class PipelineProtectionManager {
+
+    @Value("${app.ai.protection.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.protection.window-size:20}")
+    private int windowSize;
+
+    @Value("${app.ai.protection.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${app.ai.protection.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${app.ai.protection.open-duration.ms:30000}")
+    private long openDurationMs;
+
+    @Value("${app.ai.protection.half-open-trials:3}")
+    private int halfOpenTrials;
+
+    @Value("${app.ai.protection.limit.initial:4}")
+    private int initialLimit;
+
+    @Value("${app.ai.protection.limit.min:1}")
+    private int minLimit;
+
+    @Value("${app.ai.protection.limit.max:16}")
+    private int maxLimit;
+
+    @Value("${app.ai.protection.limit.backoff-ratio:0.5}")
+    private double backoffRatio;
+
+    @Value("${app.ai.protection.latency-threshold.ms:20000}")
+    private long latencyThresholdMs;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, PipelineGuard> guards = new ConcurrentHashMap<>();
+
+    public PipelineProtectionManager(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 요청 스크립트의 보호 계층을 거쳐 작업 실행
+     * 거부 시 AiCircuitOpenException (재시도 불가)
+     */
+    public <T> T execute(AiRequest request, Supplier<T> task) throws AiProcessingException {
+        if (!enabled) {
+            return task.get();
+        }
+        return guards.computeIfAbsent(request.getScript(), this::createGuard)
+            .execute(request.getCorrelationId(), task);
+    }
+
+    /**
+     * 서킷이 열려 있어 요청이 즉시 거부되는 상태인지 여부
+     */
+    public boolean isOpen(String script) {
+        PipelineGuard guard = guards.get(script);
+        return guard != null && guard.getState() == PipelineGuard.State.OPEN;
+    }
+
+    private PipelineGuard createGuard(String script) {
+        PipelineGuard.Settings settings = PipelineGuard.Settings.builder()
+            .windowSize(Math.max(windowSize, 1))
+            .minimumCalls(Math.max(minimumCalls, 1))
+            .failureRateThreshold(failureRateThreshold)
+            .openDurationMs(openDurationMs)
+            .halfOpenTrials(Math.max(halfOpenTrials, 1))
+            .initialLimit(Math.max(initialLimit, minLimit))
+            .minLimit(Math.max(minLimit, 1))
+            .maxLimit(Math.max(maxLimit, initialLimit))
+            .backoffRatio(backoffRatio)
+            .latencyThresholdMs(latencyThresholdMs)
+            .build();
+
+        PipelineGuard guard = new PipelineGuard(script, settings);
+        registerMetrics(script, guard);
+        log.info("AI 파이프라인 보호 계층 생성: {} (초기 한도 {})", script, settings.getInitialLimit());
+        return guard;
+    }
+
+    private void registerMetrics(String script, PipelineGuard guard) {
+        // 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+        Gauge.builder("ai.pipeline.circuit.state", guard, g -> switch (g.getState()) {
+                case CLOSED -> 0;
+                case HALF_OPEN -> 1;
+                case OPEN -> 2;
+            })
+            .description("Circuit breaker state (0=closed, 1=half-open, 2=open)")
+            .tag("script", script)
+            .register(meterRegistry);
+        Gauge.builder("ai.pipeline.concurrency.limit", guard, PipelineGuard::getLimit)
+            .description("Adaptive concurrency limit")
+            .tag("script", script)
+            .register(meterRegistry);
+        Gauge.builder("ai.pipeline.concurrency.inflight", guard, PipelineGuard::getInFlight)
+            .description("Requests currently admitted by the protection layer")
+            .tag("script", script)
+            .register(meterRegistry);
+        FunctionCounter.builder("ai.pipeline.rejected", guard, PipelineGuard::getRejectedCount)
+            .description("Requests rejected by the circuit breaker or concurrency limit")
+            .tag("script", script)
+            .register(meterRegistry);
+        FunctionCounter.builder("ai.pipeline.circuit.opened", guard, PipelineGuard::getOpenedCount)
+            .description("Times the circuit breaker opened")
+            .tag("script", script)
+            .register(meterRegistry);
+    }
+}
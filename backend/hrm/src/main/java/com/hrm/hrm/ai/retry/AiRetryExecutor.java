@@ -0,0 +1,238 @@
+package com.hrm.hrm.ai.retry;
+
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 비차단 재시도 실행기
+ * - 시도는 크기가 제한된 attemptExecutor에서 실행 (포화 시 AiProcessingException으로 즉시 실패)
+ * - 재시도는 ScheduledExecutorService로 지연 예약 - 대기 중에는 어떤 스레드도 점유하지 않고,
+ *   예약된 작업이 시점이 되면 다음 시도를 attemptExecutor에 넘김
+ * - full-jitter 지수 백오프: delay = random(0, min(maxDelay, baseDelay * 2^(attempt-1)))
+ * - 전역 재시도 예산으로 장애 시 재시도가 요청 수의 일정 비율을 넘지 않도록 제한
+ * - 재시도 여부는 AiProcessingException.isRetryable() (종료 코드 + Python error_type) 기준
+ */
+@Slf4j
+@Component
+public class AiRetryExecutor {
+
+    @Value("${app.ai.retry.delay.ms:1000}")
+    private long baseDelayMs;
+
+    @Value("${app.ai.retry.max-delay.ms:30000}")
+    private long maxDelayMs;
+
+    @Value("${app.ai.retry.budget.ratio:0.1}")
+    private double budgetRatio;
+
+    @Value("${app.ai.retry.budget.min-per-second:1}")
+    private double budgetMinPerSecond;
+
+    @Value("${app.ai.retry.budget.max-tokens:10}")
+    private double budgetMaxTokens;
+
+    @Value("${app.ai.retry.attempt.threads:16}")
+    private int attemptThreads = 16;
+
+    @Value("${app.ai.retry.attempt.queue-capacity:100}")
+    private int attemptQueueCapacity = 100;
+
+    private final MeterRegistry meterRegistry;
+    private RetryBudget retryBudget;
+    private Counter retriesScheduled;
+    private Counter budgetExhausted;
+    private Counter attemptsRejected;
+
+    // 백오프 상한 -> 실제 지연 (full jitter)
+    LongUnaryOperator jitter = ceiling -> ThreadLocalRandom.current().nextLong(ceiling + 1);
+
+    private final AtomicInteger activeAttempts = new AtomicInteger();
+    // 재시도 대기 중인 요청 - 종료 시 실패로 완료
+    private final Set<CompletableFuture<?>> waitingRetries = ConcurrentHashMap.newKeySet();
+
+    // 시도 실행용 (Python 실행은 블로킹) - 고정 크기 + 제한된 대기열
+    private ThreadPoolExecutor attemptExecutor;
+
+    // 재시도 예약 전용 - 지연 후 다음 시도를 attemptExecutor에 넘기기만 함
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ai-retry-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AiRetryExecutor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        retryBudget = new RetryBudget(budgetRatio, budgetMinPerSecond, budgetMaxTokens);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        attemptExecutor = new ThreadPoolExecutor(attemptThreads, attemptThreads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(attemptQueueCapacity), r -> {
+                Thread thread = new Thread(r, "ai-attempt-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        attemptExecutor.allowCoreThreadTimeOut(true);
+
+        retriesScheduled = Counter.builder("ai.retry.scheduled")
+            .description("AI script re-attempts scheduled after a retryable failure")
+            .register(meterRegistry);
+        budgetExhausted = Counter.builder("ai.retry.budget.exhausted")
+            .description("Retryable failures that were not retried because the retry budget was empty")
+            .register(meterRegistry);
+        attemptsRejected = Counter.builder("ai.retry.attempt.rejected")
+            .description("AI attempts rejected because the attempt executor was saturated")
+            .register(meterRegistry);
+        Gauge.builder("ai.retry.budget.tokens", retryBudget, RetryBudget::getTokens)
+            .description("Retries currently available in the global retry budget")
+            .register(meterRegistry);
+        Gauge.builder("ai.retry.attempt.active", activeAttempts, AtomicInteger::get)
+            .description("AI attempts currently running on the attempt executor")
+            .register(meterRegistry);
+        Gauge.builder("ai.retry.waiting", waitingRetries, Set::size)
+            .description("Requests waiting for a scheduled re-attempt")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 요청 실행 - 시도와 재시도는 모두 백그라운드에서 진행되고 결과는 future로 전달
+     */
+    public <T> CompletableFuture<T> executeAsync(AiRequest request, Function<AiRequest, T> attemptFn) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        int maxAttempts = request.isRetryEnabled() ? Math.max(request.getMaxRetries(), 1) : 1;
+
+        retryBudget.recordRequest();
+        submitAttempt(request, attemptFn, 1, maxAttempts, result);
+        return result;
+    }
+
+    /**
+     * 동기 호출용 - executeAsync 결과를 기다리고 AiProcessingException을 그대로 전달
+     */
+    public <T> T execute(AiRequest request, Function<AiRequest, T> attemptFn) throws AiProcessingException {
+        CompletableFuture<T> future = executeAsync(request, attemptFn);
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof AiProcessingException aiException) {
+                throw aiException;
+            }
+            throw new AiProcessingException("예상치 못한 오류: " + cause.getMessage(), cause, request.getCorrelationId());
+        }
+    }
+
+    private <T> void submitAttempt(AiRequest request, Function<AiRequest, T> attemptFn,
+                                   int attempt, int maxAttempts, CompletableFuture<T> result) {
+        try {
+            attemptExecutor.execute(() -> runAttempt(request, attemptFn, attempt, maxAttempts, result));
+        } catch (RejectedExecutionException e) {
+            attemptsRejected.increment();
+            result.completeExceptionally(new AiProcessingException(
+                "AI 시도 실행기 포화로 요청 거부", request.getCorrelationId(), request.getScript()));
+        }
+    }
+
+    private <T> void runAttempt(AiRequest request, Function<AiRequest, T> attemptFn,
+                                int attempt, int maxAttempts, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return; // 호출자가 취소한 경우
+        }
+
+        activeAttempts.incrementAndGet();
+        try {
+            log.debug("AI 스크립트 실행 시도 {}/{}: {} (correlationId: {})",
+                attempt, maxAttempts, request.getScript(), request.getCorrelationId());
+
+            result.complete(attemptFn.apply(request));
+
+        } catch (AiProcessingException e) {
+            if (!e.isRetryable() || attempt >= maxAttempts) {
+                log.error("AI 스크립트 실행 최종 실패: {} (errorType: {}, correlationId: {})",
+                    e.getMessage(), e.getErrorType(), request.getCorrelationId());
+                result.completeExceptionally(e);
+                return;
+            }
+
+            if (!retryBudget.tryWithdraw()) {
+                budgetExhausted.increment();
+                log.warn("재시도 예산 소진 - 재시도 없이 실패 처리: {} (correlationId: {})",
+                    e.getMessage(), request.getCorrelationId());
+                result.completeExceptionally(e);
+                return;
+            }
+
+            long delay = backoffDelay(attempt);
+            retriesScheduled.increment();
+            log.warn("AI 스크립트 실행 실패, {}ms 후 재시도 {}/{}: {} (correlationId: {})",
+                delay, attempt + 1, maxAttempts, e.getMessage(), request.getCorrelationId());
+            scheduleRetry(request, attemptFn, attempt + 1, maxAttempts, result, e, delay);
+
+        } catch (RuntimeException e) {
+            result.completeExceptionally(
+                new AiProcessingException("예상치 못한 오류: " + e.getMessage(), e, request.getCorrelationId()));
+        } finally {
+            activeAttempts.decrementAndGet();
+        }
+    }
+
+    /**
+     * 지연 후 다음 시도를 attemptExecutor에 제출 - 대기 동안 스레드는 점유하지 않음
+     */
+    private <T> void scheduleRetry(AiRequest request, Function<AiRequest, T> attemptFn, int attempt,
+                                   int maxAttempts, CompletableFuture<T> result, AiProcessingException lastFailure,
+                                   long delayMs) {
+        waitingRetries.add(result);
+        try {
+            retryScheduler.schedule(() -> {
+                waitingRetries.remove(result);
+                submitAttempt(request, attemptFn, attempt, maxAttempts, result);
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException rejected) {
+            waitingRetries.remove(result);
+            result.completeExceptionally(lastFailure);
+        }
+    }
+
+    /**
+     * full-jitter 지수 백오프
+     */
+    private long backoffDelay(int attempt) {
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+        return jitter.applyAsLong(ceiling);
+    }
+
+    int getActiveAttempts() {
+        return activeAttempts.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+        // 예약이 취소된 재시도는 대기 중인 호출자에게 실패로 알림
+        for (CompletableFuture<?> waiting : waitingRetries) {
+            waiting.completeExceptionally(new AiProcessingException("AI 재시도 실행기 종료", "shutdown"));
+        }
+        waitingRetries.clear();
+        if (attemptExecutor != null) {
+            attemptExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.hrm.hrm.ai.retry;
+
+/**
+ * 전역 재시도 예산 (토큰 버킷)
+ * - 요청 1건마다 ratio개 토큰 적립, 재시도 1회마다 토큰 1개 소모
+ * - 요청이 적을 때도 최소한의 재시도는 가능하도록 초당 minPerSecond개 추가 적립
+ * 장애 폭주 시 재시도가 요청의 ratio 비율을 넘지 않아 부하가 배로 불어나지 않음
+ */
+class RetryBudget {
+
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxTokens;
+
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    RetryBudget(double ratio, double minPerSecond, double maxTokens) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    synchronized void recordRequest() {
+        refill();
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * 재시도 1회분 토큰 확보 - 예산 소진 시 false
+     */
+    synchronized boolean tryWithdraw() {
+        refill();
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    synchronized double getTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        tokens = Math.min(maxTokens, tokens + elapsedSeconds * minPerSecond);
+        lastRefillNanos = now;
+    }
+}
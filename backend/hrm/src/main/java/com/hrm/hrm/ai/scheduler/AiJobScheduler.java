@@ -0,0 +1,258 @@
+package com.hrm.hrm.ai.scheduler;
+
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.exception.AiQueueTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AiRequest.priority 기반 AI 작업 스케줄러
+ * - 우선순위(1=높음 ~ 5=낮음)별 FIFO 대기열, 전체/우선순위별 동시 실행 상한
+ * - 대기 시간이 aging 간격을 넘길 때마다 유효 우선순위를 한 단계씩 올려 기아 방지
+ * - 작업은 호출 스레드에서 실행되며, 스케줄러는 실행 슬롯 배정만 담당
+ */
+@Slf4j
+@Component
+public class AiJobScheduler {
+
+    static final int HIGHEST_PRIORITY = 1;
+    static final int LOWEST_PRIORITY = 5;
+    private static final int LEVELS = LOWEST_PRIORITY - HIGHEST_PRIORITY + 1;
+
+    @Value("${app.ai.scheduler.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.scheduler.max-concurrency:8}")
+    private int maxConcurrency;
+
+    // 우선순위 1~5 순서의 동시 실행 상한
+    @Value("${app.ai.scheduler.priority-limits:8,8,6,4,2}")
+    private int[] priorityLimits;
+
+    @Value("${app.ai.scheduler.aging.ms:5000}")
+    private long agingMs;
+
+    @Value("${app.ai.scheduler.queue-timeout.ms:60000}")
+    private long queueTimeoutMs;
+
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Ticket>[] queues;
+    private final int[] running = new int[LEVELS];
+    private int totalRunning;
+
+    private final Timer[] waitTimers = new Timer[LEVELS];
+    private final Counter[] queueTimeoutCounters = new Counter[LEVELS];
+
+    @SuppressWarnings("unchecked")
+    public AiJobScheduler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.queues = new Deque[LEVELS];
+        for (int i = 0; i < LEVELS; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        for (int i = 0; i < LEVELS; i++) {
+            final int level = i;
+            String priority = String.valueOf(i + HIGHEST_PRIORITY);
+
+            Gauge.builder("ai.scheduler.queue.depth", this, s -> s.getQueueDepth(level + HIGHEST_PRIORITY))
+                .description("AI jobs waiting for an execution slot")
+                .tag("priority", priority)
+                .register(meterRegistry);
+            Gauge.builder("ai.scheduler.running", this, s -> s.getRunning(level + HIGHEST_PRIORITY))
+                .description("AI jobs currently holding an execution slot")
+                .tag("priority", priority)
+                .register(meterRegistry);
+
+            waitTimers[i] = Timer.builder("ai.scheduler.wait")
+                .description("Time AI jobs spent queued before execution")
+                .tag("priority", priority)
+                .register(meterRegistry);
+            queueTimeoutCounters[i] = Counter.builder("ai.scheduler.queue.timeout")
+                .description("AI jobs abandoned after waiting too long in the queue")
+                .tag("priority", priority)
+                .register(meterRegistry);
+        }
+
+        log.info("AI 작업 스케줄러 초기화 - 전체 상한 {}, 우선순위별 상한 {}, aging {}ms",
+            maxConcurrency, Arrays.toString(priorityLimits), agingMs);
+    }
+
+    /**
+     * 실행 슬롯을 배정받은 뒤 호출 스레드에서 작업 실행
+     */
+    public <T> T execute(AiRequest request, Supplier<T> task) throws AiProcessingException {
+        if (!enabled) {
+            return task.get();
+        }
+
+        Ticket ticket = admit(normalize(request.getPriority()), request.getCorrelationId());
+        try {
+            return task.get();
+        } finally {
+            release(ticket);
+        }
+    }
+
+    private Ticket admit(int priority, String correlationId) throws AiProcessingException {
+        lock.lock();
+        try {
+            Ticket ticket = new Ticket(priority, System.nanoTime(), lock.newCondition());
+            queues[priority - HIGHEST_PRIORITY].addLast(ticket);
+            dispatch();
+
+            long remaining = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+            while (!ticket.granted) {
+                if (remaining <= 0) {
+                    queues[priority - HIGHEST_PRIORITY].remove(ticket);
+                    queueTimeoutCounters[priority - HIGHEST_PRIORITY].increment();
+                    throw new AiQueueTimeoutException(
+                        String.format("AI 작업 대기열 시간 초과 (우선순위 %d, %dms)", priority, queueTimeoutMs),
+                        correlationId, queueTimeoutMs);
+                }
+                try {
+                    remaining = ticket.condition.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (ticket.granted) {
+                        releaseSlot(ticket);
+                    } else {
+                        queues[priority - HIGHEST_PRIORITY].remove(ticket);
+                    }
+                    throw new AiProcessingException("AI 작업 대기 중 인터럽트 발생", e, correlationId);
+                }
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("AI 작업 실행 슬롯 배정 - 우선순위 {}, 대기 {}ms (correlationId: {})",
+                    priority, TimeUnit.NANOSECONDS.toMillis(ticket.grantedAt - ticket.enqueuedAt), correlationId);
+            }
+            return ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Ticket ticket) {
+        lock.lock();
+        try {
+            releaseSlot(ticket);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseSlot(Ticket ticket) {
+        running[ticket.priority - HIGHEST_PRIORITY]--;
+        totalRunning--;
+        dispatch();
+    }
+
+    /**
+     * 빈 슬롯이 있는 동안 유효 우선순위가 가장 높은 대기 작업에 슬롯 배정 (lock 보유 상태에서 호출)
+     * 같은 우선순위 안에서는 FIFO이므로 각 대기열의 선두만 비교하면 됨
+     */
+    private void dispatch() {
+        long now = System.nanoTime();
+        while (totalRunning < maxConcurrency) {
+            Ticket best = null;
+            int bestEffective = Integer.MAX_VALUE;
+
+            for (int i = 0; i < LEVELS; i++) {
+                Ticket head = queues[i].peekFirst();
+                if (head == null || running[i] >= limitFor(i)) {
+                    continue;
+                }
+                int effective = effectivePriority(head, now);
+                if (effective < bestEffective
+                        || (effective == bestEffective && head.enqueuedAt < best.enqueuedAt)) {
+                    best = head;
+                    bestEffective = effective;
+                }
+            }
+
+            if (best == null) {
+                return;
+            }
+
+            int level = best.priority - HIGHEST_PRIORITY;
+            queues[level].pollFirst();
+            running[level]++;
+            totalRunning++;
+            best.granted = true;
+            best.grantedAt = now;
+            waitTimers[level].record(now - best.enqueuedAt, TimeUnit.NANOSECONDS);
+            best.condition.signal();
+        }
+    }
+
+    private int effectivePriority(Ticket ticket, long now) {
+        if (agingMs <= 0) {
+            return ticket.priority;
+        }
+        long agedLevels = TimeUnit.NANOSECONDS.toMillis(now - ticket.enqueuedAt) / agingMs;
+        return (int) Math.max(HIGHEST_PRIORITY, ticket.priority - agedLevels);
+    }
+
+    private int limitFor(int level) {
+        return level < priorityLimits.length ? priorityLimits[level] : maxConcurrency;
+    }
+
+    private int normalize(int priority) {
+        return Math.min(LOWEST_PRIORITY, Math.max(HIGHEST_PRIORITY, priority));
+    }
+
+    public int getQueueDepth(int priority) {
+        lock.lock();
+        try {
+            return queues[normalize(priority) - HIGHEST_PRIORITY].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getRunning(int priority) {
+        lock.lock();
+        try {
+            return running[normalize(priority) - HIGHEST_PRIORITY];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 작업 한 건 - 필드는 모두 lock 보유 상태에서만 접근
+     */
+    private static final class Ticket {
+        private final int priority;
+        private final long enqueuedAt;
+        private final Condition condition;
+        private boolean granted;
+        private long grantedAt;
+
+        private Ticket(int priority, long enqueuedAt, Condition condition) {
+            this.priority = priority;
+            this.enqueuedAt = enqueuedAt;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.hrm.hrm.ai.worker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.exception.AiOutputTooLargeException;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.exception.AiTimeoutException;
+import com.hrm.hrm.ai.process.ProcessReaper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 장기 실행 Python 워커 프로세스 하나
+ * stdin/stdout JSON-lines 프로토콜로 요청을 주고받으며, 응답은 correlationId로 매칭
+ * 프로토콜 한 줄은 maxLineBytes까지만 버퍼링 - 초과하면 대기 중 요청을 실패시키고 워커를 종료
+ */
+@Slf4j
+class PythonWorker {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+    // stderr 로그 한 줄 상한 - 초과분은 잘라서 기록
+    private static final int MAX_LOG_LINE_BYTES = 8192;
+
+    private final String script;
+    private final int workerId;
+    private final Process process;
+    private final BufferedWriter stdin;
+    private final ObjectMapper objectMapper;
+    private final long maxLineBytes;
+
+    private final Map<String, CompletableFuture<JsonNode>> pendingRequests = new ConcurrentHashMap<>();
+    private final CompletableFuture<Void> ready = new CompletableFuture<>();
+    private final AtomicInteger handledRequests = new AtomicInteger();
+    private final long createdAt = System.currentTimeMillis();
+    private volatile long lastUsedAt = System.currentTimeMillis();
+
+    private PythonWorker(String script, int workerId, Process process, ObjectMapper objectMapper,
+                         long maxLineBytes) {
+        this.script = script;
+        this.workerId = workerId;
+        this.process = process;
+        this.objectMapper = objectMapper;
+        this.maxLineBytes = maxLineBytes;
+        this.stdin = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 워커 프로세스 시작 후 ready 신호까지 대기
+     */
+    static PythonWorker start(String script, int workerId, List<String> command, File workingDirectory,
+                              Map<String, String> environment, int startupTimeoutSeconds,
+                              long maxLineBytes, ObjectMapper objectMapper) throws AiProcessingException {
+        String correlationId = "worker_" + script + "_" + workerId;
+        PythonWorker worker = null;
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(command);
+            processBuilder.directory(workingDirectory);
+            processBuilder.environment().putAll(environment);
+
+            worker = new PythonWorker(script, workerId, processBuilder.start(), objectMapper, maxLineBytes);
+            worker.startReaders();
+            worker.ready.get(startupTimeoutSeconds, TimeUnit.SECONDS);
+
+            log.debug("Python 워커 시작 완료: {} #{} (pid: {})", script, workerId, worker.process.pid());
+            return worker;
+
+        } catch (TimeoutException e) {
+            worker.kill();
+            throw new AiProcessingException(
+                String.format("Python 워커 시작 타임아웃 (%d초)", startupTimeoutSeconds), correlationId, script);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (worker != null) {
+                worker.kill();
+            }
+            throw new AiProcessingException("Python 워커 시작 중 인터럽트 발생", e, correlationId);
+        } catch (IOException | ExecutionException e) {
+            if (worker != null) {
+                worker.kill();
+            }
+            throw new AiProcessingException("Python 워커 시작 실패: " + e.getMessage(), e, correlationId);
+        }
+    }
+
+    /**
+     * 요청 한 건 실행 - 응답 envelope(JSON)를 반환
+     */
+    JsonNode execute(Map<String, Object> request, String correlationId, int timeoutSeconds)
+            throws AiProcessingException {
+        CompletableFuture<JsonNode> future = new CompletableFuture<>();
+        pendingRequests.put(correlationId, future);
+        lastUsedAt = System.currentTimeMillis();
+
+        try {
+            synchronized (stdin) {
+                stdin.write(objectMapper.writeValueAsString(request));
+                stdin.newLine();
+                stdin.flush();
+            }
+
+            return future.get(timeoutSeconds, TimeUnit.SECONDS);
+
+        } catch (TimeoutException e) {
+            throw new AiTimeoutException(
+                String.format("Python 스크립트 실행 타임아웃 (%d초)", timeoutSeconds), correlationId, script, timeoutSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiProcessingException("워커 요청 처리 중 인터럽트 발생", e, correlationId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AiOutputTooLargeException tooLarge) {
+                throw new AiOutputTooLargeException(tooLarge.getMessage(), correlationId, script, maxLineBytes);
+            }
+            throw new AiProcessingException("Python 워커 비정상 종료: " + e.getCause().getMessage(),
+                correlationId, script);
+        } catch (IOException e) {
+            throw new AiProcessingException("워커 I/O 오류: " + e.getMessage(), e, correlationId);
+        } finally {
+            pendingRequests.remove(correlationId);
+            handledRequests.incrementAndGet();
+            lastUsedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * stdout(프로토콜)과 stderr(로그)를 각각 전용 데몬 스레드에서 읽기
+     */
+    private void startReaders() {
+        Thread stdoutReader = new Thread(this::readProtocol, "py-worker-" + script + "-" + workerId);
+        stdoutReader.setDaemon(true);
+        stdoutReader.start();
+
+        Thread stderrReader = new Thread(this::readLogs, "py-worker-log-" + script + "-" + workerId);
+        stderrReader.setDaemon(true);
+        stderrReader.start();
+    }
+
+    private void readProtocol() {
+        try (InputStream in = process.getInputStream()) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                int lineStart = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        if (!appendProtocol(line, buffer, lineStart, i - lineStart)) {
+                            return;
+                        }
+                        handleProtocolLine(line.toByteArray());
+                        line.reset();
+                        lineStart = i + 1;
+                    }
+                }
+                if (!appendProtocol(line, buffer, lineStart, read - lineStart)) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Python 워커 stdout 종료: {} #{} - {}", script, workerId, e.getMessage());
+        } finally {
+            failPending(new IOException("worker process exited"));
+        }
+    }
+
+    /**
+     * 현재 줄에 바이트 추가 - 상한을 넘으면 대기 중 요청을 실패시키고 워커를 종료한 뒤 false
+     */
+    private boolean appendProtocol(ByteArrayOutputStream line, byte[] buffer, int offset, int length) {
+        if (line.size() + (long) length > maxLineBytes) {
+            log.error("Python 워커 응답 줄 상한 초과 ({} bytes), 워커 종료: {} #{}", maxLineBytes, script, workerId);
+            failPending(new AiOutputTooLargeException(
+                String.format("Python 워커 응답이 상한(%d bytes)을 초과했습니다", maxLineBytes),
+                "worker_" + script + "_" + workerId, script, maxLineBytes));
+            kill();
+            return false;
+        }
+        line.write(buffer, offset, length);
+        return true;
+    }
+
+    private void handleProtocolLine(byte[] line) {
+        try {
+            JsonNode message = objectMapper.readTree(line);
+            String type = message.path("type").asText();
+
+            if ("ready".equals(type)) {
+                ready.complete(null);
+                return;
+            }
+
+            String correlationId = message.path("correlation_id").asText(null);
+            CompletableFuture<JsonNode> future = correlationId != null ? pendingRequests.get(correlationId) : null;
+            if (future != null) {
+                future.complete(message);
+            } else {
+                log.warn("매칭되지 않는 워커 응답 무시: {} #{} (correlationId: {})", script, workerId, correlationId);
+            }
+        } catch (IOException e) {
+            log.warn("워커 프로토콜 파싱 실패: {} #{} - {}", script, workerId, e.getMessage());
+        }
+    }
+
+    /**
+     * stderr는 로그 용도 - 줄마다 MAX_LOG_LINE_BYTES까지만 보관하고 나머지는 버림
+     */
+    private void readLogs() {
+        try (InputStream in = process.getErrorStream()) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                int lineStart = 0;
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        appendLog(line, buffer, lineStart, i - lineStart);
+                        log.debug("[{} #{}] {}", script, workerId, line.toString(StandardCharsets.UTF_8));
+                        line.reset();
+                        lineStart = i + 1;
+                    }
+                }
+                appendLog(line, buffer, lineStart, read - lineStart);
+            }
+        } catch (IOException e) {
+            log.debug("Python 워커 stderr 종료: {} #{}", script, workerId);
+        }
+    }
+
+    private static void appendLog(ByteArrayOutputStream line, byte[] buffer, int offset, int length) {
+        line.write(buffer, offset, Math.min(length, Math.max(MAX_LOG_LINE_BYTES - line.size(), 0)));
+    }
+
+    private void failPending(Throwable cause) {
+        ready.completeExceptionally(cause);
+        pendingRequests.values().forEach(future -> future.completeExceptionally(cause));
+    }
+
+    /**
+     * 정상 종료 요청 후 유예 시간이 지나면 강제 종료
+     */
+    void shutdown() {
+        try {
+            synchronized (stdin) {
+                stdin.write("{\"type\":\"shutdown\"}");
+                stdin.newLine();
+                stdin.flush();
+            }
+            if (!process.waitFor(2, TimeUnit.SECONDS)) {
+                ProcessReaper.destroyTree(process);
+            }
+        } catch (IOException e) {
+            ProcessReaper.destroyTree(process);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ProcessReaper.destroyTree(process);
+        }
+    }
+
+    void kill() {
+        ProcessReaper.destroyTree(process);
+    }
+
+    boolean isAlive() {
+        return process.isAlive();
+    }
+
+    int getHandledRequests() {
+        return handledRequests.get();
+    }
+
+    long getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    int getWorkerId() {
+        return workerId;
+    }
+
+    Process getProcess() {
+        return process;
+    }
+}
@@ -0,0 +1,341 @@
+package com.hrm.hrm.ai.worker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.process.ProcessReaper;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스크립트 하나에 대한 Python 워커 풀
+ * 최소/최대 크기, 유휴 워커 제거, N회 처리 후 재활용, 연속 크래시 시 재시작 억제를 담당
+ */
+@Slf4j
+public class PythonWorkerPool {
+
+    /**
+     * 풀 설정
+     */
+    @Value
+    @Builder
+    public static class Settings {
+        int minSize;
+        int maxSize;
+        long idleTimeoutMs;
+        int maxRequestsPerWorker;
+        long acquireTimeoutMs;
+        int startupTimeoutSeconds;
+        int maxConsecutiveCrashes;
+        long crashCooldownMs;
+        long maxLineBytes;
+    }
+
+    private final String script;
+    private final List<String> command;
+    private final File workingDirectory;
+    private final Map<String, String> environment;
+    private final Settings settings;
+    private final ObjectMapper objectMapper;
+    private final ProcessReaper processReaper;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workerAvailable = lock.newCondition();
+    private final Deque<PythonWorker> idleWorkers = new ArrayDeque<>();
+    private final AtomicInteger workerSequence = new AtomicInteger();
+
+    private int totalWorkers;
+    private int consecutiveCrashes;
+    private long crashCooldownUntil;
+    private boolean closed;
+
+    // 통계
+    private final AtomicInteger spawnedCount = new AtomicInteger();
+    private final AtomicInteger recycledCount = new AtomicInteger();
+    private final AtomicInteger evictedCount = new AtomicInteger();
+    private final AtomicInteger crashCount = new AtomicInteger();
+
+    public PythonWorkerPool(String script, List<String> command, File workingDirectory,
+                            Map<String, String> environment, Settings settings, ObjectMapper objectMapper,
+                            ProcessReaper processReaper) {
+        this.script = script;
+        this.command = command;
+        this.workingDirectory = workingDirectory;
+        this.environment = environment;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.processReaper = processReaper;
+    }
+
+    /**
+     * 워커 하나를 빌려 요청을 실행하고 반환
+     */
+    public JsonNode execute(Map<String, Object> request, String correlationId, int timeoutSeconds)
+            throws AiProcessingException {
+        PythonWorker worker = acquire(correlationId);
+        boolean healthy = false;
+
+        try {
+            JsonNode envelope = worker.execute(request, correlationId, timeoutSeconds);
+            healthy = true;
+            return envelope;
+        } finally {
+            release(worker, healthy);
+        }
+    }
+
+    /**
+     * 최소 크기까지 워커를 미리 띄움
+     */
+    public void warmUp() {
+        while (true) {
+            lock.lock();
+            try {
+                if (closed || totalWorkers >= settings.getMinSize()) {
+                    return;
+                }
+                totalWorkers++;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                PythonWorker worker = spawn();
+                lock.lock();
+                try {
+                    idleWorkers.push(worker);
+                    workerAvailable.signal();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (AiProcessingException e) {
+                onSpawnFailure();
+                log.warn("Python 워커 예열 실패: {} - {}", script, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 유휴 시간이 지난 워커를 최소 크기까지 정리
+     */
+    public void evictIdleWorkers() {
+        long now = System.currentTimeMillis();
+        List<PythonWorker> evicted = new java.util.ArrayList<>();
+
+        lock.lock();
+        try {
+            var iterator = idleWorkers.descendingIterator(); // 가장 오래 쉰 워커부터
+            while (iterator.hasNext() && totalWorkers > settings.getMinSize()) {
+                PythonWorker worker = iterator.next();
+                if (!worker.isAlive() || now - worker.getLastUsedAt() >= settings.getIdleTimeoutMs()) {
+                    iterator.remove();
+                    totalWorkers--;
+                    evicted.add(worker);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (PythonWorker worker : evicted) {
+            evictedCount.incrementAndGet();
+            log.debug("유휴 Python 워커 제거: {} #{}", script, worker.getWorkerId());
+            worker.shutdown();
+        }
+
+        warmUp();
+    }
+
+    /**
+     * 모든 워커 종료
+     */
+    public void close() {
+        List<PythonWorker> workers;
+        lock.lock();
+        try {
+            closed = true;
+            workers = List.copyOf(idleWorkers);
+            idleWorkers.clear();
+            totalWorkers -= workers.size();
+            workerAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        workers.forEach(PythonWorker::shutdown);
+    }
+
+    private PythonWorker acquire(String correlationId) throws AiProcessingException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getAcquireTimeoutMs());
+
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new AiProcessingException("Python 워커 풀이 종료되었습니다", correlationId, script);
+                }
+
+                while (!idleWorkers.isEmpty()) {
+                    PythonWorker worker = idleWorkers.pop();
+                    if (worker.isAlive()) {
+                        return worker;
+                    }
+                    // 유휴 중 죽은 워커
+                    totalWorkers--;
+                    recordCrash(worker);
+                }
+
+                if (totalWorkers < settings.getMaxSize()) {
+                    if (System.currentTimeMillis() < crashCooldownUntil) {
+                        throw new AiProcessingException(
+                            "Python 워커 연속 크래시로 재시작 대기 중", correlationId, script);
+                    }
+                    totalWorkers++;
+                    break;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new AiProcessingException(
+                        String.format("Python 워커 획득 타임아웃 (%dms)", settings.getAcquireTimeoutMs()),
+                        correlationId, script);
+                }
+                workerAvailable.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiProcessingException("Python 워커 대기 중 인터럽트 발생", e, correlationId);
+        } finally {
+            lock.unlock();
+        }
+
+        // 락 밖에서 프로세스 기동 (슬롯은 이미 예약됨)
+        try {
+            return spawn();
+        } catch (AiProcessingException e) {
+            onSpawnFailure();
+            throw e;
+        }
+    }
+
+    private void release(PythonWorker worker, boolean healthy) {
+        boolean retire = !healthy
+            || !worker.isAlive()
+            || worker.getHandledRequests() >= settings.getMaxRequestsPerWorker();
+
+        lock.lock();
+        try {
+            if (!retire && !closed) {
+                consecutiveCrashes = 0;
+                idleWorkers.push(worker);
+                workerAvailable.signal();
+                return;
+            }
+            totalWorkers--;
+            workerAvailable.signal();
+            if (!worker.isAlive()) {
+                recordCrash(worker);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (healthy && worker.isAlive()) {
+            recycledCount.incrementAndGet();
+            log.debug("Python 워커 재활용 한도 도달, 교체: {} #{} ({}건 처리)",
+                script, worker.getWorkerId(), worker.getHandledRequests());
+            worker.shutdown();
+        } else {
+            // 타임아웃 등으로 상태를 신뢰할 수 없는 워커는 즉시 종료
+            worker.kill();
+        }
+    }
+
+    /**
+     * 크래시 기록 - 연속 크래시가 한도를 넘으면 일정 시간 재시작 억제 (lock 보유 상태에서 호출)
+     */
+    private void recordCrash(PythonWorker worker) {
+        crashCount.incrementAndGet();
+        consecutiveCrashes++;
+        log.warn("Python 워커 비정상 종료 감지: {} #{} (연속 {}회)", script, worker.getWorkerId(), consecutiveCrashes);
+
+        if (consecutiveCrashes >= settings.getMaxConsecutiveCrashes()) {
+            crashCooldownUntil = System.currentTimeMillis() + settings.getCrashCooldownMs();
+            log.error("Python 워커 연속 크래시 {}회, {}ms 동안 재시작 중단: {}",
+                consecutiveCrashes, settings.getCrashCooldownMs(), script);
+        }
+    }
+
+    private void onSpawnFailure() {
+        lock.lock();
+        try {
+            totalWorkers--;
+            consecutiveCrashes++;
+            crashCount.incrementAndGet();
+            if (consecutiveCrashes >= settings.getMaxConsecutiveCrashes()) {
+                crashCooldownUntil = System.currentTimeMillis() + settings.getCrashCooldownMs();
+            }
+            workerAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PythonWorker spawn() throws AiProcessingException {
+        PythonWorker worker = PythonWorker.start(script, workerSequence.incrementAndGet(), command,
+            workingDirectory, environment, settings.getStartupTimeoutSeconds(), settings.getMaxLineBytes(),
+            objectMapper);
+        processReaper.register(worker.getProcess(), "worker:" + script, true);
+        spawnedCount.incrementAndGet();
+        return worker;
+    }
+
+    public String getScript() {
+        return script;
+    }
+
+    public int getTotalWorkers() {
+        lock.lock();
+        try {
+            return totalWorkers;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getIdleWorkers() {
+        lock.lock();
+        try {
+            return idleWorkers.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSpawnedCount() {
+        return spawnedCount.get();
+    }
+
+    public int getRecycledCount() {
+        return recycledCount.get();
+    }
+
+    public int getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public int getCrashCount() {
+        return crashCount.get();
+    }
+}
@@ -0,0 +1,204 @@
+package com.hrm.hrm.ai.worker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.process.PipelineRequestFrame;
+import com.hrm.hrm.ai.process.ProcessReaper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스크립트별 Python 워커 풀 관리
+ * 파이프라인 스크립트마다 장기 실행 워커 풀을 두어 인터프리터 기동/임포트 비용을 제거
+ */
+@Slf4j
+@Component
+public class PythonWorkerPoolManager {
+
+    @Value("${app.ai.python.path:python}")
+    private String pythonPath;
+
+    @Value("${app.ai.scripts.path:ai}")
+    private String scriptsPath;
+
+    @Value("${app.ai.worker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.worker.scripts:pipeline1_personal_manual.py,pipeline2_coaching_generation.py}")
+    private String[] pooledScripts;
+
+    @Value("${app.ai.worker.min-size:1}")
+    private int minSize;
+
+    @Value("${app.ai.worker.max-size:4}")
+    private int maxSize;
+
+    @Value("${app.ai.worker.idle-timeout.ms:300000}")
+    private long idleTimeoutMs;
+
+    @Value("${app.ai.worker.max-requests:500}")
+    private int maxRequestsPerWorker;
+
+    @Value("${app.ai.worker.acquire-timeout.ms:10000}")
+    private long acquireTimeoutMs;
+
+    @Value("${app.ai.worker.startup-timeout.seconds:30}")
+    private int startupTimeoutSeconds;
+
+    @Value("${app.ai.worker.max-consecutive-crashes:3}")
+    private int maxConsecutiveCrashes;
+
+    @Value("${app.ai.worker.crash-cooldown.ms:30000}")
+    private long crashCooldownMs;
+
+    // 프로토콜 응답 한 줄 상한 - 프로세스 실행 방식의 stdout 상한과 같은 값
+    @Value("${app.ai.output.max-stdout-bytes:4194304}")
+    private long maxLineBytes;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ProcessReaper processReaper;
+    private final Map<String, PythonWorkerPool> pools = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "py-worker-maintenance");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PythonWorkerPoolManager(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                   ProcessReaper processReaper) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.processReaper = processReaper;
+    }
+
+    @PostConstruct
+    void initialize() {
+        if (!enabled) {
+            log.info("Python 워커 풀 비활성화 - 요청마다 프로세스 실행");
+            return;
+        }
+
+        PythonWorkerPool.Settings settings = PythonWorkerPool.Settings.builder()
+            .minSize(minSize)
+            .maxSize(Math.max(maxSize, minSize))
+            .idleTimeoutMs(idleTimeoutMs)
+            .maxRequestsPerWorker(maxRequestsPerWorker)
+            .acquireTimeoutMs(acquireTimeoutMs)
+            .startupTimeoutSeconds(startupTimeoutSeconds)
+            .maxConsecutiveCrashes(maxConsecutiveCrashes)
+            .crashCooldownMs(crashCooldownMs)
+            .maxLineBytes(maxLineBytes)
+            .build();
+
+        Map<String, String> environment = new HashMap<>();
+        environment.put("PYTHONPATH", scriptsPath);
+        environment.put("PYTHONIOENCODING", "utf-8");
+        environment.put("PYTHONUNBUFFERED", "1");
+
+        for (String script : pooledScripts) {
+            String scriptName = script.trim();
+            PythonWorkerPool pool = new PythonWorkerPool(scriptName,
+                List.of(pythonPath, scriptName, "--worker"),
+                new File(scriptsPath), environment, settings, objectMapper, processReaper);
+            pools.put(scriptName, pool);
+            registerMetrics(pool);
+        }
+
+        // 예열은 기동을 막지 않도록 백그라운드에서 수행
+        pools.values().forEach(pool -> maintenanceExecutor.execute(pool::warmUp));
+
+        long evictionPeriodMs = Math.max(idleTimeoutMs / 2, 1000);
+        maintenanceExecutor.scheduleWithFixedDelay(this::evictIdleWorkers,
+            evictionPeriodMs, evictionPeriodMs, TimeUnit.MILLISECONDS);
+
+        log.info("Python 워커 풀 초기화: scripts={}, min={}, max={}", pools.keySet(), minSize, maxSize);
+    }
+
+    /**
+     * 해당 스크립트가 워커 풀로 처리되는지 여부
+     */
+    public boolean supports(String script) {
+        return enabled && pools.containsKey(script);
+    }
+
+    /**
+     * 워커 풀에서 요청 실행 - 응답 envelope 반환 (exit_code, response)
+     */
+    public JsonNode execute(AiRequest aiRequest, int timeoutSeconds) throws AiProcessingException {
+        String script = aiRequest.getScript();
+        String correlationId = aiRequest.getCorrelationId();
+        PythonWorkerPool pool = pools.get(script);
+        if (pool == null) {
+            throw new AiProcessingException("워커 풀이 없는 스크립트: " + script, correlationId, script);
+        }
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("type", "request");
+        request.putAll(PipelineRequestFrame.envelope(aiRequest));
+
+        return pool.execute(request, correlationId, timeoutSeconds);
+    }
+
+    private void evictIdleWorkers() {
+        for (PythonWorkerPool pool : pools.values()) {
+            try {
+                pool.evictIdleWorkers();
+            } catch (Exception e) {
+                log.warn("Python 워커 정리 실패: {} - {}", pool.getScript(), e.getMessage());
+            }
+        }
+    }
+
+    private void registerMetrics(PythonWorkerPool pool) {
+        Gauge.builder("ai.worker.pool.size", pool, PythonWorkerPool::getTotalWorkers)
+            .description("Live Python workers per pipeline script")
+            .tag("script", pool.getScript())
+            .register(meterRegistry);
+
+        Gauge.builder("ai.worker.pool.idle", pool, PythonWorkerPool::getIdleWorkers)
+            .description("Idle Python workers per pipeline script")
+            .tag("script", pool.getScript())
+            .register(meterRegistry);
+
+        Gauge.builder("ai.worker.pool.spawned", pool, PythonWorkerPool::getSpawnedCount)
+            .description("Python workers started since boot")
+            .tag("script", pool.getScript())
+            .register(meterRegistry);
+
+        Gauge.builder("ai.worker.pool.recycled", pool, PythonWorkerPool::getRecycledCount)
+            .description("Python workers retired after reaching the request limit")
+            .tag("script", pool.getScript())
+            .register(meterRegistry);
+
+        Gauge.builder("ai.worker.pool.evicted", pool, PythonWorkerPool::getEvictedCount)
+            .description("Python workers removed after idling")
+            .tag("script", pool.getScript())
+            .register(meterRegistry);
+
+        Gauge.builder("ai.worker.pool.crashes", pool, PythonWorkerPool::getCrashCount)
+            .description("Python worker crashes and failed starts")
+            .tag("script", pool.getScript())
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        maintenanceExecutor.shutdownNow();
+        pools.values().forEach(PythonWorkerPool::close);
+    }
+}
@@ -0,0 +1,183 @@
+package com.hrm.hrm.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(Caffeine, 프로세스 내) + L2(Redis) 2단 캐시
+ * - 조회: L1 -> L2 -> (로더), L2 적중 시 L1 채움
+ * - 변경(put/evict/clear): L2 반영 후 L1 갱신, 다른 노드의 L1은 pub/sub 무효화 메시지로 제거
+ * - L1 값은 역직렬화 없이 같은 인스턴스를 돌려주므로 호출자는 캐시 결과를 수정하지 않아야 함
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final BiConsumer<String, String> invalidationPublisher;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    TwoTierCache(String name, Cache remote, com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                 BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteHits = remoteCounter(meterRegistry, "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "miss");
+    }
+
+    private Counter remoteCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+            .tag("cache", name)
+            .tag("tier", "l2")
+            .tag("result", result)
+            .description("Redis tier lookups after an in-process miss")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(fromStore(cached));
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, toStore(wrapper.get()));
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        // L2 로더는 키 단위로 동기화되고 새 값을 Redis에 저장함
+        T value = remote.get(key, valueLoader);
+        String localKey = localKey(key);
+        local.put(localKey, toStore(value));
+        invalidationPublisher.accept(name, localKey);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        remote.put(key, value);
+        local.put(localKey, toStore(value));
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = localKey(key);
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            local.put(localKey, toStore(value));
+            invalidationPublisher.accept(name, localKey);
+        } else {
+            local.put(localKey, toStore(existing.get()));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 변경 통지 - 이 노드의 L1만 제거 (L2는 이미 반영됨)
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * L1 키 - Redis 캐시 키와 같은 문자열 표현 (노드 간 무효화 메시지에 그대로 사용)
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object toStore(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private static Object fromStore(Object stored) {
+        return stored == NullValue.INSTANCE ? null : stored;
+    }
+}
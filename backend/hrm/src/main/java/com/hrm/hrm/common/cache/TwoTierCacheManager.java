@@ -0,0 +1,162 @@
+package com.hrm.hrm.common.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단 캐시 매니저
+ * - 캐시마다 L1을 항목 수와 추정 바이트 양쪽으로 제한 (항목당 최소 가중치 = maxWeightBytes / maxEntries)
+ * - 변경 시 Redis pub/sub으로 무효화 메시지를 보내 다른 노드의 L1 제거 (자기 노드 메시지는 무시)
+ * - 메시지 유실에 대비해 L1은 L2보다 짧은 TTL로 만료
+ * - 지표: cache.gets/evictions/size 등 {cache, tier=l1} (CaffeineCacheMetrics), cache.gets{cache, tier=l2}
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private final RedisCacheManager remoteManager;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String invalidationChannel;
+    private final long maxEntries;
+    private final long maxWeightBytes;
+    private final Duration localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> tiers = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager remoteManager, StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry, String invalidationChannel,
+                               long maxEntries, long maxWeightBytes, Duration localTtl) {
+        this.remoteManager = remoteManager;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.invalidationChannel = invalidationChannel;
+        this.maxEntries = Math.max(maxEntries, 1);
+        this.maxWeightBytes = Math.max(maxWeightBytes, this.maxEntries);
+        this.localTtl = localTtl;
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        remoteManager.initializeCaches();
+        return remoteManager.getCacheNames().stream()
+            .map(name -> createCache(name, remoteManager.getCache(name)))
+            .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remote = remoteManager.getCache(name);
+        return remote != null ? createCache(name, remote) : null;
+    }
+
+    private TwoTierCache createCache(String name, Cache remote) {
+        int minWeight = (int) Math.min(Integer.MAX_VALUE, maxWeightBytes / maxEntries);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher((String key, Object value) -> Math.max(minWeight, estimateBytes(value)))
+            .expireAfterWrite(localTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+
+        TwoTierCache cache = new TwoTierCache(name, remote, local, this::publishInvalidation, meterRegistry);
+        tiers.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * L1 가중치용 크기 추정 - JSON 직렬화 바이트 수 (버퍼 없이 개수만 셈)
+     */
+    private int estimateBytes(Object value) {
+        if (value == NullValue.INSTANCE) {
+            return 0;
+        }
+        CountingOutputStream counter = new CountingOutputStream();
+        try {
+            objectMapper.writeValue(counter, value);
+            return (int) Math.min(Integer.MAX_VALUE, counter.count);
+        } catch (IOException | RuntimeException e) {
+            return 0; // 추정 불가 시 최소 가중치 적용
+        }
+    }
+
+    /**
+     * 다른 노드에 L1 무효화 통지 (key == null 이면 캐시 전체)
+     * Redis 장애로 발행이 실패해도 캐시 동작은 유지 - 다른 노드는 L1 TTL로 수렴
+     */
+    private void publishInvalidation(String cacheName, String key) {
+        Map<String, String> message = new LinkedHashMap<>();
+        message.put("origin", nodeId);
+        message.put("cache", cacheName);
+        message.put("key", key);
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패: {} {} - {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode body = objectMapper.readTree(message.getBody());
+            if (nodeId.equals(body.path("origin").asText())) {
+                return;
+            }
+            TwoTierCache cache = tiers.get(body.path("cache").asText());
+            if (cache == null) {
+                return; // 이 노드에서 아직 쓰지 않은 캐시
+            }
+            JsonNode key = body.get("key");
+            if (key == null || key.isNull()) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(key.asText());
+            }
+        } catch (IOException e) {
+            log.warn("캐시 무효화 메시지 해석 실패: {}", e.getMessage());
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.hrm.hrm.common.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지 응답 - nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * size + 1개까지 조회한 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)).encode(), true);
+    }
+}
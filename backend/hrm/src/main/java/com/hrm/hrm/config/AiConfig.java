@@ -1,12 +1,20 @@
 package com.hrm.hrm.config;
 
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.AiService;
+import com.hrm.hrm.ai.CachedAiResponseSerializer;
+import com.hrm.hrm.common.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -27,10 +35,20 @@ import java.util.concurrent.Executor;
 public class AiConfig {
     
     /**
-     * Redis 캐시 매니저 설정
+     * 2단 캐시 매니저 설정 - L1(Caffeine, 노드 내) + L2(Redis, 1시간 TTL)
+     * 트랜잭션 중 put/evict는 커밋 후 두 계층에 함께 반영
+     * AI 응답 캐시(feedback_processing)는 클래스 이름 없는 Smile + 압축 형식으로 저장 (CachedAiResponseSerializer)
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            ObjectMapper objectMapper,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${app.cache.l1.max-entries:10000}") long l1MaxEntries,
+                                            @Value("${app.cache.l1.max-weight-bytes:67108864}") long l1MaxWeightBytes,
+                                            @Value("${app.cache.l1.ttl.ms:300000}") long l1TtlMs,
+                                            @Value("${app.cache.invalidation.channel:hrm:cache:invalidate}") String invalidationChannel,
+                                            @Value("${app.cache.ai.compress-min-bytes:512}") int aiCompressMinBytes) {
         RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofHours(1)) // 1시간 TTL
             .serializeKeysWith(RedisSerializationContext.SerializationPair
@@ -38,10 +56,32 @@ public class AiConfig {
             .serializeValuesWith(RedisSerializationContext.SerializationPair
                 .fromSerializer(new GenericJackson2JsonRedisSerializer()));
         
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheConfiguration aiResponseCacheConfiguration = cacheConfiguration
+            .serializeValuesWith(RedisSerializationContext.SerializationPair
+                .fromSerializer(new CachedAiResponseSerializer(aiCompressMinBytes)));
+        
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
             .cacheDefaults(cacheConfiguration)
-            .transactionAware()
+            .withCacheConfiguration(AiService.FEEDBACK_CACHE, aiResponseCacheConfiguration)
             .build();
+        
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(redisCacheManager, stringRedisTemplate,
+            objectMapper, meterRegistry, invalidationChannel, l1MaxEntries, l1MaxWeightBytes,
+            Duration.ofMillis(l1TtlMs));
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+    
+    /**
+     * 다른 노드의 캐시 변경 통지 수신 (L1 무효화)
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                           TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getInvalidationChannel()));
+        return container;
     }
     
     /**
@@ -59,4 +99,23 @@ public class AiConfig {
         executor.initialize();
         return executor;
     }
+    
+    /**
+     * 긴 피드백 청크 분류 전용 Thread Pool
+     * 청크를 기다리는 호출자가 aiTaskExecutor 스레드일 수 있으므로 같은 풀을 쓰면 대기 스레드가 풀을 채워 고갈/교착될 수 있음
+     * 청크 작업은 다시 청크를 만들지 않으므로 이 풀 안에서는 대기가 중첩되지 않음 (포화 시 호출 스레드에서 처리)
+     */
+    @Bean(name = "aiChunkExecutor")
+    public Executor aiChunkExecutor(@Value("${app.ai.long-text.parallelism:4}") int parallelism,
+                                    @Value("${app.ai.long-text.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("AI-Chunk-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,17 +1,58 @@
 package com.hrm.hrm.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.theokanning.openai.client.OpenAiApi;
 import com.theokanning.openai.service.OpenAiService;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import retrofit2.Retrofit;
+import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
+import retrofit2.converter.jackson.JacksonConverterFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class GptConfig {
-    @Bean
-    public OpenAiService openAiService(@Value("${openai.api.key}") String apiKey) {
+    @Bean(destroyMethod = "shutdownExecutor")
+    public OpenAiService openAiService(@Value("${openai.api.key}") String apiKey,
+                                       @Value("${openai.api.base-url:https://api.openai.com/}") String baseUrl,
+                                       @Value("${openai.api.timeout.ms:30000}") long timeoutMs,
+                                       @Value("${openai.api.pool.max-idle:16}") int maxIdleConnections,
+                                       @Value("${openai.api.pool.keep-alive.ms:300000}") long keepAliveMs) {
         if (apiKey == null || apiKey.isEmpty()) {
             throw new IllegalStateException("openai.api.key 값이 필요합니다.");
         }
-        return new OpenAiService(apiKey);
+        return createOpenAiService(apiKey, baseUrl, Duration.ofMillis(timeoutMs), maxIdleConnections, keepAliveMs);
+    }
+
+    /**
+     * 커넥션 풀을 키운 OpenAiService 생성
+     * 기본 생성자는 유휴 연결 5개/1초 유지라 분류 요청마다 TLS 연결을 새로 맺게 됨
+     * baseUrl을 바꾸면 로컬 스텁 서버로 호출 가능 (테스트)
+     */
+    public static OpenAiService createOpenAiService(String apiKey, String baseUrl, Duration timeout,
+                                                    int maxIdleConnections, long keepAliveMs) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(Math.max(maxIdleConnections, 5));
+
+        OkHttpClient client = OpenAiService.defaultClient(apiKey, timeout).newBuilder()
+            .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMs, TimeUnit.MILLISECONDS))
+            .dispatcher(dispatcher)
+            .build();
+
+        ObjectMapper mapper = OpenAiService.defaultObjectMapper();
+        Retrofit retrofit = new Retrofit.Builder()
+            .baseUrl(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/")
+            .client(client)
+            .addConverterFactory(JacksonConverterFactory.create(mapper))
+            .addCallAdapterFactory(RxJava2CallAdapterFactory.create())
+            .build();
+
+        return new OpenAiService(retrofit.create(OpenAiApi.class), client.dispatcher().executorService());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.hrm.hrm.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA 쓰기 성능 설정
+ * - JDBC 배치: 같은 테이블 INSERT/UPDATE를 batchSize개씩 묶어 전송, 엔티티 종류별로 정렬해 배치가 끊기지 않게 함
+ * - PostgreSQL: reWriteBatchedInserts로 배치 INSERT를 multi-row INSERT 하나로 재작성
+ * UUID를 직접 지정하는 엔티티는 AssignedIdEntity로 새 엔티티 여부를 알려야 save()가 배치에 참여함
+ */
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${app.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put("hibernate.jdbc.batch_size", batchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            properties.put("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    /**
+     * 커넥션 풀 시작 전에 PostgreSQL 드라이버 속성 추가 (다른 DB는 그대로)
+     */
+    @Bean
+    public static BeanPostProcessor postgresBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:postgresql:")) {
+                    dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.hrm.hrm.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * JPA @Index로 만들 수 없는 PostgreSQL jsonb 인덱스를 시작 시 생성 (이미 있으면 건너뜀)
+ * - structured_tags: jsonb_path_ops GIN - 태그/감정 포함 조건(@>)
+ * - muscle_data -> 'tags': 식 GIN - 누적 프로필 태그 포함 조건
+ * CONCURRENTLY로 만들어 큰 테이블에서도 쓰기를 막지 않음 (autocommit 커넥션에서 실행)
+ * 파티션 변환(MonthlyPartitionManager) 뒤에 실행되어 변환된 테이블에도 인덱스가 생김
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class JsonbIndexInitializer implements ApplicationRunner {
+
+    /** 테이블 이름 → 인덱스 DDL ({concurrently} 자리에 CONCURRENTLY 또는 빈 문자열) */
+    static final Map<String, String> INDEX_DDL = Map.of(
+        "peer_feedbacks", "CREATE INDEX {concurrently} IF NOT EXISTS idx_peer_feedback_structured_tags "
+            + "ON peer_feedbacks USING gin (structured_tags jsonb_path_ops)",
+        "personal_manuals", "CREATE INDEX {concurrently} IF NOT EXISTS idx_personal_manual_muscle_tags "
+            + "ON personal_manuals USING gin ((muscle_data -> 'tags') jsonb_path_ops)"
+    );
+
+    private final DataSource dataSource;
+
+    @Value("${app.jpa.jsonb-indexes.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            connection.setAutoCommit(true);
+            for (Map.Entry<String, String> entry : INDEX_DDL.entrySet()) {
+                String ddl = entry.getValue().replace("{concurrently}",
+                    isPartitioned(connection, entry.getKey()) ? "" : "CONCURRENTLY");
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(ddl);
+                } catch (SQLException e) {
+                    log.warn("jsonb 인덱스 생성 실패 (조회는 인덱스 없이 동작): {} - {}", ddl, e.getMessage());
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("jsonb 인덱스 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파티션 부모 테이블은 CONCURRENTLY를 지원하지 않음 (부모에 만들면 파티션마다 생성됨)
+     */
+    private static boolean isPartitioned(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT 1 FROM pg_class WHERE oid = to_regclass(?) AND relkind = 'p'")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.hrm.hrm.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * 정적 팩토리/빌더에서 UUID를 직접 지정하는 엔티티의 공통 상위 클래스
+ * id가 있어도 새로 만든 인스턴스는 새 엔티티로 보고하므로 save()가 SELECT 후 merge 대신 바로 persist하고,
+ * INSERT가 JDBC 배치로 묶일 수 있음. 조회되었거나 저장된 인스턴스는 기존 엔티티로 전환됨
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,52 @@
+package com.hrm.hrm.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관 기간이 지난 MCP 세션의 mcp_packet 원본 (gzip 압축)
+ * 원본 세션 행의 mcp_packet은 보관 후 null이 됨 - McpPacketArchiver.restorePacket으로 복원
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "mcp_packet_archives")
+public class McpPacketArchive extends AssignedIdEntity {
+
+    /**
+     * 원본 MCP 세션 ID
+     */
+    @Id
+    @Column(name = "session_id")
+    private UUID id;
+
+    /**
+     * 원본 세션 생성 시간 (세션 파티션 키)
+     */
+    @Column(name = "session_created_at", nullable = false)
+    private LocalDateTime sessionCreatedAt;
+
+    /**
+     * gzip으로 압축한 mcp_packet JSON (UTF-8)
+     */
+    @Column(name = "packet_gzip", nullable = false)
+    private byte[] packetGzip;
+
+    /**
+     * 압축 전 바이트 수
+     */
+    @Column(name = "original_bytes", nullable = false)
+    private Integer originalBytes;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
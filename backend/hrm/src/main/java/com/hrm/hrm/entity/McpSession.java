@@ -13,14 +13,16 @@ import java.util.UUID;
 /**
  * MCP (Model Control Protocol) 세션 엔티티
  * AI 코칭 생성 과정의 전체 기록을 저장
+ * 목록 조회는 McpSessionSummaryDto 프로젝션으로 jsonb 컬럼을 읽지 않음 - 엔티티는 상세 조회에서만 로딩
  */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "mcp_sessions")
-public class McpSession {
+@Table(name = "mcp_sessions", indexes = @Index(name = "idx_mcp_session_manager_created",
+    columnList = "manager_id, created_at"))
+public class McpSession extends AssignedIdEntity {
     
     @Id
     private UUID id;
@@ -52,7 +54,7 @@ public class McpSession {
     private String analyzedIntent;
     
     /**
-     * 전체 MCP 패킷 (JSON 형태)
+     * 전체 MCP 패킷 (JSON 형태) - 보관 기간이 지나면 압축 보관(McpPacketArchive) 후 null
      */
     @Column(name = "mcp_packet", columnDefinition = "jsonb")
     private String mcpPacket;
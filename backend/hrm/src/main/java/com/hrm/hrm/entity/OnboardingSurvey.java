@@ -20,7 +20,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table(name = "onboarding_surveys")
-public class OnboardingSurvey {
+public class OnboardingSurvey extends AssignedIdEntity {
     
     @Id
     private UUID id;
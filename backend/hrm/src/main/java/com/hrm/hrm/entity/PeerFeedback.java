@@ -18,17 +18,20 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "peer_feedbacks")
-public class PeerFeedback {
+@Table(name = "peer_feedbacks", indexes = {
+    @Index(name = "idx_peer_feedback_status_created", columnList = "processing_status, created_at"),
+    @Index(name = "idx_peer_feedback_to_user_created", columnList = "to_user_id, created_at")
+})
+public class PeerFeedback extends AssignedIdEntity {
     
     @Id
     private UUID id;
     
     /**
-     * 피드백 제공자
+     * 피드백 제공자 (익명 피드백은 null)
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "from_user_id", nullable = false)
+    @JoinColumn(name = "from_user_id")
     private User fromUser;
     
     /**
@@ -69,6 +72,25 @@ public class PeerFeedback {
     @Builder.Default
     private String processingStatus = "PENDING";
     
+    /**
+     * 처리 중인 워커의 임대 토큰 (PROCESSING일 때만 값이 있음)
+     */
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+    
+    /**
+     * 임대 만료 시간 - 지나면 다른 워커가 다시 가져갈 수 있음
+     */
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+    
+    /**
+     * AI 처리 시도 횟수
+     */
+    @Column(name = "processing_attempts")
+    @Builder.Default
+    private Integer processingAttempts = 0;
+    
     /**
      * AI 처리 시 사용된 캐시 키
      */
@@ -117,9 +139,49 @@ public class PeerFeedback {
         this.processingStatus = status;
         if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
             this.processedAt = LocalDateTime.now();
+            releaseLease();
         }
     }
     
+    /**
+     * 처리 실패 기록
+     */
+    public void updateProcessingFailure(String metadata) {
+        this.processingMetadata = metadata;
+        updateProcessingStatus("FAILED");
+    }
+    
+    /**
+     * 임대를 반납하고 다시 대기 상태로 (재시도)
+     */
+    public void returnToPending(String metadata) {
+        this.processingMetadata = metadata;
+        this.processingStatus = "PENDING";
+        releaseLease();
+    }
+    
+    /**
+     * 처리를 보류하고 대기 상태로 - 이번 임대의 시도 횟수는 차감
+     */
+    public void deferProcessing(String metadata) {
+        if (processingAttempts != null && processingAttempts > 0) {
+            processingAttempts--;
+        }
+        returnToPending(metadata);
+    }
+    
+    /**
+     * 주어진 임대 토큰으로 처리 중인지 확인 (임대가 만료되어 다른 워커가 가져갔으면 false)
+     */
+    public boolean isLeasedBy(String leaseToken) {
+        return "PROCESSING".equals(processingStatus) && leaseToken.equals(leaseOwner);
+    }
+    
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+    }
+    
     /**
      * AI 처리 결과 업데이트
      */
@@ -19,7 +19,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table(name = "personal_manuals")
-public class PersonalManual {
+public class PersonalManual extends AssignedIdEntity {
     
     @Id
     private UUID id;
@@ -3,6 +3,7 @@ package com.hrm.hrm.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -21,8 +22,8 @@ import lombok.AccessLevel;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "project")
-public class Project {
+@Table(name = "project", indexes = @Index(name = "idx_project_name_id", columnList = "name, id"))
+public class Project extends AssignedIdEntity {
     @Id
     private UUID id;
 
@@ -19,7 +19,7 @@ import lombok.AccessLevel;
 @AllArgsConstructor
 @Builder
 @Table(name = "project_position")
-public class ProjectPosition {
+public class ProjectPosition extends AssignedIdEntity {
     @Id
     private UUID id;
 
@@ -2,6 +2,7 @@ package com.hrm.hrm.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,8 +18,8 @@ import lombok.AccessLevel;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "project_team")
-public class ProjectTeam {
+@Table(name = "project_team", indexes = @Index(name = "idx_project_team_team_project", columnList = "team_id, project_id"))
+public class ProjectTeam extends AssignedIdEntity {
     @Id
     private UUID id;
 
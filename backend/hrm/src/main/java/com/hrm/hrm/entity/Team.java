@@ -3,6 +3,7 @@ package com.hrm.hrm.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -20,8 +21,8 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "team")
-public class Team {
+@Table(name = "team", indexes = @Index(name = "idx_team_name_id", columnList = "name, id"))
+public class Team extends AssignedIdEntity {
     @Id
     private UUID id;
 
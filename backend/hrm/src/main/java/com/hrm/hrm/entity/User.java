@@ -3,6 +3,7 @@ package com.hrm.hrm.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
@@ -20,8 +21,8 @@ import lombok.AccessLevel;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "users")
-public class User {
+@Table(name = "users", indexes = @Index(name = "idx_users_user_name_id", columnList = "user_name, id"))
+public class User extends AssignedIdEntity {
     @Id
     private UUID id;
 
@@ -3,6 +3,7 @@ package com.hrm.hrm.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,8 +19,9 @@ import lombok.AccessLevel;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "user_position_assignment")
-public class UserPositionAssignment {
+@Table(name = "user_position_assignment",
+        indexes = @Index(name = "idx_upa_user_project", columnList = "user_id, project_id"))
+public class UserPositionAssignment extends AssignedIdEntity {
     @Id
     private UUID id;
 
@@ -0,0 +1,149 @@
+package com.hrm.hrm.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자별 태그 누적 통계 - 피드백마다 증분 반영되어 PersonalManual.muscleData의 원천이 됨
+ * 모든 합계는 피드백 가중치(feedbackWeight, 익명 0.8)를 곱해 누적
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "user_tag_stats", uniqueConstraints = @UniqueConstraint(name = "uk_user_tag_stats_user_tag",
+    columnNames = {"user_id", "tag"}))
+public class UserTagStat extends AssignedIdEntity {
+
+    @Id
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    /**
+     * 태그명 (예: "#꼼꼼함")
+     */
+    @Column(name = "tag", nullable = false, length = 100)
+    private String tag;
+
+    /**
+     * 마지막으로 관측된 태그 카테고리
+     */
+    @Column(name = "category")
+    private String category;
+
+    /**
+     * 태그가 나온 피드백 수
+     */
+    @Column(name = "feedback_count", nullable = false)
+    @Builder.Default
+    private Integer feedbackCount = 0;
+
+    /**
+     * 가중 횟수 (피드백 가중치 합)
+     */
+    @Column(name = "weighted_count", nullable = false)
+    @Builder.Default
+    private Double weightedCount = 0.0;
+
+    /**
+     * 긍정 가중치 합 (Mixed는 긍정/부정에 절반씩)
+     */
+    @Column(name = "positive_weight", nullable = false)
+    @Builder.Default
+    private Double positiveWeight = 0.0;
+
+    /**
+     * 부정 가중치 합
+     */
+    @Column(name = "negative_weight", nullable = false)
+    @Builder.Default
+    private Double negativeWeight = 0.0;
+
+    /**
+     * 가중치 x 신뢰도 합 (평균 신뢰도 = confidenceWeight / weightedCount)
+     */
+    @Column(name = "confidence_weight", nullable = false)
+    @Builder.Default
+    private Double confidenceWeight = 0.0;
+
+    @Column(name = "first_seen_at", nullable = false)
+    private LocalDateTime firstSeenAt;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+
+    // 비즈니스 메서드들
+
+    /**
+     * 피드백 한 건의 태그 관측을 누적
+     */
+    public void accumulate(String category, String sentiment, double confidence, double weight, LocalDateTime seenAt) {
+        this.feedbackCount++;
+        this.weightedCount += weight;
+        this.confidenceWeight += weight * confidence;
+        if ("Positive".equalsIgnoreCase(sentiment)) {
+            this.positiveWeight += weight;
+        } else if ("Negative".equalsIgnoreCase(sentiment)) {
+            this.negativeWeight += weight;
+        } else if ("Mixed".equalsIgnoreCase(sentiment)) {
+            this.positiveWeight += weight / 2;
+            this.negativeWeight += weight / 2;
+        }
+        if (category != null) {
+            this.category = category;
+        }
+        if (firstSeenAt == null || seenAt.isBefore(firstSeenAt)) {
+            this.firstSeenAt = seenAt;
+        }
+        if (lastSeenAt == null || seenAt.isAfter(lastSeenAt)) {
+            this.lastSeenAt = seenAt;
+        }
+    }
+
+    /**
+     * 감정 균형 (-1.0 = 전부 부정 ~ 1.0 = 전부 긍정)
+     */
+    public double getSentimentBalance() {
+        return weightedCount > 0 ? (positiveWeight - negativeWeight) / weightedCount : 0.0;
+    }
+
+    public double getAverageConfidence() {
+        return weightedCount > 0 ? confidenceWeight / weightedCount : 0.0;
+    }
+
+    /**
+     * 누적 결과의 대표 감정
+     */
+    public String getDominantSentiment() {
+        double balance = getSentimentBalance();
+        if (balance >= 0.2) {
+            return "Positive";
+        }
+        if (balance <= -0.2) {
+            return "Negative";
+        }
+        return positiveWeight + negativeWeight > 0 ? "Mixed" : "Neutral";
+    }
+
+    /**
+     * 정적 팩토리 메서드
+     */
+    public static UserTagStat create(User user, String tag) {
+        return UserTagStat.builder()
+            .id(UUID.randomUUID())
+            .user(user)
+            .tag(tag)
+            .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.hrm.hrm.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -19,8 +20,8 @@ import lombok.AccessLevel;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "user_team")
-public class UserTeam {
+@Table(name = "user_team", indexes = @Index(name = "idx_user_team_team_user", columnList = "team_id, user_id"))
+public class UserTeam extends AssignedIdEntity {
     @Id
     private UUID id;
 
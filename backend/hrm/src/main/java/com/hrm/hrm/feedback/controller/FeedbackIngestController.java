@@ -0,0 +1,45 @@
+package com.hrm.hrm.feedback.controller;
+
+import com.hrm.hrm.common.ApiResponse;
+import com.hrm.hrm.feedback.dto.FeedbackIngestResult;
+import com.hrm.hrm.feedback.ingest.FeedbackIngestFormat;
+import com.hrm.hrm.feedback.service.FeedbackIngestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@Tag(name = "Feedback", description = "피드백 관련 API")
+@RestController
+@RequestMapping("/api/feedback")
+@RequiredArgsConstructor
+public class FeedbackIngestController {
+
+    private final FeedbackIngestService feedbackIngestService;
+
+    /**
+     * 본문을 multipart로 감싸지 않고 그대로 스트리밍 (application/x-ndjson 또는 text/csv)
+     */
+    @Operation(summary = "피드백 대량 적재 (NDJSON/CSV, PENDING 상태로 저장)")
+    @PostMapping(value = "/import", consumes = {FeedbackIngestFormat.NDJSON_MEDIA_TYPE, "text/csv"})
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<FeedbackIngestResult> importFeedbacks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) {
+        try {
+            FeedbackIngestFormat format = FeedbackIngestFormat.fromContentType(contentType);
+            return ApiResponse.ok(feedbackIngestService.ingest(request.getInputStream(), format));
+        } catch (Exception e) {
+            log.warn("피드백 대량 적재 실패: {}", e.getMessage());
+            return ApiResponse.fail(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.hrm.hrm.feedback.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 피드백 대량 적재 결과
+ */
+@Value
+@Builder
+public class FeedbackIngestResult {
+    String format;
+    /** 읽은 데이터 행 수 (빈 줄 제외) */
+    long totalRows;
+    /** PENDING 상태로 저장된 행 수 */
+    long insertedRows;
+    /** 형식/검증 오류 또는 존재하지 않는 사용자로 거부된 행 수 */
+    long rejectedRows;
+    long elapsedMs;
+    double rowsPerSecond;
+    /** 거부 사유 (앞쪽 일부만) */
+    List<Rejection> rejections;
+    /** rejections가 잘렸는지 여부 */
+    boolean rejectionsTruncated;
+
+    @Value
+    public static class Rejection {
+        long line;
+        String reason;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hrm.hrm.feedback.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+/**
+ * 피드백 일괄 가져오기 항목
+ * NDJSON 적재 시 snake_case와 짧은 이름(from, to, text)도 허용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeerFeedbackImportItem {
+    /** 피드백 제공자 (익명이면 무시) */
+    @JsonAlias({"from", "from_user_id"})
+    private UUID fromUserId;
+    /** 피드백 대상자 */
+    @JsonAlias({"to", "to_user_id"})
+    private UUID toUserId;
+    /** 원본 피드백 텍스트 */
+    @JsonAlias({"text", "feedback_text"})
+    private String feedbackText;
+    /** 프로젝트 컨텍스트 */
+    @JsonAlias({"project_context"})
+    private String projectContext;
+    /** 피드백 카테고리 */
+    private String category;
+    /** 익명 피드백 여부 */
+    @JsonAlias({"is_anonymous"})
+    private boolean anonymous;
+}
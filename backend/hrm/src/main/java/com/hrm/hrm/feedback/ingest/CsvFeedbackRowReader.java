@@ -0,0 +1,191 @@
+package com.hrm.hrm.feedback.ingest;
+
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * CSV 행 읽기 (RFC 4180: 큰따옴표 필드, "" 이스케이프, 필드 안 줄바꿈 허용)
+ * 첫 레코드는 헤더 - 대소문자, '_', '-', 공백은 무시하고 아래 이름으로 열을 찾음
+ * from_user_id(from), to_user_id(to), feedback_text(text), project_context, category, anonymous(is_anonymous)
+ */
+class CsvFeedbackRowReader implements FeedbackRowReader {
+
+    /** 닫히지 않은 따옴표 등으로 레코드가 끝없이 커지는 것 방지 */
+    static final int MAX_RECORD_CHARS = 1_000_000;
+
+    private final BufferedReader reader;
+    private long lineNumber = 1;
+    private boolean started;
+    private int fromIndex = -1;
+    private int toIndex = -1;
+    private int textIndex = -1;
+    private int projectIndex = -1;
+    private int categoryIndex = -1;
+    private int anonymousIndex = -1;
+
+    CsvFeedbackRowReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    public FeedbackRow next() throws IOException {
+        if (!started) {
+            started = true;
+            readHeader();
+        }
+        while (true) {
+            long recordLine = lineNumber;
+            List<String> fields = new ArrayList<>();
+            String error = readRecord(fields);
+            if (fields.isEmpty() && error == null) {
+                return null;
+            }
+            if (error != null) {
+                return FeedbackRow.rejected(recordLine, error);
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            return toRow(recordLine, fields);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = new ArrayList<>();
+        String error = readRecord(header);
+        if (error != null || header.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더를 읽을 수 없습니다.");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            switch (name.toLowerCase(Locale.ROOT).replaceAll("[_\\-\\s]", "")) {
+                case "fromuserid", "from" -> fromIndex = i;
+                case "touserid", "to" -> toIndex = i;
+                case "feedbacktext", "text" -> textIndex = i;
+                case "projectcontext" -> projectIndex = i;
+                case "category", "feedbackcategory" -> categoryIndex = i;
+                case "anonymous", "isanonymous" -> anonymousIndex = i;
+                default -> { } // 모르는 열은 무시
+            }
+        }
+        if (toIndex < 0 || textIndex < 0) {
+            throw new IllegalArgumentException("CSV 헤더에 to_user_id와 feedback_text 열이 필요합니다.");
+        }
+    }
+
+    /**
+     * 레코드 하나를 fields에 채움
+     * @return 레코드 오류 메시지 (정상이면 null, 입력 끝이면 fields가 비어 있음)
+     */
+    private String readRecord(List<String> fields) throws IOException {
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean quoted = false;
+        int recordChars = 0;
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        while (true) {
+            if (c < 0) {
+                fields.add(field.toString());
+                return inQuotes ? "따옴표가 닫히지 않았습니다." : null;
+            }
+            if (++recordChars > MAX_RECORD_CHARS) {
+                throw new IllegalArgumentException(lineNumber + "번째 줄: 레코드가 너무 깁니다.");
+            }
+            char ch = (char) c;
+            if (inQuotes) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        inQuotes = false;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty() && !quoted) {
+                inQuotes = true;
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else if (ch == '\r' || ch == '\n') {
+                if (ch == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                lineNumber++;
+                fields.add(field.toString());
+                return null;
+            } else {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+    }
+
+    private FeedbackRow toRow(long line, List<String> fields) {
+        try {
+            return FeedbackRow.parsed(line, PeerFeedbackImportItem.builder()
+                .fromUserId(uuid(field(fields, fromIndex), "from_user_id"))
+                .toUserId(uuid(field(fields, toIndex), "to_user_id"))
+                .feedbackText(field(fields, textIndex))
+                .projectContext(field(fields, projectIndex))
+                .category(field(fields, categoryIndex))
+                .anonymous(bool(field(fields, anonymousIndex)))
+                .build());
+        } catch (IllegalArgumentException e) {
+            return FeedbackRow.rejected(line, e.getMessage());
+        }
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static UUID uuid(String value, String column) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + " 값이 UUID가 아닙니다: " + value);
+        }
+    }
+
+    private static boolean bool(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "t", "1", "y", "yes" -> true;
+            case "false", "f", "0", "n", "no" -> false;
+            default -> throw new IllegalArgumentException("anonymous 값이 올바르지 않습니다: " + value);
+        };
+    }
+}
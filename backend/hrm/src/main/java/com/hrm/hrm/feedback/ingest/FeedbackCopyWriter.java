@@ -0,0 +1,68 @@
+package com.hrm.hrm.feedback.ingest;
+
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 검증된 행을 COPY text 형식으로 버퍼링해 일정 크기마다 CopyIn으로 전송
+ * 열 순서: line_no, id, from_user_id, to_user_id, feedback_text, project_context, feedback_category, is_anonymous
+ */
+public class FeedbackCopyWriter {
+
+    private static final int FLUSH_CHARS = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 4096);
+
+    public FeedbackCopyWriter(CopyIn copyIn) {
+        this.copyIn = copyIn;
+    }
+
+    public void write(long line, PeerFeedbackImportItem item) throws SQLException {
+        PgCopyText.appendField(buffer, line);
+        PgCopyText.appendField(buffer, UUID.randomUUID());
+        // 익명 피드백은 PeerFeedback.createAnonymous와 같이 제공자를 저장하지 않음
+        PgCopyText.appendField(buffer, item.isAnonymous() ? null : item.getFromUserId());
+        PgCopyText.appendField(buffer, item.getToUserId());
+        PgCopyText.appendField(buffer, item.getFeedbackText());
+        PgCopyText.appendField(buffer, item.getProjectContext());
+        PgCopyText.appendField(buffer, item.getCategory());
+        PgCopyText.appendField(buffer, item.isAnonymous());
+        PgCopyText.endRow(buffer);
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    /**
+     * 남은 버퍼를 보내고 COPY 종료
+     * @return 서버가 받은 행 수
+     */
+    public long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    public void cancel() {
+        try {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        } catch (SQLException ignored) {
+            // 트랜잭션 롤백으로 정리됨
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
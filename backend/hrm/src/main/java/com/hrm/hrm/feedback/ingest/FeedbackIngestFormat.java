@@ -0,0 +1,29 @@
+package com.hrm.hrm.feedback.ingest;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 피드백 대량 적재 입력 형식
+ */
+public enum FeedbackIngestFormat {
+    /** 한 줄에 JSON 객체 하나 (application/x-ndjson) */
+    NDJSON,
+    /** 첫 줄이 헤더인 RFC 4180 CSV (text/csv) */
+    CSV;
+
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    public static FeedbackIngestFormat fromContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            throw new IllegalArgumentException("Content-Type이 필요합니다 (application/x-ndjson 또는 text/csv).");
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))) {
+            return NDJSON;
+        }
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return CSV;
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다: " + contentType);
+    }
+}
@@ -0,0 +1,18 @@
+package com.hrm.hrm.feedback.ingest;
+
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+
+/**
+ * 입력에서 읽은 한 행 (line은 행이 시작하는 1부터 센 줄 번호)
+ * 파싱에 실패한 행은 item 없이 error만 가짐
+ */
+public record FeedbackRow(long line, PeerFeedbackImportItem item, String error) {
+
+    public static FeedbackRow parsed(long line, PeerFeedbackImportItem item) {
+        return new FeedbackRow(line, item, null);
+    }
+
+    public static FeedbackRow rejected(long line, String error) {
+        return new FeedbackRow(line, null, error);
+    }
+}
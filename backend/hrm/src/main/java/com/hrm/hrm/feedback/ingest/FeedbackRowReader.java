@@ -0,0 +1,24 @@
+package com.hrm.hrm.feedback.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 입력 스트림에서 피드백 행을 하나씩 읽음 (전체를 메모리에 올리지 않음)
+ */
+public interface FeedbackRowReader {
+
+    /**
+     * @return 다음 행, 입력이 끝나면 null
+     */
+    FeedbackRow next() throws IOException;
+
+    static FeedbackRowReader of(FeedbackIngestFormat format, Reader reader, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonFeedbackRowReader(reader, objectMapper);
+            case CSV -> new CsvFeedbackRowReader(reader);
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.hrm.hrm.feedback.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * NDJSON 행 읽기 - 빈 줄은 건너뛰고, JSON 오류는 해당 행만 거부
+ */
+class NdjsonFeedbackRowReader implements FeedbackRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    NdjsonFeedbackRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public FeedbackRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return FeedbackRow.parsed(lineNumber, objectMapper.readValue(line, PeerFeedbackImportItem.class));
+            } catch (JsonProcessingException e) {
+                return FeedbackRow.rejected(lineNumber, "JSON 형식 오류: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+}
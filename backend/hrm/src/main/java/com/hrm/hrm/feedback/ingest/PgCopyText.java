@@ -0,0 +1,35 @@
+package com.hrm.hrm.feedback.ingest;
+
+/**
+ * PostgreSQL COPY text 형식 인코딩 (탭 구분, \N = NULL, 역슬래시 이스케이프)
+ */
+final class PgCopyText {
+
+    private PgCopyText() {
+    }
+
+    static void appendField(StringBuilder row, Object value) {
+        if (row.length() > 0 && row.charAt(row.length() - 1) != '\n') {
+            row.append('\t');
+        }
+        if (value == null) {
+            row.append("\\N");
+            return;
+        }
+        String text = value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '\\' -> row.append("\\\\");
+                case '\t' -> row.append("\\t");
+                case '\n' -> row.append("\\n");
+                case '\r' -> row.append("\\r");
+                default -> row.append(ch);
+            }
+        }
+    }
+
+    static void endRow(StringBuilder row) {
+        row.append('\n');
+    }
+}
@@ -0,0 +1,45 @@
+package com.hrm.hrm.feedback.repository;
+
+import com.hrm.hrm.entity.PeerFeedback;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PeerFeedbackRepository extends JpaRepository<PeerFeedback, UUID> {
+
+    /**
+     * 처리할 피드백 잠금 (PENDING 또는 임대가 만료된 PROCESSING)
+     * 다른 트랜잭션이 잠근 행은 기다리지 않고 건너뜀 - 여러 노드가 겹치지 않게 나눠 가져감
+     */
+    @Query(value = """
+        SELECT id FROM peer_feedbacks
+        WHERE processing_status = 'PENDING'
+           OR (processing_status = 'PROCESSING' AND (lease_expires_at IS NULL OR lease_expires_at < :now))
+        ORDER BY created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<UUID> lockClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update PeerFeedback f
+        set f.processingStatus = 'PROCESSING', f.leaseOwner = :leaseToken, f.leaseExpiresAt = :expiresAt,
+            f.processingAttempts = coalesce(f.processingAttempts, 0) + 1
+        where f.id in :ids""")
+    int markClaimed(@Param("ids") Collection<UUID> ids,
+                    @Param("leaseToken") String leaseToken,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from PeerFeedback f where f.id = :id")
+    Optional<PeerFeedback> findByIdForUpdate(@Param("id") UUID id);
+}
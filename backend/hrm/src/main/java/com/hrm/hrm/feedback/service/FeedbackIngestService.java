@@ -0,0 +1,15 @@
+package com.hrm.hrm.feedback.service;
+
+import com.hrm.hrm.feedback.dto.FeedbackIngestResult;
+import com.hrm.hrm.feedback.ingest.FeedbackIngestFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface FeedbackIngestService {
+    /**
+     * NDJSON/CSV 스트림을 COPY로 peer_feedbacks에 적재 (모든 행은 PENDING)
+     * 잘못된 행은 건너뛰고 결과에 기록, 나머지는 한 트랜잭션으로 저장
+     */
+    FeedbackIngestResult ingest(InputStream body, FeedbackIngestFormat format) throws IOException;
+}
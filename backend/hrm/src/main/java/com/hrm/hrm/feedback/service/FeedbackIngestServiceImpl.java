@@ -0,0 +1,203 @@
+package com.hrm.hrm.feedback.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.feedback.dto.FeedbackIngestResult;
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+import com.hrm.hrm.feedback.ingest.FeedbackCopyWriter;
+import com.hrm.hrm.feedback.ingest.FeedbackIngestFormat;
+import com.hrm.hrm.feedback.ingest.FeedbackRow;
+import com.hrm.hrm.feedback.ingest.FeedbackRowReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 피드백 대량 적재 (PostgreSQL COPY)
+ * 1. 요청 본문을 한 행씩 읽어 검증하고, 통과한 행만 임시 테이블로 COPY 스트리밍
+ * 2. INSERT ... SELECT로 사용자가 존재하는 행만 peer_feedbacks에 PENDING으로 옮김
+ *    (외래 키 오류 한 건으로 COPY 전체가 실패하지 않도록 임시 테이블을 거침)
+ * JPA 트랜잭션과 같은 커넥션을 사용하며 임시 테이블은 커밋 시 삭제됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedbackIngestServiceImpl implements FeedbackIngestService {
+
+    static final int MAX_REPORTED_REJECTIONS = 100;
+    /** project_context, feedback_category 컬럼 길이 */
+    static final int MAX_COLUMN_LENGTH = 255;
+
+    private static final String CREATE_STAGING = """
+        CREATE TEMP TABLE peer_feedback_ingest (
+            line_no bigint, id uuid, from_user_id uuid, to_user_id uuid,
+            feedback_text text, project_context text, feedback_category text, is_anonymous boolean
+        ) ON COMMIT DROP""";
+
+    private static final String COPY_STAGING = """
+        COPY peer_feedback_ingest (line_no, id, from_user_id, to_user_id,
+            feedback_text, project_context, feedback_category, is_anonymous) FROM STDIN""";
+
+    private static final String KNOWN_USERS = """
+        EXISTS (SELECT 1 FROM users t WHERE t.id = s.to_user_id)
+          AND (s.from_user_id IS NULL OR EXISTS (SELECT 1 FROM users f WHERE f.id = s.from_user_id))""";
+
+    private static final String INSERT_FROM_STAGING = """
+        INSERT INTO peer_feedbacks (id, from_user_id, to_user_id, feedback_text, project_context,
+            feedback_category, processing_status, created_at, feedback_weight, is_anonymous)
+        SELECT s.id, s.from_user_id, s.to_user_id, s.feedback_text, s.project_context,
+            s.feedback_category, 'PENDING', LOCALTIMESTAMP,
+            CASE WHEN s.is_anonymous THEN 0.8 ELSE 1.0 END, s.is_anonymous
+        FROM peer_feedback_ingest s
+        WHERE """ + KNOWN_USERS;
+
+    private static final String UNKNOWN_USER_LINES = """
+        SELECT s.line_no FROM peer_feedback_ingest s
+        WHERE NOT (""" + KNOWN_USERS + """
+        )
+        ORDER BY s.line_no LIMIT ?""";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    @Transactional
+    public FeedbackIngestResult ingest(InputStream body, FeedbackIngestFormat format) throws IOException {
+        long started = System.nanoTime();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING);
+            }
+
+            FeedbackRowReader reader = FeedbackRowReader.of(format,
+                new InputStreamReader(body, StandardCharsets.UTF_8), objectMapper);
+            FeedbackCopyWriter writer = new FeedbackCopyWriter(
+                connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING));
+
+            List<FeedbackIngestResult.Rejection> rejections = new ArrayList<>();
+            long total = 0;
+            long rejected = 0;
+            try {
+                FeedbackRow row;
+                while ((row = reader.next()) != null) {
+                    total++;
+                    String reason = row.error() != null ? row.error() : rejectReason(row.item());
+                    if (reason != null) {
+                        rejected++;
+                        addRejection(rejections, row.line(), reason);
+                        continue;
+                    }
+                    writer.write(row.line(), row.item());
+                }
+                writer.finish();
+            } catch (IOException | SQLException | RuntimeException e) {
+                writer.cancel();
+                throw e;
+            }
+
+            long staged = total - rejected;
+            long inserted;
+            try (Statement statement = connection.createStatement()) {
+                inserted = statement.executeUpdate(INSERT_FROM_STAGING);
+            }
+            if (inserted < staged) {
+                rejected += staged - inserted;
+                collectUnknownUserRejections(connection, rejections);
+            }
+
+            long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+            meterRegistry.counter("feedback.ingest.rows", "format", format.name(), "result", "inserted").increment(inserted);
+            meterRegistry.counter("feedback.ingest.rows", "format", format.name(), "result", "rejected").increment(rejected);
+            log.info("피드백 대량 적재 완료 - format: {}, 전체: {}, 저장: {}, 거부: {}, {}ms",
+                format, total, inserted, rejected, elapsedMs);
+
+            rejections.sort((a, b) -> Long.compare(a.getLine(), b.getLine()));
+            List<FeedbackIngestResult.Rejection> reported = rejections.size() > MAX_REPORTED_REJECTIONS
+                ? List.copyOf(rejections.subList(0, MAX_REPORTED_REJECTIONS)) : rejections;
+            return FeedbackIngestResult.builder()
+                .format(format.name())
+                .totalRows(total)
+                .insertedRows(inserted)
+                .rejectedRows(rejected)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(Math.round(inserted * 1000.0 / elapsedMs * 10) / 10.0)
+                .rejections(reported)
+                .rejectionsTruncated(rejected > reported.size())
+                .build();
+        } catch (SQLException e) {
+            throw new IllegalStateException("피드백 적재 중 DB 오류: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * 행 단위 검증 - 통과하면 null
+     */
+    static String rejectReason(PeerFeedbackImportItem item) {
+        if (item == null) {
+            return "빈 행입니다.";
+        }
+        if (item.getToUserId() == null) {
+            return "to_user_id가 필요합니다.";
+        }
+        if (!item.isAnonymous() && item.getFromUserId() == null) {
+            return "from_user_id가 필요합니다.";
+        }
+        if (item.getFeedbackText() == null || item.getFeedbackText().isBlank()) {
+            return "feedback_text가 필요합니다.";
+        }
+        if (exceedsColumn(item.getProjectContext()) || exceedsColumn(item.getCategory())) {
+            return "project_context와 category는 " + MAX_COLUMN_LENGTH + "자 이하여야 합니다.";
+        }
+        if (containsNul(item.getFeedbackText()) || containsNul(item.getProjectContext())
+                || containsNul(item.getCategory())) {
+            return "NUL 문자는 저장할 수 없습니다.";
+        }
+        return null;
+    }
+
+    private static boolean exceedsColumn(String value) {
+        return value != null && value.length() > MAX_COLUMN_LENGTH;
+    }
+
+    private static boolean containsNul(String value) {
+        return value != null && value.indexOf('\0') >= 0;
+    }
+
+    private static void addRejection(List<FeedbackIngestResult.Rejection> rejections, long line, String reason) {
+        if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+            rejections.add(new FeedbackIngestResult.Rejection(line, reason));
+        }
+    }
+
+    private static void collectUnknownUserRejections(Connection connection,
+                                                     List<FeedbackIngestResult.Rejection> rejections) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UNKNOWN_USER_LINES)) {
+            statement.setInt(1, MAX_REPORTED_REJECTIONS);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    rejections.add(new FeedbackIngestResult.Rejection(rs.getLong(1), "존재하지 않는 사용자입니다."));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.hrm.hrm.feedback.service;
+
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+
+import java.util.List;
+
+public interface PeerFeedbackImportService {
+    /**
+     * 피드백을 PENDING 상태로 일괄 저장 (AI 처리는 이후 별도로 진행)
+     * @return 저장한 건수
+     */
+    int importFeedbacks(List<PeerFeedbackImportItem> items);
+}
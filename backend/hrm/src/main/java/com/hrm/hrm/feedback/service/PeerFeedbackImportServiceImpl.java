@@ -0,0 +1,88 @@
+package com.hrm.hrm.feedback.service;
+
+import com.hrm.hrm.entity.PeerFeedback;
+import com.hrm.hrm.entity.User;
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+import com.hrm.hrm.feedback.repository.PeerFeedbackRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 피드백 일괄 저장
+ * - 사용자는 getReference로 연결해 사용자 SELECT 없이 외래 키만 채움
+ * - 새 엔티티(AssignedIdEntity)라 save 전 SELECT 없이 persist되고 INSERT는 JDBC 배치로 전송
+ * - batchSize건마다 flush/clear해서 영속성 컨텍스트 크기를 일정하게 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PeerFeedbackImportServiceImpl implements PeerFeedbackImportService {
+
+    private final PeerFeedbackRepository peerFeedbackRepository;
+    private final EntityManager entityManager;
+
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize = 50;
+
+    @Override
+    @Transactional
+    public int importFeedbacks(List<PeerFeedbackImportItem> items) {
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            validate(items.get(i), i);
+        }
+
+        List<PeerFeedback> chunk = new ArrayList<>(batchSize);
+        for (PeerFeedbackImportItem item : items) {
+            chunk.add(toEntity(item));
+            if (chunk.size() >= batchSize) {
+                flushChunk(chunk);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flushChunk(chunk);
+        }
+
+        log.info("피드백 일괄 저장 완료 - {}건", items.size());
+        return items.size();
+    }
+
+    private void validate(PeerFeedbackImportItem item, int index) {
+        if (item == null || item.getToUserId() == null) {
+            throw new IllegalArgumentException(index + "번째 항목: toUserId가 필요합니다.");
+        }
+        if (!item.isAnonymous() && item.getFromUserId() == null) {
+            throw new IllegalArgumentException(index + "번째 항목: fromUserId가 필요합니다.");
+        }
+        if (item.getFeedbackText() == null || item.getFeedbackText().isBlank()) {
+            throw new IllegalArgumentException(index + "번째 항목: feedbackText가 필요합니다.");
+        }
+    }
+
+    private PeerFeedback toEntity(PeerFeedbackImportItem item) {
+        User toUser = entityManager.getReference(User.class, item.getToUserId());
+        if (item.isAnonymous()) {
+            return PeerFeedback.createAnonymous(toUser, item.getFeedbackText(),
+                item.getProjectContext(), item.getCategory());
+        }
+        User fromUser = entityManager.getReference(User.class, item.getFromUserId());
+        return PeerFeedback.create(fromUser, toUser, item.getFeedbackText(),
+            item.getProjectContext(), item.getCategory());
+    }
+
+    private void flushChunk(List<PeerFeedback> chunk) {
+        peerFeedbackRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+}
@@ -0,0 +1,9 @@
+package com.hrm.hrm.feedback.worker;
+
+import java.util.UUID;
+
+/**
+ * 워커가 임대한 피드백 (AI 처리에 필요한 값만)
+ */
+public record ClaimedFeedback(UUID id, String feedbackText, String projectContext, int attempts) {
+}
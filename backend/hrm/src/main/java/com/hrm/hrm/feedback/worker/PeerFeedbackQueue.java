@@ -0,0 +1,127 @@
+package com.hrm.hrm.feedback.worker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.entity.PeerFeedback;
+import com.hrm.hrm.feedback.repository.PeerFeedbackRepository;
+import com.hrm.hrm.manual.service.ManualAggregationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * peer_feedbacks 기반 작업 큐 - 메서드마다 짧은 트랜잭션 하나 (AI 호출은 트랜잭션 밖에서)
+ * - claim: SKIP LOCKED로 잠근 행을 PROCESSING + 임대 토큰/만료 시간으로 표시하고 커밋
+ * - complete/fail/defer: 행을 잠근 뒤 아직 같은 임대 토큰일 때만 결과 기록 (임대를 잃었으면 무시)
+ * - complete는 같은 트랜잭션에서 태그를 대상자 매뉴얼 집계에 반영 (COMPLETED 전환과 함께 정확히 한 번)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PeerFeedbackQueue {
+
+    private final PeerFeedbackRepository peerFeedbackRepository;
+    private final ManualAggregationService manualAggregationService;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public List<ClaimedFeedback> claim(int batchSize, String leaseToken, long leaseMs) {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> ids = peerFeedbackRepository.lockClaimableIds(now, batchSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        peerFeedbackRepository.markClaimed(ids, leaseToken, now.plusNanos(leaseMs * 1_000_000));
+        return peerFeedbackRepository.findAllById(ids).stream()
+            .map(f -> new ClaimedFeedback(f.getId(), f.getFeedbackText(), f.getProjectContext(),
+                f.getProcessingAttempts() == null ? 1 : f.getProcessingAttempts()))
+            .toList();
+    }
+
+    /**
+     * @return 결과를 기록했으면 true, 임대를 잃었으면 false
+     */
+    @Transactional
+    public boolean complete(UUID id, String leaseToken, AiResponse response) {
+        PeerFeedback feedback = lockLeased(id, leaseToken);
+        if (feedback == null) {
+            return false;
+        }
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("summary", response.getSummary());
+        metadata.put("processing_info", response.getProcessingInfo());
+        metadata.put("data_quality", response.getDataQuality());
+        metadata.put("processing_time_ms", response.getProcessingTimeMs());
+        metadata.put("correlation_id", response.getCorrelationId());
+        metadata.put("attempts", feedback.getProcessingAttempts());
+        feedback.updateProcessingResult(toJson(response.getStructuredTags()), response.getCacheKey(), toJson(metadata));
+        manualAggregationService.foldFeedback(feedback, response.getStructuredTags());
+        return true;
+    }
+
+    /**
+     * 실패 기록 - retry면 PENDING으로 되돌리고, 아니면 FAILED
+     * @return 결과를 기록했으면 true, 임대를 잃었으면 false
+     */
+    @Transactional
+    public boolean fail(UUID id, String leaseToken, String error, boolean retry) {
+        PeerFeedback feedback = lockLeased(id, leaseToken);
+        if (feedback == null) {
+            return false;
+        }
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("error", error);
+        metadata.put("attempts", feedback.getProcessingAttempts());
+        if (retry) {
+            feedback.returnToPending(toJson(metadata));
+        } else {
+            feedback.updateProcessingFailure(toJson(metadata));
+        }
+        return true;
+    }
+
+    /**
+     * 처리를 보류하고 PENDING으로 되돌림 - 이번 임대에서 늘린 시도 횟수는 되돌려 재시도 한도를 소모하지 않음
+     * @return 결과를 기록했으면 true, 임대를 잃었으면 false
+     */
+    @Transactional
+    public boolean defer(UUID id, String leaseToken, String reason) {
+        PeerFeedback feedback = lockLeased(id, leaseToken);
+        if (feedback == null) {
+            return false;
+        }
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("deferred", reason);
+        metadata.put("attempts", feedback.getProcessingAttempts());
+        feedback.deferProcessing(toJson(metadata));
+        return true;
+    }
+
+    private PeerFeedback lockLeased(UUID id, String leaseToken) {
+        PeerFeedback feedback = peerFeedbackRepository.findByIdForUpdate(id).orElse(null);
+        if (feedback == null || !feedback.isLeasedBy(leaseToken)) {
+            log.warn("피드백 임대 만료로 결과 기록 생략 - id: {}", id);
+            return null;
+        }
+        return feedback;
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("피드백 처리 결과 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.hrm.hrm.feedback.worker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.AiResponseCache;
+import com.hrm.hrm.ai.AiService;
+import com.hrm.hrm.ai.dto.AiResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PENDING 피드백을 AI로 처리하는 DB 기반 워커
+ * - pollMs마다 batchSize건을 임대(PeerFeedbackQueue.claim)하고 parallelism개 스레드로 처리, 대기열이 빌 때까지 반복
+ * - 임대는 leaseMs 뒤 만료 - 처리 중 노드가 죽으면 만료 후 다른 노드가 다시 가져감
+ *   (leaseMs는 AI 처리 최대 시간보다 길어야 함)
+ * - 실패는 maxAttempts번까지 PENDING으로 되돌려 재시도, 이후 FAILED
+ * - 키워드 대체 결과(회로 열림 등)는 확정하지 않고 시도 횟수 차감 없이 PENDING으로 되돌린 뒤 다음 주기까지 대기
+ * 여러 노드가 같은 테이블을 동시에 비워도 SKIP LOCKED와 임대 토큰으로 중복 처리하지 않음
+ */
+@Slf4j
+@Component
+public class PeerFeedbackWorker {
+
+    @Value("${app.feedback.worker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.feedback.worker.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.feedback.worker.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.feedback.worker.poll.ms:5000}")
+    private long pollMs;
+
+    @Value("${app.feedback.worker.lease.ms:300000}")
+    private long leaseMs;
+
+    @Value("${app.feedback.worker.max-attempts:3}")
+    private int maxAttempts;
+
+    private final PeerFeedbackQueue queue;
+    private final AiService aiService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "feedback-worker-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public PeerFeedbackWorker(PeerFeedbackQueue queue, AiService aiService, MeterRegistry meterRegistry,
+                              ObjectMapper objectMapper) {
+        this.queue = queue;
+        this.aiService = aiService;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        Gauge.builder("feedback.worker.inflight", inFlight, AtomicInteger::get)
+            .description("Peer feedback rows being processed by this node")
+            .register(meterRegistry);
+        if (!enabled) {
+            log.info("피드백 워커 비활성화 (app.feedback.worker.enabled=false)");
+            return;
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread thread = new Thread(r, "feedback-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        poller.scheduleWithFixedDelay(this::drain, pollMs, pollMs, TimeUnit.MILLISECONDS);
+        log.info("피드백 워커 시작 - batch: {}, parallelism: {}, lease: {}ms", batchSize, parallelism, leaseMs);
+    }
+
+    /**
+     * 대기열이 빌 때까지 배치 단위로 임대 후 처리
+     * 배치 중 대체 결과로 보류된 행이 있으면 AI가 회복될 때까지 다음 주기로 넘김 (보류 행을 곧바로 다시 가져가지 않도록)
+     */
+    void drain() {
+        try {
+            while (running) {
+                String leaseToken = UUID.randomUUID().toString();
+                List<ClaimedFeedback> batch = queue.claim(batchSize, leaseToken, leaseMs);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                meterRegistry.counter("feedback.worker.claimed").increment(batch.size());
+                List<CompletableFuture<Boolean>> results = batch.stream()
+                    .map(item -> CompletableFuture.supplyAsync(() -> process(item, leaseToken), workers))
+                    .toList();
+                CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+                if (results.stream().anyMatch(CompletableFuture::join)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 - 임대한 행은 만료 후 회수됨
+            log.error("피드백 워커 처리 중 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 대체 결과로 보류했으면 true
+     */
+    boolean process(ClaimedFeedback item, String leaseToken) {
+        inFlight.incrementAndGet();
+        try {
+            if (item.attempts() > maxAttempts) {
+                // 처리 중 노드가 계속 죽어 임대 만료로만 돌아온 행
+                fail(item, leaseToken, "최대 시도 횟수 초과");
+                return false;
+            }
+            AiResponse response = aiService.processFeedback(item.feedbackText(), toContextJson(item.projectContext()));
+            if (response != null && response.isSuccess() && isFallback(response)) {
+                // 키워드 추정 태그를 AI 결과로 확정해 집계에 영구 반영하지 않도록 보류
+                record(queue.defer(item.id(), leaseToken, "AI 대체 결과 - 재처리 대기") ? "deferred" : "lease_lost");
+                return true;
+            }
+            if (response != null && response.isSuccess()) {
+                record(queue.complete(item.id(), leaseToken, response) ? "completed" : "lease_lost");
+            } else {
+                fail(item, leaseToken, response == null ? "응답 없음" : response.getErrorMessage());
+            }
+        } catch (Exception e) {
+            log.warn("피드백 AI 처리 실패 - id: {}, 시도: {}, 오류: {}", item.id(), item.attempts(), e.getMessage());
+            fail(item, leaseToken, e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        return false;
+    }
+
+    /**
+     * 전체가 대체 결과이거나 일부 청크만 대체된 긴 피드백 결과
+     */
+    private static boolean isFallback(AiResponse response) {
+        if (AiResponseCache.isFallback(response)) {
+            return true;
+        }
+        Object fallbackChunks = response.getProcessingInfo() == null ? null
+            : response.getProcessingInfo().get("fallback_chunks");
+        return fallbackChunks instanceof Number n && n.intValue() > 0;
+    }
+
+    /**
+     * project_context는 평문 컬럼 - 파이프라인은 context를 JSON 객체로 읽으므로 감싸서 전달
+     */
+    private String toContextJson(String projectContext) {
+        if (projectContext == null || projectContext.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(Map.of("project", projectContext));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프로젝트 컨텍스트 직렬화 실패", e);
+        }
+    }
+
+    private void fail(ClaimedFeedback item, String leaseToken, String error) {
+        boolean retry = item.attempts() < maxAttempts;
+        try {
+            boolean recorded = queue.fail(item.id(), leaseToken, error, retry);
+            record(!recorded ? "lease_lost" : retry ? "retry" : "failed");
+        } catch (Exception e) {
+            log.error("피드백 실패 기록 오류 - id: {}: {}", item.id(), e.getMessage());
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("feedback.worker.processed", "result", result).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        poller.shutdownNow();
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+        }
+    }
+}
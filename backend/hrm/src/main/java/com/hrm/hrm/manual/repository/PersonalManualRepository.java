@@ -0,0 +1,21 @@
+package com.hrm.hrm.manual.repository;
+
+import com.hrm.hrm.entity.PersonalManual;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PersonalManualRepository extends JpaRepository<PersonalManual, UUID> {
+
+    /**
+     * 같은 사용자의 매뉴얼 갱신을 직렬화하기 위한 행 잠금 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from PersonalManual m where m.user.id = :userId")
+    Optional<PersonalManual> findByUserIdForUpdate(@Param("userId") UUID userId);
+}
@@ -0,0 +1,19 @@
+package com.hrm.hrm.manual.repository;
+
+import com.hrm.hrm.entity.UserTagStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserTagStatRepository extends JpaRepository<UserTagStat, UUID> {
+
+    @Query("select s from UserTagStat s where s.user.id = :userId and s.tag in :tags")
+    List<UserTagStat> findByUserIdAndTags(@Param("userId") UUID userId, @Param("tags") Collection<String> tags);
+
+    @Query("select s from UserTagStat s where s.user.id = :userId order by s.weightedCount desc, s.tag")
+    List<UserTagStat> findByUserId(@Param("userId") UUID userId);
+}
@@ -0,0 +1,14 @@
+package com.hrm.hrm.manual.service;
+
+import com.hrm.hrm.ai.dto.StructuredTag;
+import com.hrm.hrm.entity.PeerFeedback;
+
+import java.util.List;
+
+public interface ManualAggregationService {
+    /**
+     * 분류가 끝난 피드백 한 건의 태그를 대상자의 태그 통계에 누적하고 muscleData 재생성
+     * 비용은 이번 피드백의 태그 수와 대상자의 태그 종류 수에만 비례 (피드백 이력 길이와 무관)
+     */
+    void foldFeedback(PeerFeedback feedback, List<StructuredTag> tags);
+}
@@ -0,0 +1,138 @@
+package com.hrm.hrm.manual.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.dto.StructuredTag;
+import com.hrm.hrm.entity.PeerFeedback;
+import com.hrm.hrm.entity.PersonalManual;
+import com.hrm.hrm.entity.User;
+import com.hrm.hrm.entity.UserTagStat;
+import com.hrm.hrm.manual.repository.PersonalManualRepository;
+import com.hrm.hrm.manual.repository.UserTagStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 피드백 태그 증분 집계
+ * - 대상자의 PersonalManual 행을 잠가 같은 사용자에 대한 동시 반영을 직렬화
+ * - user_tag_stats에 (사용자, 태그)별 가중 합계를 누적하고, muscleData는 통계 행에서 다시 생성
+ * - 한 피드백에 같은 태그가 여러 번 나오면 신뢰도가 가장 높은 것 하나로 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ManualAggregationServiceImpl implements ManualAggregationService {
+
+    private static final double ANONYMOUS_WEIGHT = 0.8;
+
+    private final PersonalManualRepository personalManualRepository;
+    private final UserTagStatRepository userTagStatRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.manual.muscle.max-tags:30}")
+    private int maxMuscleTags = 30;
+
+    @Override
+    @Transactional
+    public void foldFeedback(PeerFeedback feedback, List<StructuredTag> tags) {
+        User user = feedback.getToUser();
+        UUID userId = user.getId();
+        PersonalManual manual = personalManualRepository.findByUserIdForUpdate(userId)
+            .orElseGet(() -> personalManualRepository.save(PersonalManual.create(user)));
+
+        Map<String, StructuredTag> observed = distinctTags(tags);
+        if (!observed.isEmpty()) {
+            double weight = weightOf(feedback);
+            LocalDateTime seenAt = feedback.getCreatedAt() != null ? feedback.getCreatedAt() : LocalDateTime.now();
+            Map<String, UserTagStat> stats = userTagStatRepository.findByUserIdAndTags(userId, observed.keySet())
+                .stream()
+                .collect(Collectors.toMap(UserTagStat::getTag, Function.identity()));
+
+            List<UserTagStat> created = new ArrayList<>();
+            observed.forEach((tag, structuredTag) -> {
+                UserTagStat stat = stats.get(tag);
+                if (stat == null) {
+                    stat = UserTagStat.create(user, tag);
+                    created.add(stat);
+                }
+                stat.accumulate(structuredTag.getCategory(), structuredTag.getSentiment(),
+                    structuredTag.getConfidence() != null ? structuredTag.getConfidence() : 0.0, weight, seenAt);
+            });
+            userTagStatRepository.saveAll(created);
+        }
+
+        manual.updateWeightsAfterFeedback();
+        manual.updateMuscleData(buildMuscleData(manual, userTagStatRepository.findByUserId(userId)));
+        log.debug("매뉴얼 태그 집계 반영 - userId: {}, 태그: {}개", userId, observed.size());
+    }
+
+    private static Map<String, StructuredTag> distinctTags(List<StructuredTag> tags) {
+        Map<String, StructuredTag> distinct = new LinkedHashMap<>();
+        if (tags == null) {
+            return distinct;
+        }
+        for (StructuredTag tag : tags) {
+            if (tag == null || tag.getTag() == null || tag.getTag().isBlank()) {
+                continue;
+            }
+            distinct.merge(tag.getTag().trim(), tag, (a, b) ->
+                (b.getConfidence() != null && (a.getConfidence() == null || b.getConfidence() > a.getConfidence())) ? b : a);
+        }
+        return distinct;
+    }
+
+    private static double weightOf(PeerFeedback feedback) {
+        if (feedback.getFeedbackWeight() != null) {
+            return feedback.getFeedbackWeight();
+        }
+        return feedback.isAnonymous() ? ANONYMOUS_WEIGHT : 1.0;
+    }
+
+    /**
+     * muscleData 형식 - 코칭 파이프라인의 weighted_muscle_data와 같은 weight/tags 구조에 통계 필드 추가
+     * stats는 가중 횟수 내림차순
+     */
+    private String buildMuscleData(PersonalManual manual, List<UserTagStat> stats) {
+        List<Map<String, Object>> tags = new ArrayList<>();
+        for (UserTagStat stat : stats.subList(0, Math.min(stats.size(), maxMuscleTags))) {
+            Map<String, Object> tag = new LinkedHashMap<>();
+            tag.put("tag", stat.getTag());
+            tag.put("category", stat.getCategory());
+            tag.put("sentiment", stat.getDominantSentiment());
+            tag.put("weighted_count", round(stat.getWeightedCount()));
+            tag.put("feedback_count", stat.getFeedbackCount());
+            tag.put("sentiment_balance", round(stat.getSentimentBalance()));
+            tag.put("avg_confidence", round(stat.getAverageConfidence()));
+            tag.put("last_seen_at", stat.getLastSeenAt().toString());
+            tags.add(tag);
+        }
+
+        Map<String, Object> muscle = new LinkedHashMap<>();
+        muscle.put("weight", manual.getMuscleWeight());
+        muscle.put("feedback_count", manual.getTotalFeedbackCount());
+        muscle.put("tag_count", stats.size());
+        muscle.put("tags", tags);
+        muscle.put("generated_at", LocalDateTime.now().toString());
+        try {
+            return objectMapper.writeValueAsString(muscle);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("muscleData 직렬화 실패", e);
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hrm.hrm.mcp.controller;
+
+import com.hrm.hrm.common.ApiResponse;
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.mcp.dto.McpSessionDetailDto;
+import com.hrm.hrm.mcp.dto.McpSessionSummaryDto;
+import com.hrm.hrm.mcp.service.McpSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Tag(name = "Coaching Session", description = "코칭 세션 이력 API")
+@RestController
+@RequestMapping("/api/coaching/sessions")
+@RequiredArgsConstructor
+public class McpSessionController {
+
+    private final McpSessionService mcpSessionService;
+
+    @Operation(summary = "관리자 코칭 세션 이력 조회 (최신순 커서 페이지, 요약만)")
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<CursorPage<McpSessionSummaryDto>> getSessionHistory(@RequestParam UUID managerId,
+                                                                           @RequestParam(required = false) UUID targetUserId,
+                                                                           @RequestParam(required = false) String status,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ApiResponse.ok(mcpSessionService.getSessionHistory(managerId, targetUserId, status, cursor, size));
+        } catch (Exception e) {
+            return ApiResponse.fail(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "코칭 세션 상세 조회 (MCP 패킷, 가설, 코칭 카드 포함)")
+    @GetMapping("/{sessionId}")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<McpSessionDetailDto> getSessionDetail(@PathVariable UUID sessionId) {
+        try {
+            return ApiResponse.ok(mcpSessionService.getSessionDetail(sessionId));
+        } catch (Exception e) {
+            return ApiResponse.fail(e.getMessage());
+        }
+    }
+}
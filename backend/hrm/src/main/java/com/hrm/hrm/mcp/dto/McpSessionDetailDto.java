@@ -0,0 +1,36 @@
+package com.hrm.hrm.mcp.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 코칭 세션 상세 - JSON 컬럼은 문자열이 아닌 JSON 그대로 응답
+ */
+@Value
+@Builder
+public class McpSessionDetailDto {
+    McpSessionSummaryDto summary;
+    /** 관리자의 원본 질문 */
+    String userQuery;
+    /** 전체 MCP 패킷 (보관된 경우 보관본에서 복원) */
+    JsonNode mcpPacket;
+    /** mcpPacket을 보관본에서 복원했는지 여부 */
+    boolean packetArchived;
+    /** AI가 생성한 가설들 */
+    JsonNode generatedHypotheses;
+    /** 선택된 최적 가설 */
+    String bestHypothesis;
+    /** 최종 코칭 카드 */
+    JsonNode finalCoachingCard;
+    /** AI 처리 관련 메타데이터 */
+    JsonNode processingMetadata;
+    /** 오류 메시지 (실패 시) */
+    String errorMessage;
+    /** 관리자 피드백 */
+    String managerFeedback;
+    /** 처리 완료 시간 */
+    LocalDateTime completedAt;
+}
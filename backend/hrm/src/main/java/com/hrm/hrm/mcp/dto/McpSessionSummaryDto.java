@@ -0,0 +1,35 @@
+package com.hrm.hrm.mcp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 코칭 세션 목록 항목 - jsonb/TEXT 대용량 컬럼 제외
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class McpSessionSummaryDto {
+    /** 세션 ID */
+    UUID id;
+    /** 분석 대상 직원 ID */
+    UUID targetUserId;
+    /** 분석 대상 직원 이름 */
+    String targetUserName;
+    /** 분석된 의도 */
+    String analyzedIntent;
+    /** 처리 상태 */
+    String processingStatus;
+    /** 최종 신뢰도 점수 */
+    Double confidenceScore;
+    /** 세션 소요 시간 (밀리초) */
+    Long processingDurationMs;
+    /** 관리자 평점 */
+    Integer managerRating;
+    /** 세션 생성 시간 */
+    LocalDateTime createdAt;
+}
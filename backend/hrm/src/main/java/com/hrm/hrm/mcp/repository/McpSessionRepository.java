@@ -0,0 +1,42 @@
+package com.hrm.hrm.mcp.repository;
+
+import com.hrm.hrm.entity.McpSession;
+import com.hrm.hrm.mcp.dto.McpSessionSummaryDto;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface McpSessionRepository extends JpaRepository<McpSession, UUID> {
+
+    /**
+     * 관리자의 세션 목록 - 최신순 (createdAt, id) 키셋, 요약 컬럼만 조회
+     */
+    @Query("""
+            select new com.hrm.hrm.mcp.dto.McpSessionSummaryDto(
+                s.id, t.id, t.userName, s.analyzedIntent, s.processingStatus,
+                s.confidenceScore, s.processingDurationMs, s.managerRating, s.createdAt)
+              from McpSession s join s.targetUser t
+             where s.manager.id = :managerId
+               and (:targetUserId is null or t.id = :targetUserId)
+               and (:status is null or s.processingStatus = :status)
+               and (:afterCreatedAt is null
+                    or s.createdAt < :afterCreatedAt
+                    or (s.createdAt = :afterCreatedAt and s.id < :afterId))
+             order by s.createdAt desc, s.id desc
+            """)
+    List<McpSessionSummaryDto> findSummaryPage(@Param("managerId") UUID managerId,
+                                               @Param("targetUserId") UUID targetUserId,
+                                               @Param("status") String status,
+                                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                               @Param("afterId") UUID afterId,
+                                               Limit limit);
+
+    @Query("select s from McpSession s join fetch s.targetUser where s.id = :id")
+    Optional<McpSession> findDetailById(@Param("id") UUID id);
+}
@@ -0,0 +1,14 @@
+package com.hrm.hrm.mcp.service;
+
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.mcp.dto.McpSessionDetailDto;
+import com.hrm.hrm.mcp.dto.McpSessionSummaryDto;
+
+import java.util.UUID;
+
+public interface McpSessionService {
+    CursorPage<McpSessionSummaryDto> getSessionHistory(UUID managerId, UUID targetUserId, String status,
+                                                       String cursor, int size);
+
+    McpSessionDetailDto getSessionDetail(UUID sessionId);
+}
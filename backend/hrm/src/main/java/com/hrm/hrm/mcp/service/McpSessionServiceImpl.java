@@ -0,0 +1,114 @@
+package com.hrm.hrm.mcp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.common.paging.KeysetCursor;
+import com.hrm.hrm.entity.McpSession;
+import com.hrm.hrm.mcp.dto.McpSessionDetailDto;
+import com.hrm.hrm.mcp.dto.McpSessionSummaryDto;
+import com.hrm.hrm.mcp.repository.McpSessionRepository;
+import com.hrm.hrm.partition.McpPacketArchiver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class McpSessionServiceImpl implements McpSessionService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final McpSessionRepository mcpSessionRepository;
+    private final McpPacketArchiver packetArchiver;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 세션 이력 - 페이지당 쿼리 1회, 엔티티/jsonb 컬럼 없이 요약 프로젝션만 읽음
+     */
+    @Override
+    public CursorPage<McpSessionSummaryDto> getSessionHistory(UUID managerId, UUID targetUserId, String status,
+                                                              String cursor, int size) {
+        if (managerId == null) {
+            throw new IllegalArgumentException("managerId가 필요합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                mcpSessionRepository.findSummaryPage(managerId, targetUserId,
+                        status == null || status.isBlank() ? null : status.strip(),
+                        afterCreatedAt(after), after != null ? after.id() : null, Limit.of(size + 1)),
+                size,
+                session -> new KeysetCursor(session.getCreatedAt().toString(), session.getId()));
+    }
+
+    /**
+     * 세션 상세 - 이 경우에만 엔티티 전체(jsonb 포함)를 읽고, 보관된 mcp_packet은 보관본에서 복원
+     */
+    @Override
+    public McpSessionDetailDto getSessionDetail(UUID sessionId) {
+        McpSession session = mcpSessionRepository.findDetailById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다."));
+
+        String packet = session.getMcpPacket();
+        boolean archived = false;
+        if (packet == null) {
+            Optional<String> restored = packetArchiver.restorePacket(sessionId);
+            archived = restored.isPresent();
+            packet = restored.orElse(null);
+        }
+
+        return McpSessionDetailDto.builder()
+                .summary(new McpSessionSummaryDto(session.getId(), session.getTargetUser().getId(),
+                        session.getTargetUser().getUserName(), session.getAnalyzedIntent(),
+                        session.getProcessingStatus(), session.getConfidenceScore(),
+                        session.getProcessingDurationMs(), session.getManagerRating(), session.getCreatedAt()))
+                .userQuery(session.getUserQuery())
+                .mcpPacket(json(packet))
+                .packetArchived(archived)
+                .generatedHypotheses(json(session.getGeneratedHypotheses()))
+                .bestHypothesis(session.getBestHypothesis())
+                .finalCoachingCard(json(session.getFinalCoachingCard()))
+                .processingMetadata(json(session.getProcessingMetadata()))
+                .errorMessage(session.getErrorMessage())
+                .managerFeedback(session.getManagerFeedback())
+                .completedAt(session.getCompletedAt())
+                .build();
+    }
+
+    private LocalDateTime afterCreatedAt(KeysetCursor after) {
+        if (after == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(after.key());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 저장된 JSON 문자열을 그대로 응답에 싣기 위해 트리로 변환 (JSON이 아니면 문자열 그대로)
+     */
+    private JsonNode json(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(value);
+        } catch (JsonProcessingException e) {
+            return TextNode.valueOf(value);
+        }
+    }
+}
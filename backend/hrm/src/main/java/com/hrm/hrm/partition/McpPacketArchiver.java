@@ -0,0 +1,122 @@
+package com.hrm.hrm.partition;
+
+import com.hrm.hrm.partition.repository.McpPacketArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 MCP 세션의 mcp_packet을 gzip으로 압축해 mcp_packet_archives로 옮기고 원본 컬럼은 비움
+ * - 배치마다 한 트랜잭션, 행은 SKIP LOCKED로 잠가 여러 노드가 동시에 돌아도 겹치지 않음
+ * - 세션 행은 남으므로 이력/요약 조회는 그대로 동작하고, 큰 jsonb만 빠져 파티션 크기와 vacuum 비용이 줄어듦
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class McpPacketArchiver {
+
+    private static final String SELECT_BATCH = """
+        SELECT id, created_at, CAST(mcp_packet AS text) AS packet
+          FROM mcp_sessions
+         WHERE created_at < ? AND mcp_packet IS NOT NULL
+         ORDER BY created_at
+         LIMIT ?
+           FOR UPDATE SKIP LOCKED""";
+
+    private static final String INSERT_ARCHIVE = """
+        INSERT INTO mcp_packet_archives (session_id, session_created_at, packet_gzip, original_bytes, archived_at)
+        VALUES (?, ?, ?, ?, LOCALTIMESTAMP)
+        ON CONFLICT (session_id) DO NOTHING""";
+
+    private static final String CLEAR_PACKET = "UPDATE mcp_sessions SET mcp_packet = NULL WHERE id = ? AND created_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final McpPacketArchiveRepository archiveRepository;
+
+    @Value("${app.partition.mcp-sessions.archive-batch-size:500}")
+    private int batchSize = 500;
+
+    /**
+     * cutoff 이전에 생성된 세션의 패킷을 모두 보관
+     * @return 보관한 세션 수
+     */
+    public int archiveOlderThan(LocalDateTime cutoff) {
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += archived == null ? 0 : archived;
+            if (archived == null || archived < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("MCP 패킷 보관 - {}건 (기준: {} 이전)", total, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * 보관된 패킷 원본 JSON
+     */
+    public Optional<String> restorePacket(UUID sessionId) {
+        return archiveRepository.findById(sessionId).map(archive -> gunzip(archive.getPacketGzip()));
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<PacketRow> rows = jdbcTemplate.query(SELECT_BATCH,
+            (rs, i) -> new PacketRow(rs.getObject("id", UUID.class), rs.getTimestamp("created_at"),
+                rs.getString("packet")),
+            Timestamp.valueOf(cutoff), batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVE, rows.stream()
+            .map(row -> {
+                byte[] original = row.packet().getBytes(StandardCharsets.UTF_8);
+                return new Object[] {row.id(), row.createdAt(), gzip(original), original.length};
+            })
+            .toList());
+        jdbcTemplate.batchUpdate(CLEAR_PACKET, rows.stream()
+            .map(row -> new Object[] {row.id(), row.createdAt()})
+            .toList());
+        return rows.size();
+    }
+
+    static byte[] gzip(byte[] original) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(original.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(original);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    static String gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("MCP 패킷 보관본 복원 실패", e);
+        }
+    }
+
+    private record PacketRow(UUID id, Timestamp createdAt, String packet) {
+    }
+}
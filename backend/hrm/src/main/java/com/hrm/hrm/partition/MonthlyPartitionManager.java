@@ -0,0 +1,245 @@
+package com.hrm.hrm.partition;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * peer_feedbacks, mcp_sessions 월 단위 파티션 관리 (PostgreSQL 전용, 기본 비활성 - app.partition.enabled)
+ * 자동 수행 (이미 파티션 테이블인 경우만):
+ * 1. 이번 달부터 months-ahead개월 뒤까지 파티션 미리 생성 (범위 밖 행은 _default 파티션)
+ * 2. retention-months가 지난 월 파티션 분리 (drop-detached면 삭제, 아니면 단독 테이블로 남김)
+ * 명시적으로 켰을 때만 수행:
+ * - convert-on-startup: 일반 테이블을 created_at 범위 파티션 테이블로 한 번 변환
+ *   전체 행을 복사하는 동안 테이블 배타 잠금 - 점검 시간에 한 노드에서만 켜고 실행 후 다시 끌 것
+ *   PK가 (id, created_at)로 바뀌어 DB가 id 유일성을 보장하지 않음 (id는 애플리케이션이 만드는 랜덤 UUID)
+ * - mcp-sessions.archive-after-months (> 0): 지난 세션의 mcp_packet을 압축 보관 (McpPacketArchiver)
+ * 시작 시(JsonbIndexInitializer보다 먼저)와 interval.ms마다 실행, 여러 노드 중 advisory lock을 잡은 한 곳만 수행
+ * 최근 기간 조회는 파티션 가지치기로 해당 월만 읽고, vacuum은 갱신이 있는 최근 파티션에 집중됨
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MonthlyPartitionManager implements ApplicationRunner {
+
+    static final String PEER_FEEDBACKS = "peer_feedbacks";
+    static final String MCP_SESSIONS = "mcp_sessions";
+    private static final String LOCK_KEY = "hrm_partition_maintenance";
+
+    @Value("${app.partition.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.partition.convert-on-startup:false}")
+    private boolean convertOnStartup;
+
+    @Value("${app.partition.interval.ms:21600000}")
+    private long intervalMs;
+
+    @Value("${app.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.partition.drop-detached:false}")
+    private boolean dropDetached;
+
+    @Value("${app.partition.peer-feedbacks.retention-months:36}")
+    private int feedbackRetentionMonths;
+
+    @Value("${app.partition.mcp-sessions.retention-months:24}")
+    private int sessionRetentionMonths;
+
+    @Value("${app.partition.mcp-sessions.archive-after-months:0}")
+    private int packetArchiveAfterMonths;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final McpPacketArchiver packetArchiver;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "partition-maintenance");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MonthlyPartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                   McpPacketArchiver packetArchiver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.packetArchiver = packetArchiver;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        if (convertOnStartup) {
+            convertAll();
+        }
+        maintain();
+        scheduler.scheduleWithFixedDelay(this::maintain, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 아직 일반 테이블인 대상을 파티션 테이블로 변환 (convert-on-startup일 때 시작 시 한 번)
+     */
+    private void convertAll() {
+        YearMonth current = YearMonth.now();
+        for (String table : List.of(PEER_FEEDBACKS, MCP_SESSIONS)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if ("r".equals(relationKind(table)) && tryLock()) {
+                        convert(table, current);
+                    }
+                });
+            } catch (Exception e) {
+                log.error("{} 파티션 변환 실패 - 변경 사항 롤백: {}", table, e.getMessage(), e);
+            }
+        }
+    }
+
+    void maintain() {
+        try {
+            YearMonth current = YearMonth.now();
+            for (String table : List.of(PEER_FEEDBACKS, MCP_SESSIONS)) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (tryLock()) {
+                        createUpcomingPartitions(table, current);
+                    }
+                });
+            }
+            if (packetArchiveAfterMonths > 0) {
+                packetArchiver.archiveOlderThan(current.minusMonths(packetArchiveAfterMonths).atDay(1).atStartOfDay());
+            }
+            detachExpired(PEER_FEEDBACKS, current, feedbackRetentionMonths);
+            detachExpired(MCP_SESSIONS, current, sessionRetentionMonths);
+        } catch (Exception e) {
+            log.error("파티션 관리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 앞으로 쓸 월 파티션 생성 - 파티션 테이블이 아니면(미변환/스키마 생성 전) 건너뜀
+     */
+    private void createUpcomingPartitions(String table, YearMonth current) {
+        String kind = relationKind(table);
+        if ("r".equals(kind)) {
+            log.warn("{}는 일반 테이블 - 파티션 관리를 하려면 app.partition.convert-on-startup=true로 한 번 변환 필요", table);
+        }
+        if (!"p".equals(kind)) {
+            return;
+        }
+        for (YearMonth month : PartitionDdl.months(current, current.plusMonths(monthsAhead))) {
+            jdbcTemplate.execute(PartitionDdl.createMonthPartition(table, month));
+        }
+    }
+
+    /**
+     * 일반 테이블 → 파티션 테이블 (한 트랜잭션, 실패 시 전체 롤백)
+     * 기존 비유일 인덱스와 FK 정의를 카탈로그에서 읽어 새 부모 테이블에 다시 만듦
+     */
+    private void convert(String table, YearMonth current) {
+        String legacy = table + "_unpartitioned";
+        List<String> indexDefs = jdbcTemplate.queryForList(
+            "SELECT pg_get_indexdef(i.indexrelid) FROM pg_index i "
+                + "WHERE i.indrelid = CAST(? AS regclass) AND NOT i.indisunique", String.class, table);
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList(
+            "SELECT conname, pg_get_constraintdef(oid) AS def FROM pg_constraint "
+                + "WHERE conrelid = CAST(? AS regclass) AND contype = 'f'", table);
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT min(created_at) FROM " + table, Timestamp.class);
+
+        log.info("{} 파티션 테이블로 변환 시작", table);
+        jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + legacy);
+        jdbcTemplate.execute("CREATE TABLE " + table + " (LIKE " + legacy
+            + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING STORAGE INCLUDING COMMENTS)"
+            + " PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + table
+            + "_id_created_pkey PRIMARY KEY (id, created_at)");
+
+        YearMonth from = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : current;
+        for (YearMonth month : PartitionDdl.months(from.isBefore(current) ? from : current, current)) {
+            jdbcTemplate.execute(PartitionDdl.createMonthPartition(table, month));
+        }
+        jdbcTemplate.execute(PartitionDdl.createDefaultPartition(table));
+
+        int moved = jdbcTemplate.update("INSERT INTO " + table + " SELECT * FROM " + legacy);
+        jdbcTemplate.execute("DROP TABLE " + legacy);
+        indexDefs.forEach(jdbcTemplate::execute);
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + foreignKey.get("conname")
+                + " " + foreignKey.get("def"));
+        }
+        log.info("{} 파티션 테이블로 변환 완료 - {}행, 인덱스 {}개, FK {}개",
+            table, moved, indexDefs.size(), foreignKeys.size());
+    }
+
+    private void detachExpired(String table, YearMonth current, int retentionMonths) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!"p".equals(relationKind(table)) || !tryLock()) {
+                return;
+            }
+            List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                    + "WHERE i.inhparent = CAST(? AS regclass)", String.class, table);
+            List<String> detached = new ArrayList<>();
+            for (String partition : PartitionDdl.expiredPartitions(table, partitions, current, retentionMonths)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+                if (dropDetached) {
+                    jdbcTemplate.execute("DROP TABLE " + partition);
+                }
+                detached.add(partition);
+            }
+            if (!detached.isEmpty()) {
+                log.info("보존 기간 지난 파티션 {} - {}", dropDetached ? "삭제" : "분리", detached);
+            }
+        });
+    }
+
+    /**
+     * @return r = 일반 테이블, p = 파티션 테이블, null = 없음
+     */
+    private String relationKind(String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT (SELECT CAST(c.relkind AS text) FROM pg_class c WHERE c.oid = to_regclass(?))",
+            String.class, table);
+    }
+
+    /**
+     * 트랜잭션 단위 advisory lock - 다른 노드가 관리 중이면 false
+     */
+    private boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, LOCK_KEY));
+    }
+
+    private boolean isPostgres() {
+        try {
+            return "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        } catch (Exception e) {
+            log.warn("DB 종류 확인 실패 - 파티션 관리 생략: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,82 @@
+package com.hrm.hrm.partition;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * created_at 월 단위 범위 파티션 이름/DDL
+ * 파티션 이름: {table}_pYYYY_MM, 범위에 없는 행은 {table}_default
+ * 식별자는 모두 코드에서 만든 값이라 그대로 SQL에 넣음
+ */
+final class PartitionDdl {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTH_SUFFIX = Pattern.compile("_p(\\d{4})_(\\d{2})$");
+
+    private PartitionDdl() {
+    }
+
+    static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+
+    static String defaultPartitionName(String table) {
+        return table + "_default";
+    }
+
+    /**
+     * @return 월 파티션 이름이 아니면 null
+     */
+    static YearMonth monthOf(String table, String partitionName) {
+        if (!partitionName.startsWith(table + "_p")) {
+            return null;
+        }
+        Matcher matcher = MONTH_SUFFIX.matcher(partitionName);
+        if (!matcher.find()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+
+    static String createMonthPartition(String table, YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(table, month) + " PARTITION OF " + table
+            + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    static String createDefaultPartition(String table) {
+        return "CREATE TABLE IF NOT EXISTS " + defaultPartitionName(table) + " PARTITION OF " + table + " DEFAULT";
+    }
+
+    /**
+     * from부터 to까지(포함) 월 목록
+     */
+    static List<YearMonth> months(YearMonth from, YearMonth to) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * 보존 기간이 지난 월 파티션 - current 기준 retentionMonths개월 전보다 이전 달 (0 이하면 없음)
+     */
+    static List<String> expiredPartitions(String table, List<String> partitionNames, YearMonth current,
+                                          int retentionMonths) {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        return partitionNames.stream()
+            .filter(name -> {
+                YearMonth month = monthOf(table, name);
+                return month != null && month.isBefore(oldestKept);
+            })
+            .sorted()
+            .toList();
+    }
+}
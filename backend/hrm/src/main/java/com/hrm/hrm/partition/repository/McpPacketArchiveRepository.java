@@ -0,0 +1,9 @@
+package com.hrm.hrm.partition.repository;
+
+import com.hrm.hrm.entity.McpPacketArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface McpPacketArchiveRepository extends JpaRepository<McpPacketArchive, UUID> {
+}
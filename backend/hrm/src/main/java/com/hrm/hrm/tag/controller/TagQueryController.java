@@ -0,0 +1,68 @@
+package com.hrm.hrm.tag.controller;
+
+import com.hrm.hrm.common.ApiResponse;
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.tag.dto.TagCountDto;
+import com.hrm.hrm.tag.dto.TaggedUserDto;
+import com.hrm.hrm.tag.service.TagQueryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Tag", description = "태그 조회 API")
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagQueryController {
+
+    private final TagQueryService tagQueryService;
+
+    @Operation(summary = "최근 피드백에 태그가 있는 사용자 조회 (이름순 커서 페이지)")
+    @GetMapping("/users")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<CursorPage<TaggedUserDto>> getUsersByFeedbackTag(@RequestParam String tag,
+                                                                        @RequestParam(required = false) String sentiment,
+                                                                        @RequestParam(defaultValue = "90") int days,
+                                                                        @RequestParam(required = false) UUID teamId,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ApiResponse.ok(tagQueryService.getUsersByFeedbackTag(tag, sentiment, days, teamId, cursor, size));
+        } catch (Exception e) {
+            return ApiResponse.fail(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "누적 프로필에 태그가 있는 사용자 조회 (이름순 커서 페이지)")
+    @GetMapping("/profiles")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<CursorPage<TaggedUserDto>> getUsersByProfileTag(@RequestParam String tag,
+                                                                       @RequestParam(required = false) String sentiment,
+                                                                       @RequestParam(required = false) UUID teamId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ApiResponse.ok(tagQueryService.getUsersByProfileTag(tag, sentiment, teamId, cursor, size));
+        } catch (Exception e) {
+            return ApiResponse.fail(e.getMessage());
+        }
+    }
+
+    @Operation(summary = "팀 상위 태그 조회 (최근 피드백 기준)")
+    @GetMapping("/teams/{teamId}/top")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<List<TagCountDto>> getTopTagsForTeam(@PathVariable UUID teamId,
+                                                            @RequestParam(defaultValue = "90") int days,
+                                                            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ApiResponse.ok(tagQueryService.getTopTagsForTeam(teamId, days, limit));
+        } catch (Exception e) {
+            return ApiResponse.fail(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hrm.hrm.tag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@AllArgsConstructor
+public class TagCountDto {
+    /** 태그명 */
+    String tag;
+    /** 태그가 나온 피드백 수 */
+    long mentions;
+    /** 피드백 가중치 합 (익명 0.8) */
+    double weightedCount;
+    /** 감정 균형 (-1.0 = 전부 부정 ~ 1.0 = 전부 긍정, Mixed는 절반씩) */
+    double sentimentBalance;
+}
@@ -0,0 +1,24 @@
+package com.hrm.hrm.tag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Value
+@Builder
+@AllArgsConstructor
+public class TaggedUserDto {
+    /** 유저 고유 ID */
+    UUID id;
+    /** 유저 이름 */
+    String userName;
+    /** 이메일 */
+    String email;
+    /** 조건에 맞는 피드백 수 (프로필 조회는 누적 피드백 수) */
+    long matches;
+    /** 마지막으로 태그가 관측된 시간 (프로필 조회는 매뉴얼 갱신 시간) */
+    LocalDateTime lastSeenAt;
+}
@@ -0,0 +1,107 @@
+package com.hrm.hrm.tag.repository;
+
+import com.hrm.hrm.entity.PeerFeedback;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * structured_tags / muscle_data(jsonb) 태그 조회 - PostgreSQL 전용 네이티브 쿼리
+ * 태그 조건은 jsonb 포함 연산자(@>)로 걸어 GIN 인덱스(JsonbIndexInitializer)를 사용
+ * pattern은 [{"tag": "#실행력", "sentiment": "Negative"}] 형태의 JSON 문자열
+ * 선택 파라미터는 타입 추론을 위해 CAST 후 null 비교, 별칭은 프로젝션 이름과 맞추려고 따옴표로 대소문자 유지
+ */
+public interface TagQueryRepository extends Repository<PeerFeedback, UUID> {
+
+    /**
+     * 기간 내 받은 피드백에 태그가 있는 사용자 - (이름, id) 키셋 페이지
+     */
+    @Query(value = """
+        SELECT u.id AS id, u.user_name AS "userName", u.email AS email,
+               m.matches AS matches, m.last_seen AS "lastSeenAt"
+          FROM users u
+          JOIN (SELECT f.to_user_id, count(*) AS matches, max(f.created_at) AS last_seen
+                  FROM peer_feedbacks f
+                 WHERE f.structured_tags @> CAST(:pattern AS jsonb)
+                   AND f.created_at >= :since
+                 GROUP BY f.to_user_id) m ON m.to_user_id = u.id
+         WHERE (CAST(:teamId AS uuid) IS NULL
+                OR EXISTS (SELECT 1 FROM user_team ut WHERE ut.user_id = u.id AND ut.team_id = CAST(:teamId AS uuid)))
+           AND (CAST(:afterName AS text) IS NULL
+                OR (coalesce(u.user_name, ''), u.id) > (CAST(:afterName AS text), CAST(:afterId AS uuid)))
+         ORDER BY coalesce(u.user_name, ''), u.id
+         LIMIT :limit""", nativeQuery = true)
+    List<TaggedUserRow> findUsersByFeedbackTag(@Param("pattern") String pattern,
+                                               @Param("since") LocalDateTime since,
+                                               @Param("teamId") UUID teamId,
+                                               @Param("afterName") String afterName,
+                                               @Param("afterId") UUID afterId,
+                                               @Param("limit") int limit);
+
+    /**
+     * 누적 프로필(muscle_data.tags)에 태그가 있는 사용자 - (이름, id) 키셋 페이지
+     */
+    @Query(value = """
+        SELECT u.id AS id, u.user_name AS "userName", u.email AS email,
+               m.total_feedback_count AS matches, m.last_updated AS "lastSeenAt"
+          FROM personal_manuals m
+          JOIN users u ON u.id = m.user_id
+         WHERE (m.muscle_data -> 'tags') @> CAST(:pattern AS jsonb)
+           AND (CAST(:teamId AS uuid) IS NULL
+                OR EXISTS (SELECT 1 FROM user_team ut WHERE ut.user_id = u.id AND ut.team_id = CAST(:teamId AS uuid)))
+           AND (CAST(:afterName AS text) IS NULL
+                OR (coalesce(u.user_name, ''), u.id) > (CAST(:afterName AS text), CAST(:afterId AS uuid)))
+         ORDER BY coalesce(u.user_name, ''), u.id
+         LIMIT :limit""", nativeQuery = true)
+    List<TaggedUserRow> findUsersByProfileTag(@Param("pattern") String pattern,
+                                              @Param("teamId") UUID teamId,
+                                              @Param("afterName") String afterName,
+                                              @Param("afterId") UUID afterId,
+                                              @Param("limit") int limit);
+
+    /**
+     * 기간 내 팀원이 받은 피드백의 태그 순위 (피드백 가중치 합 내림차순)
+     */
+    @Query(value = """
+        SELECT t.tag AS tag,
+               count(*) AS mentions,
+               sum(coalesce(f.feedback_weight, 1.0)) AS "weightedCount",
+               sum(CASE WHEN t.sentiment = 'Positive' THEN coalesce(f.feedback_weight, 1.0)
+                        WHEN t.sentiment = 'Mixed' THEN coalesce(f.feedback_weight, 1.0) / 2 ELSE 0 END) AS "positiveWeight",
+               sum(CASE WHEN t.sentiment = 'Negative' THEN coalesce(f.feedback_weight, 1.0)
+                        WHEN t.sentiment = 'Mixed' THEN coalesce(f.feedback_weight, 1.0) / 2 ELSE 0 END) AS "negativeWeight"
+          FROM peer_feedbacks f
+          JOIN user_team ut ON ut.user_id = f.to_user_id AND ut.team_id = :teamId
+          CROSS JOIN LATERAL jsonb_to_recordset(
+                CASE WHEN jsonb_typeof(f.structured_tags) = 'array' THEN f.structured_tags
+                     ELSE CAST('[]' AS jsonb) END) AS t(tag text, sentiment text)
+         WHERE f.created_at >= :since
+           AND f.structured_tags IS NOT NULL
+           AND t.tag IS NOT NULL
+         GROUP BY t.tag
+         ORDER BY "weightedCount" DESC, t.tag
+         LIMIT :limit""", nativeQuery = true)
+    List<TagCountRow> findTopTagsForTeam(@Param("teamId") UUID teamId,
+                                         @Param("since") LocalDateTime since,
+                                         @Param("limit") int limit);
+
+    interface TaggedUserRow {
+        UUID getId();
+        String getUserName();
+        String getEmail();
+        Long getMatches();
+        LocalDateTime getLastSeenAt();
+    }
+
+    interface TagCountRow {
+        String getTag();
+        Long getMentions();
+        Double getWeightedCount();
+        Double getPositiveWeight();
+        Double getNegativeWeight();
+    }
+}
@@ -0,0 +1,27 @@
+package com.hrm.hrm.tag.service;
+
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.tag.dto.TagCountDto;
+import com.hrm.hrm.tag.dto.TaggedUserDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TagQueryService {
+    /**
+     * 최근 days일 동안 받은 피드백에 태그(및 감정)가 있는 사용자 (teamId가 있으면 팀원만)
+     */
+    CursorPage<TaggedUserDto> getUsersByFeedbackTag(String tag, String sentiment, int days, UUID teamId,
+                                                    String cursor, int size);
+
+    /**
+     * 누적 프로필(muscleData)의 대표 감정 기준으로 태그가 있는 사용자
+     */
+    CursorPage<TaggedUserDto> getUsersByProfileTag(String tag, String sentiment, UUID teamId,
+                                                   String cursor, int size);
+
+    /**
+     * 최근 days일 동안 팀원이 받은 피드백의 상위 태그
+     */
+    List<TagCountDto> getTopTagsForTeam(UUID teamId, int days, int limit);
+}
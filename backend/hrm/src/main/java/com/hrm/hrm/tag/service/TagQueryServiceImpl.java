@@ -0,0 +1,133 @@
+package com.hrm.hrm.tag.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.common.paging.KeysetCursor;
+import com.hrm.hrm.tag.dto.TagCountDto;
+import com.hrm.hrm.tag.dto.TaggedUserDto;
+import com.hrm.hrm.tag.repository.TagQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TagQueryServiceImpl implements TagQueryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_DAYS = 3650;
+    private static final List<String> SENTIMENTS = List.of("Positive", "Negative", "Neutral", "Mixed");
+
+    private final TagQueryRepository tagQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 페이지당 쿼리 1회 - structured_tags GIN 인덱스로 후보 피드백을 찾고 (이름, id) 순서로 키셋 페이지
+     */
+    @Override
+    public CursorPage<TaggedUserDto> getUsersByFeedbackTag(String tag, String sentiment, int days, UUID teamId,
+                                                           String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                tagQueryRepository.findUsersByFeedbackTag(tagPattern(tag, sentiment), since(days), teamId,
+                        afterName(after), afterId(after), pageSize + 1).stream().map(this::toDto).toList(),
+                pageSize,
+                this::cursorOf);
+    }
+
+    /**
+     * 페이지당 쿼리 1회 - muscle_data.tags 식 GIN 인덱스 사용
+     */
+    @Override
+    public CursorPage<TaggedUserDto> getUsersByProfileTag(String tag, String sentiment, UUID teamId,
+                                                          String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                tagQueryRepository.findUsersByProfileTag(tagPattern(tag, sentiment), teamId,
+                        afterName(after), afterId(after), pageSize + 1).stream().map(this::toDto).toList(),
+                pageSize,
+                this::cursorOf);
+    }
+
+    @Override
+    public List<TagCountDto> getTopTagsForTeam(UUID teamId, int days, int limit) {
+        if (teamId == null) {
+            throw new IllegalArgumentException("teamId가 필요합니다.");
+        }
+        return tagQueryRepository.findTopTagsForTeam(teamId, since(days), validatePageSize(limit)).stream()
+                .map(row -> new TagCountDto(row.getTag(), row.getMentions(), round(row.getWeightedCount()),
+                        row.getWeightedCount() > 0
+                                ? round((row.getPositiveWeight() - row.getNegativeWeight()) / row.getWeightedCount())
+                                : 0.0))
+                .toList();
+    }
+
+    /**
+     * jsonb 포함 조건 - [{"tag": ..., "sentiment": ...}] (감정이 없으면 태그만)
+     * 값은 바인드 파라미터로 전달되므로 JSON 직렬화만 하면 됨
+     */
+    private String tagPattern(String tag, String sentiment) {
+        if (tag == null || tag.isBlank()) {
+            throw new IllegalArgumentException("tag가 필요합니다.");
+        }
+        String normalizedTag = tag.strip();
+        Map<String, String> element = new LinkedHashMap<>();
+        element.put("tag", normalizedTag.startsWith("#") ? normalizedTag : "#" + normalizedTag);
+        if (sentiment != null && !sentiment.isBlank()) {
+            element.put("sentiment", SENTIMENTS.stream()
+                    .filter(s -> s.equalsIgnoreCase(sentiment.strip()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("sentiment는 " + SENTIMENTS + " 중 하나여야 합니다.")));
+        }
+        try {
+            return objectMapper.writeValueAsString(List.of(element));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 조건 직렬화 실패", e);
+        }
+    }
+
+    private TaggedUserDto toDto(TagQueryRepository.TaggedUserRow row) {
+        return new TaggedUserDto(row.getId(), row.getUserName(), row.getEmail(),
+                row.getMatches() != null ? row.getMatches() : 0L, row.getLastSeenAt());
+    }
+
+    private KeysetCursor cursorOf(TaggedUserDto user) {
+        return new KeysetCursor(user.getUserName() != null ? user.getUserName() : "", user.getId());
+    }
+
+    private LocalDateTime since(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("days는 1 이상 " + MAX_DAYS + " 이하여야 합니다.");
+        }
+        return LocalDateTime.now().minusDays(days);
+    }
+
+    private int validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    private String afterName(KeysetCursor after) {
+        return after != null ? after.key() : null;
+    }
+
+    private UUID afterId(KeysetCursor after) {
+        return after != null ? after.id() : null;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -3,13 +3,13 @@ package com.hrm.hrm.team.controller;
 import com.hrm.hrm.team.dto.*;
 import com.hrm.hrm.team.service.TeamService;
 import com.hrm.hrm.common.ApiResponse;
+import com.hrm.hrm.common.paging.CursorPage;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Team", description = "팀 관련 API")
@@ -20,36 +20,44 @@ public class TeamController {
 
     private final TeamService teamService;
 
-    @Operation(summary = "전체 팀 목록 조회")
+    @Operation(summary = "팀 목록 조회 (이름순 커서 페이지)")
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ApiResponse<List<TeamDto>> getAllTeams() {
+    public ApiResponse<CursorPage<TeamDto>> getTeams(@RequestParam(required = false) String name,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int size) {
         try {
-            return ApiResponse.ok(teamService.getAllTeams());
+            return ApiResponse.ok(teamService.getTeams(name, cursor, size));
         } catch (Exception e) {
             return ApiResponse.fail(e.getMessage());
         }
     }
 
-    @Operation(summary = "팀별 멤버 목록 조회")
+    @Operation(summary = "팀별 멤버 목록 조회 (이름순 커서 페이지)")
     @GetMapping("/{teamId}/members")
     @PreAuthorize("isAuthenticated()")
-    public ApiResponse<List<UserDto>> getMembersByTeam(@PathVariable UUID teamId) {
+    public ApiResponse<CursorPage<UserDto>> getMembersByTeam(@PathVariable UUID teamId,
+                                                             @RequestParam(required = false) String name,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size) {
         try {
-            return ApiResponse.ok(teamService.getMembersByTeam(teamId));
+            return ApiResponse.ok(teamService.getMembersByTeam(teamId, name, cursor, size));
         } catch (Exception e) {
             return ApiResponse.fail(e.getMessage());
         }
     }
 
-    @Operation(summary = "팀별 프로젝트 목록 조회")
+    @Operation(summary = "팀별 프로젝트 목록 조회 (이름순 커서 페이지)")
     @GetMapping("/{teamId}/projects")
     @PreAuthorize("isAuthenticated()")
-    public ApiResponse<List<ProjectSimpleDto>> getProjectsByTeam(@PathVariable UUID teamId) {
+    public ApiResponse<CursorPage<ProjectSimpleDto>> getProjectsByTeam(@PathVariable UUID teamId,
+                                                                       @RequestParam(required = false) String name,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "20") int size) {
         try {
-            return ApiResponse.ok(teamService.getProjectsByTeam(teamId));
+            return ApiResponse.ok(teamService.getProjectsByTeam(teamId, name, cursor, size));
         } catch (Exception e) {
             return ApiResponse.fail(e.getMessage());
         }
     }
-} 
\ No newline at end of file
+}
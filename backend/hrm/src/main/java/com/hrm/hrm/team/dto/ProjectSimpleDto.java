@@ -1,5 +1,6 @@
 package com.hrm.hrm.team.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 import java.util.UUID;
@@ -9,6 +10,7 @@ import java.util.UUID;
  */
 @Value
 @Builder
+@AllArgsConstructor
 public class ProjectSimpleDto {
     /** 프로젝트 고유 ID */
     UUID id;
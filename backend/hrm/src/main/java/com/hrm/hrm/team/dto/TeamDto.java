@@ -1,11 +1,13 @@
 package com.hrm.hrm.team.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 import java.util.UUID;
 
 @Value
 @Builder
+@AllArgsConstructor
 public class TeamDto {
     UUID id;
     String name;
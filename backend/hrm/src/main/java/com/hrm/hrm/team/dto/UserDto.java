@@ -1,5 +1,6 @@
 package com.hrm.hrm.team.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Singular;
 import lombok.Value;
@@ -8,6 +9,7 @@ import java.util.UUID;
 
 @Value
 @Builder
+@AllArgsConstructor
 public class UserDto {
     /** 유저 고유 ID */
     UUID id;
@@ -20,4 +22,9 @@ public class UserDto {
     /** 진행 중인 프로젝트 목록 */
     @Singular
     List<ProjectSimpleDto> projects;
+
+    /** 목록 조회 쿼리용 생성자 (JPQL 생성자 표현식) - 프로젝트 목록은 비어 있음 */
+    public UserDto(UUID id, String userName, String email, String position) {
+        this(id, userName, email, position, List.of());
+    }
 } 
@@ -1,10 +1,30 @@
 package com.hrm.hrm.team.repository;
 
 import com.hrm.hrm.entity.ProjectTeam;
+import com.hrm.hrm.team.dto.ProjectSimpleDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.UUID;
 
 public interface ProjectTeamRepository extends JpaRepository<ProjectTeam, UUID> {
     List<ProjectTeam> findByTeamId(UUID teamId);
-} 
+
+    /**
+     * 팀 프로젝트 키셋 페이지를 한 번의 쿼리로 조회 (엔티티 대신 ProjectSimpleDto로 바로 생성)
+     * 정렬: (이름, id), afterName/afterId 다음 행부터 / name: 이름 부분 일치 필터 (null이면 전체)
+     */
+    @Query("""
+            select new com.hrm.hrm.team.dto.ProjectSimpleDto(p.id, p.name)
+              from ProjectTeam pt join pt.project p
+             where pt.team.id = :teamId
+               and (:name is null or lower(p.name) like lower(concat('%', :name, '%')) escape '\\')
+               and (:afterName is null or p.name > :afterName or (p.name = :afterName and p.id > :afterId))
+             order by p.name, p.id
+            """)
+    List<ProjectSimpleDto> findProjectPage(@Param("teamId") UUID teamId, @Param("name") String name,
+                                           @Param("afterName") String afterName, @Param("afterId") UUID afterId,
+                                           Limit limit);
+}
@@ -1,8 +1,27 @@
 package com.hrm.hrm.team.repository;
 
 import com.hrm.hrm.entity.Team;
+import com.hrm.hrm.team.dto.TeamDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.UUID;
 
 public interface TeamRepository extends JpaRepository<Team, UUID> {
-} 
+
+    /**
+     * 팀 목록 키셋 페이지 - (name, id) 순, afterName/afterId 다음 행부터 (idx_team_name_id)
+     * name: 이름 부분 일치 필터 (대소문자 무시, null이면 전체)
+     */
+    @Query("""
+            select new com.hrm.hrm.team.dto.TeamDto(t.id, t.name, t.description)
+              from Team t
+             where (:name is null or lower(t.name) like lower(concat('%', :name, '%')) escape '\\')
+               and (:afterName is null or t.name > :afterName or (t.name = :afterName and t.id > :afterId))
+             order by t.name, t.id
+            """)
+    List<TeamDto> findTeamPage(@Param("name") String name, @Param("afterName") String afterName,
+                               @Param("afterId") UUID afterId, Limit limit);
+}
@@ -1,10 +1,37 @@
 package com.hrm.hrm.team.repository;
 
 import com.hrm.hrm.entity.UserTeam;
+import com.hrm.hrm.team.dto.UserDto;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.UUID;
 
 public interface UserTeamRepository extends JpaRepository<UserTeam, UUID> {
     List<UserTeam> findByTeamId(UUID teamId);
-} 
+
+    /**
+     * 팀 멤버 키셋 페이지를 한 번의 쿼리로 조회 (엔티티 대신 UserDto로 바로 생성)
+     * position: 팀이 맡은 프로젝트에서 배정된 포지션 이름 (여러 개면 이름순 첫 번째, 없으면 null)
+     * 정렬: (이름, id) - 이름이 없는 회원은 빈 문자열로 취급, afterName/afterId 다음 행부터
+     * name: 이름 부분 일치 필터 (대소문자 무시, null이면 전체)
+     */
+    @Query("""
+            select new com.hrm.hrm.team.dto.UserDto(u.id, u.userName, u.email,
+                (select min(pp.name)
+                   from UserPositionAssignment upa join upa.position pp
+                  where upa.user = u
+                    and upa.project.id in (select pt.project.id from ProjectTeam pt where pt.team.id = :teamId)))
+              from UserTeam ut join ut.user u
+             where ut.team.id = :teamId
+               and (:name is null or lower(u.userName) like lower(concat('%', :name, '%')) escape '\\')
+               and (:afterName is null
+                    or coalesce(u.userName, '') > :afterName
+                    or (coalesce(u.userName, '') = :afterName and u.id > :afterId))
+             order by coalesce(u.userName, ''), u.id
+            """)
+    List<UserDto> findMemberPage(@Param("teamId") UUID teamId, @Param("name") String name,
+                                 @Param("afterName") String afterName, @Param("afterId") UUID afterId, Limit limit);
+}
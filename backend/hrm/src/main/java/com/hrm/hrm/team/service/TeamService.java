@@ -1,14 +1,17 @@
 package com.hrm.hrm.team.service;
 
+import com.hrm.hrm.common.paging.CursorPage;
 import com.hrm.hrm.team.dto.TeamDto;
 import com.hrm.hrm.team.dto.UserDto;
 import com.hrm.hrm.team.dto.ProjectSimpleDto;
 
-import java.util.List;
 import java.util.UUID;
 
+/**
+ * 팀/멤버/프로젝트 목록은 모두 이름순 키셋 페이지 (cursor = 이전 페이지의 nextCursor, name = 이름 부분 일치 필터)
+ */
 public interface TeamService {
-    List<TeamDto> getAllTeams();
-    List<UserDto> getMembersByTeam(UUID teamId);
-    List<ProjectSimpleDto> getProjectsByTeam(UUID teamId);
-} 
\ No newline at end of file
+    CursorPage<TeamDto> getTeams(String name, String cursor, int size);
+    CursorPage<UserDto> getMembersByTeam(UUID teamId, String name, String cursor, int size);
+    CursorPage<ProjectSimpleDto> getProjectsByTeam(UUID teamId, String name, String cursor, int size);
+} 
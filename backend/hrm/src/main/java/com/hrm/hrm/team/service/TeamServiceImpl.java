@@ -1,68 +1,97 @@
 package com.hrm.hrm.team.service;
 
-import com.hrm.hrm.entity.UserTeam;
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.common.paging.KeysetCursor;
 import com.hrm.hrm.team.dto.TeamDto;
 import com.hrm.hrm.team.dto.UserDto;
 import com.hrm.hrm.team.dto.ProjectSimpleDto;
-import com.hrm.hrm.entity.ProjectTeam;
-import com.hrm.hrm.entity.Project;
-import com.hrm.hrm.entity.User;
 import com.hrm.hrm.team.repository.TeamRepository;
 import com.hrm.hrm.team.repository.UserTeamRepository;
 import com.hrm.hrm.team.repository.ProjectTeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class TeamServiceImpl implements TeamService {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final TeamRepository teamRepository;
     private final UserTeamRepository userTeamRepository;
     private final ProjectTeamRepository projectTeamRepository;
 
+    /**
+     * 팀 목록 - 페이지당 쿼리 1회, (name, id) 인덱스 순서로 읽음
+     */
     @Override
-    public List<TeamDto> getAllTeams() {
-        return teamRepository.findAll().stream()
-                .map(team -> TeamDto.builder()
-                        .id(team.getId())
-                        .name(team.getName())
-                        .description(team.getDescription())
-                        .build())
-                .collect(Collectors.toList());
+    public CursorPage<TeamDto> getTeams(String name, String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                teamRepository.findTeamPage(nameFilter(name), afterName(after), afterId(after), Limit.of(pageSize + 1)),
+                pageSize,
+                team -> new KeysetCursor(team.getName(), team.getId()));
     }
 
+    /**
+     * 팀 멤버 목록 - 페이지당 쿼리 1회 (포지션 포함)
+     */
     @Override
-    public List<UserDto> getMembersByTeam(UUID teamId) {
-        List<UserTeam> userTeams = userTeamRepository.findByTeamId(teamId);
-        return userTeams.stream()
-                .map(userTeam -> {
-                    User user = userTeam.getUser();
-                    return UserDto.builder()
-                            .id(user.getId())
-                            .userName(user.getUserName())
-                            .email(user.getEmail())
-                            .position(null) // 필요시 추가
-                            .build();
-                })
-                .collect(Collectors.toList());
+    public CursorPage<UserDto> getMembersByTeam(UUID teamId, String name, String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                userTeamRepository.findMemberPage(teamId, nameFilter(name), afterName(after), afterId(after),
+                        Limit.of(pageSize + 1)),
+                pageSize,
+                user -> new KeysetCursor(user.getUserName() != null ? user.getUserName() : "", user.getId()));
     }
 
+    /**
+     * 팀 프로젝트 목록 - 페이지당 쿼리 1회
+     */
     @Override
-    public List<ProjectSimpleDto> getProjectsByTeam(UUID teamId) {
-        List<ProjectTeam> projectTeams = projectTeamRepository.findByTeamId(teamId);
-        return projectTeams.stream()
-                .map(pt -> {
-                    Project p = pt.getProject();
-                    return ProjectSimpleDto.builder()
-                            .id(p.getId())
-                            .name(p.getName())
-                            .build();
-                })
-                .collect(Collectors.toList());
+    public CursorPage<ProjectSimpleDto> getProjectsByTeam(UUID teamId, String name, String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return CursorPage.of(
+                projectTeamRepository.findProjectPage(teamId, nameFilter(name), afterName(after), afterId(after),
+                        Limit.of(pageSize + 1)),
+                pageSize,
+                project -> new KeysetCursor(project.getName(), project.getId()));
+    }
+
+    private int validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    /**
+     * 이름 필터 - 비어 있으면 null, LIKE 특수문자(\ % _)는 그대로 검색되도록 이스케이프
+     */
+    private String nameFilter(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.strip()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+    private String afterName(KeysetCursor after) {
+        return after != null ? after.key() : null;
+    }
+
+    private UUID afterId(KeysetCursor after) {
+        return after != null ? after.id() : null;
     }
-} 
+}
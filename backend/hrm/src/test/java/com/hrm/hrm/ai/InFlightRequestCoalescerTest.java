@@ -0,0 +1,55 @@
+package com.hrm.hrm.ai;
+
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.exception.AiTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 합류한 요청은 제한 시간까지만 기다리고, 첫 요청은 그와 관계없이 끝까지 실행되는지 검증
+ */
+class InFlightRequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InFlightRequestCoalescer coalescer = new InFlightRequestCoalescer(meterRegistry);
+
+    @Test
+    void joinerGivesUpAfterTimeoutWhileLeaderKeepsRunning() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AiResponse expected = AiResponse.builder().success(true).build();
+
+        CompletableFuture<AiResponse> leader = CompletableFuture.supplyAsync(() ->
+            coalescer.execute("feedback", "d1", 1, () -> {
+                leaderStarted.countDown();
+                await(release);
+                return expected;
+            }));
+        assertThat(leaderStarted.await(2, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> coalescer.execute("feedback", "d1", 1, () -> {
+            throw new AssertionError("joiner must not execute");
+        })).isInstanceOf(AiTimeoutException.class);
+        assertThat(meterRegistry.counter("ai.request.coalesce",
+            "operation", "feedback", "outcome", "join_timeout").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(leader.get(2, TimeUnit.SECONDS)).isSameAs(expected);
+        assertThat(coalescer.getInFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Python utils/cache_digest.feedback_cache_key와 같은 키를 만드는지 확인
+ * 기대값은 같은 입력으로 Python에서 계산한 값
+ */
+class FeedbackCacheDigestTest {
+
+    private static final String TAXONOMY = "{\"version\": \"test\", \"categories\": [], \"tags\": []}\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MasterTagCatalog masterTags;
+    private FeedbackCacheDigest digest;
+
+    @BeforeEach
+    void setUp(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve(MasterTagCatalog.FILE_NAME);
+        Files.writeString(file, TAXONOMY, StandardCharsets.UTF_8);
+        masterTags = new MasterTagCatalog(objectMapper);
+        masterTags.load(file);
+
+        digest = new FeedbackCacheDigest(masterTags, objectMapper);
+        ReflectionTestUtils.setField(digest, "model", "gpt-3.5-turbo");
+    }
+
+    @Test
+    void matchesPythonCacheKey() {
+        assertThat(masterTags.getFingerprint()).isEqualTo("d9bc110710b58c76");
+        assertThat(digest.of("  꼼꼼하게\n 검토했어요　",
+                "{\"role\":\"백엔드\",\"project\":\"HR 대시보드\",\"sprint\":3,\"tags\":[\"a\",\"b\"]}"))
+            .isEqualTo("0984c24dcca310311e13f2bc9388a7df889362d9138328c10cec2e425e4a3b96");
+    }
+
+    @Test
+    void treatsEmptyContextAsAbsent() {
+        String expected = "933f92c87d4e0be463e17622eb560eee45e6e90af3834708319fddd5c753f6f5";
+        assertThat(digest.of("꼼꼼하게 검토했어요", null)).isEqualTo(expected);
+        assertThat(digest.of("꼼꼼하게 검토했어요", "{}")).isEqualTo(expected);
+    }
+
+    @Test
+    void changesWhenModelChanges() {
+        String before = digest.of("꼼꼼하게 검토했어요", null);
+
+        ReflectionTestUtils.setField(digest, "model", "gpt-4o");
+        assertThat(digest.of("꼼꼼하게 검토했어요", null)).isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,191 @@
+package com.hrm.hrm.ai.classifier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.AiResponseCache;
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.dto.AiResponse;
+import com.hrm.hrm.ai.dto.ClassificationResult;
+import com.hrm.hrm.ai.protection.PipelineProtectionManager;
+import com.hrm.hrm.ai.retry.AiRetryExecutor;
+import com.hrm.hrm.config.GptConfig;
+import com.sun.net.httpserver.HttpServer;
+import com.theokanning.openai.service.OpenAiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Java 분류 엔진을 로컬 스텁 OpenAI 서버(/v1/chat/completions)에 대해 검증
+ */
+class OpenAiFeedbackClassifierTest {
+
+    private static final String FEEDBACK = "복잡한 장애 상황에서 원인을 분석해서 문제해결 방안을 체계적으로 제시했습니다";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> receivedRequests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer server;
+    private OpenAiService openAiService;
+    private AiRetryExecutor retryExecutor;
+    private OpenAiFeedbackClassifier classifier;
+
+    private volatile int responseStatus;
+    private volatile String responseBody;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            requestCount.incrementAndGet();
+            receivedRequests.add(objectMapper.readTree(exchange.getRequestBody()));
+            byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MasterTagCatalog masterTags = new MasterTagCatalog(objectMapper);
+        masterTags.load(Path.of("../../ai", MasterTagCatalog.FILE_NAME));
+
+        openAiService = GptConfig.createOpenAiService("test-token",
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/", Duration.ofSeconds(5), 4, 60_000);
+
+        retryExecutor = new AiRetryExecutor(meterRegistry);
+        ReflectionTestUtils.setField(retryExecutor, "baseDelayMs", 1L);
+        ReflectionTestUtils.setField(retryExecutor, "maxDelayMs", 5L);
+        ReflectionTestUtils.setField(retryExecutor, "budgetRatio", 0.1);
+        ReflectionTestUtils.setField(retryExecutor, "budgetMinPerSecond", 1.0);
+        ReflectionTestUtils.setField(retryExecutor, "budgetMaxTokens", 10.0);
+        retryExecutor.initialize();
+
+        FeedbackCacheDigest cacheDigest = new FeedbackCacheDigest(masterTags, objectMapper);
+        ReflectionTestUtils.setField(cacheDigest, "model", "gpt-3.5-turbo");
+
+        classifier = new OpenAiFeedbackClassifier(openAiService, masterTags, cacheDigest, objectMapper, retryExecutor,
+            new PipelineProtectionManager(meterRegistry), meterRegistry);
+        ReflectionTestUtils.setField(classifier, "model", "gpt-3.5-turbo");
+        ReflectionTestUtils.setField(classifier, "maxTokens", 500);
+        ReflectionTestUtils.setField(classifier, "temperature", 0.2);
+        ReflectionTestUtils.setField(classifier, "maxTextLength", 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        openAiService.shutdownExecutor();
+        retryExecutor.shutdown();
+    }
+
+    @Test
+    void classifiesWithMasterTagsAndKeepsOnlyValidItems() throws Exception {
+        respondWithContent(objectMapper.writeValueAsString(List.of(
+            Map.of("keyword", "#문제해결능력", "sentiment", "Positive",
+                "evidence", "문제해결 방안을 체계적으로 제시했습니다", "confidence", 0.9),
+            Map.of("keyword", "#없는태그", "sentiment", "Positive", "evidence", "원인을 분석해서", "confidence", 0.8),
+            Map.of("keyword", "#실행력", "sentiment", "Positive", "evidence", "텍스트에 없는 근거", "confidence", 0.2))));
+
+        AiResponse response = classifier.classify(request());
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getClassificationResults()).hasSize(1);
+        ClassificationResult result = response.getClassificationResults().get(0);
+        assertThat(result.getKeyword()).isEqualTo("#문제해결능력");
+        assertThat(result.getCategory()).isEqualTo("업무수행");
+        assertThat(result.getEvidence()).isEqualTo("문제해결 방안을 체계적으로 제시했습니다");
+        assertThat(response.getProcessingInfo()).containsEntry("engine", "java");
+        assertThat(response.getProcessingInfo()).containsEntry("method", "classification_v2");
+        assertThat(response.getCacheKey()).hasSize(64);
+
+        JsonNode sent = receivedRequests.get(0);
+        assertThat(sent.get("model").asText()).isEqualTo("gpt-3.5-turbo");
+        assertThat(sent.get("messages").get(0).get("role").asText()).isEqualTo("system");
+        assertThat(sent.get("messages").get(1).get("content").asText()).contains("#문제해결능력: ");
+    }
+
+    @Test
+    void replacesEvidenceThatIsNotInTheFeedback() throws Exception {
+        respondWithContent(objectMapper.writeValueAsString(List.of(
+            Map.of("keyword", "#문제해결능력", "sentiment", "Positive",
+                "evidence", "전혀 다른 문장을 지어냈습니다", "confidence", 0.7))));
+
+        AiResponse response = classifier.classify(request());
+
+        assertThat(response.getClassificationResults()).singleElement()
+            .extracting(ClassificationResult::getEvidence).isEqualTo(FEEDBACK);
+    }
+
+    @Test
+    void extractsTagsWhenResponseIsNotJson() throws Exception {
+        respondWithContent("분석 결과 #문제해결능력 태그가 적합합니다.");
+
+        AiResponse response = classifier.classify(request());
+
+        assertThat(response.getClassificationResults()).singleElement()
+            .satisfies(result -> {
+                assertThat(result.getKeyword()).isEqualTo("#문제해결능력");
+                assertThat(result.getConfidence()).isEqualTo(0.5);
+            });
+    }
+
+    @Test
+    void retriesServerErrorsThenFallsBackToKeywordMatching() {
+        responseStatus = 500;
+        responseBody = "{\"error\":{\"message\":\"overloaded\",\"type\":\"server_error\",\"code\":null}}";
+
+        AiResponse response = classifier.classify(request());
+
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getClassificationResults())
+            .extracting(ClassificationResult::getKeyword)
+            .containsExactly("#문제해결능력", "#기획력");
+        assertThat(response.getClassificationResults())
+            .allSatisfy(result -> assertThat(result.getConfidence()).isEqualTo(0.5));
+        assertThat(response.getProcessingInfo()).containsEntry("method", "fallback_keyword");
+        assertThat(AiResponseCache.isFallback(response)).isTrue();
+    }
+
+    private AiRequest request() {
+        return AiRequest.builder()
+            .script("pipeline1_personal_manual.py")
+            .inputText(FEEDBACK)
+            .correlationId("test")
+            .retryEnabled(true)
+            .maxRetries(2)
+            .build();
+    }
+
+    private void respondWithContent(String content) throws IOException {
+        responseStatus = 200;
+        responseBody = objectMapper.writeValueAsString(Map.of(
+            "id", "chatcmpl-test",
+            "object", "chat.completion",
+            "created", 0,
+            "model", "gpt-3.5-turbo",
+            "choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop"))));
+    }
+}
@@ -0,0 +1,87 @@
+package com.hrm.hrm.ai.protection;
+
+import com.hrm.hrm.ai.exception.AiCircuitOpenException;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import com.hrm.hrm.ai.exception.AiQueueTimeoutException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서킷 상태 전이(CLOSED -> OPEN -> HALF_OPEN -> CLOSED)와 AIMD 한도 조정 검증
+ */
+class PipelineGuardTest {
+
+    @Test
+    void circuitOpensOnFailuresAndClosesAfterSuccessfulTrial() throws Exception {
+        PipelineGuard guard = new PipelineGuard("pipeline1", settings(2, 50));
+
+        fail(guard, new AiProcessingException("connection reset", "c1", "pipeline1", 1));
+        assertThat(guard.getState()).isEqualTo(PipelineGuard.State.CLOSED);
+        fail(guard, new AiProcessingException("connection reset", "c1", "pipeline1", 1));
+        assertThat(guard.getState()).isEqualTo(PipelineGuard.State.OPEN);
+
+        assertThatThrownBy(() -> guard.execute("c1", () -> "ok")).isInstanceOf(AiCircuitOpenException.class);
+        assertThat(guard.getRejectedCount()).isEqualTo(1);
+
+        Thread.sleep(80);
+        assertThat(guard.getState()).isEqualTo(PipelineGuard.State.HALF_OPEN);
+
+        assertThat(guard.execute("c1", () -> "ok")).isEqualTo("ok");
+        assertThat(guard.getState()).isEqualTo(PipelineGuard.State.CLOSED);
+        assertThat(guard.getOpenedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void limitDecreasesMultiplicativelyAndIncreasesAdditively() {
+        PipelineGuard guard = new PipelineGuard("pipeline1", settings(10, 60000));
+        assertThat(guard.getLimit()).isEqualTo(4);
+
+        fail(guard, new AiProcessingException("rate limit exceeded", "c1", "pipeline1", 1));
+        assertThat(guard.getLimit()).isEqualTo(2);
+        fail(guard, new AiProcessingException("rate limit exceeded", "c1", "pipeline1", 1));
+        assertThat(guard.getLimit()).isEqualTo(1);
+        fail(guard, new AiProcessingException("rate limit exceeded", "c1", "pipeline1", 1));
+        assertThat(guard.getLimit()).isEqualTo(1);
+
+        // 한도까지 사용한 성공 응답마다 1/limit씩 증가
+        guard.execute("c1", () -> "ok");
+        assertThat(guard.getLimit()).isEqualTo(2);
+        assertThat(guard.getState()).isEqualTo(PipelineGuard.State.CLOSED);
+    }
+
+    @Test
+    void queueTimeoutsAndInterruptsDoNotCountAsPipelineFailures() {
+        PipelineGuard guard = new PipelineGuard("pipeline1", settings(2, 60000));
+
+        fail(guard, new AiQueueTimeoutException("AI 작업 대기열 시간 초과", "c1", 100));
+        fail(guard, new AiProcessingException("인터럽트 발생", new InterruptedException(), "c1"));
+        fail(guard, new AiProcessingException("invalid input", "c1", "pipeline1", 2));
+
+        assertThat(guard.getState()).isEqualTo(PipelineGuard.State.CLOSED);
+        assertThat(guard.getLimit()).isEqualTo(4);
+        assertThat(guard.getInFlight()).isZero();
+    }
+
+    private static void fail(PipelineGuard guard, AiProcessingException failure) {
+        assertThatThrownBy(() -> guard.execute("c1", () -> {
+            throw failure;
+        })).isSameAs(failure);
+    }
+
+    private static PipelineGuard.Settings settings(int minimumCalls, long openDurationMs) {
+        return PipelineGuard.Settings.builder()
+            .windowSize(10)
+            .minimumCalls(minimumCalls)
+            .failureRateThreshold(0.5)
+            .openDurationMs(openDurationMs)
+            .halfOpenTrials(1)
+            .initialLimit(4)
+            .minLimit(1)
+            .maxLimit(8)
+            .backoffRatio(0.5)
+            .latencyThresholdMs(10000)
+            .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.hrm.hrm.ai.retry;
+
+import com.hrm.hrm.ai.dto.AiRequest;
+import com.hrm.hrm.ai.exception.AiProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재시도는 예약 실행으로 진행되어 백오프 동안 호출자/시도 스레드를 점유하지 않고,
+ * 재시도 가능한 실패만 maxRetries까지 다시 시도되는지 검증
+ */
+class AiRetryExecutorTest {
+
+    private AiRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        retryExecutor = new AiRetryExecutor(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(retryExecutor, "baseDelayMs", 1L);
+        ReflectionTestUtils.setField(retryExecutor, "maxDelayMs", 5L);
+        ReflectionTestUtils.setField(retryExecutor, "budgetRatio", 0.1);
+        ReflectionTestUtils.setField(retryExecutor, "budgetMinPerSecond", 1.0);
+        ReflectionTestUtils.setField(retryExecutor, "budgetMaxTokens", 10.0);
+        ReflectionTestUtils.setField(retryExecutor, "attemptThreads", 2);
+        ReflectionTestUtils.setField(retryExecutor, "attemptQueueCapacity", 1);
+        retryExecutor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryExecutor.shutdown();
+    }
+
+    @Test
+    void backoffDoesNotHoldCallerOrAttemptThread() throws Exception {
+        ReflectionTestUtils.setField(retryExecutor, "baseDelayMs", 1000L);
+        ReflectionTestUtils.setField(retryExecutor, "maxDelayMs", 1000L);
+        retryExecutor.jitter = LongUnaryOperator.identity();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<String> future = retryExecutor.executeAsync(request(2), attempt -> {
+            threads.add(Thread.currentThread());
+            if (threads.size() == 1) {
+                throw new AiProcessingException("connection reset", "c1", "pipeline1", 1);
+            }
+            return "ok";
+        });
+        long returnedAfterMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // 첫 시도 실패 후 1초 백오프 중 - 호출자는 이미 반환했고 실행 중인 시도도 없음
+        Thread.sleep(200);
+        assertThat(returnedAfterMs).isLessThan(300);
+        assertThat(threads).hasSize(1);
+        assertThat(future).isNotDone();
+        assertThat(retryExecutor.getActiveAttempts()).isZero();
+
+        assertThat(future.get(2, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(threads).hasSize(2).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    void retryableFailuresAreRetriedUntilSuccess() {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        String result = retryExecutor.execute(request(3), attempt -> {
+            threads.add(Thread.currentThread());
+            if (threads.size() < 3) {
+                throw new AiProcessingException("connection reset", "c1", "pipeline1", 1);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(threads).hasSize(3);
+    }
+
+    @Test
+    void permanentFailureIsNotRetried() {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        assertThatThrownBy(() -> retryExecutor.execute(request(3), attempt -> {
+            threads.add(Thread.currentThread());
+            throw new AiProcessingException("invalid input", "c1", "pipeline1", 2);
+        })).isInstanceOf(AiProcessingException.class).hasMessage("invalid input");
+
+        assertThat(threads).hasSize(1);
+    }
+
+    @Test
+    void lastFailureIsThrownAfterMaxRetries() {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        assertThatThrownBy(() -> retryExecutor.execute(request(2), attempt -> {
+            threads.add(Thread.currentThread());
+            throw new AiProcessingException("timeout", "c1", "pipeline1", 1);
+        })).isInstanceOf(AiProcessingException.class).hasMessage("timeout");
+
+        assertThat(threads).hasSize(2);
+    }
+
+    @Test
+    void saturatedAttemptExecutorRejectsInsteadOfSpawningThreads() throws Exception {
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        List<CompletableFuture<String>> futures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(retryExecutor.executeAsync(request(1), attempt -> {
+                release.join();
+                return "ok";
+            }));
+        }
+
+        // 스레드 2개 + 대기열 1개를 넘는 네 번째 요청은 즉시 거부
+        assertThat(futures.get(3)).isCompletedExceptionally();
+        assertThatThrownBy(() -> futures.get(3).join()).hasCauseInstanceOf(AiProcessingException.class);
+
+        release.complete(null);
+        for (int i = 0; i < 3; i++) {
+            assertThat(futures.get(i).get(2, TimeUnit.SECONDS)).isEqualTo("ok");
+        }
+    }
+
+    private static AiRequest request(int maxRetries) {
+        return AiRequest.builder().script("pipeline1").correlationId("c1").maxRetries(maxRetries).build();
+    }
+}
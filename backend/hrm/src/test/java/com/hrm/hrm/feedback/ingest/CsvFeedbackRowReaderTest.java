@@ -0,0 +1,69 @@
+package com.hrm.hrm.feedback.ingest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvFeedbackRowReaderTest {
+
+    private static final String FROM = "11111111-1111-1111-1111-111111111111";
+    private static final String TO = "22222222-2222-2222-2222-222222222222";
+
+    @Test
+    void quotedFieldsKeepCommasQuotesAndNewlines() throws IOException {
+        List<FeedbackRow> rows = readAll("From_User_Id,to,Feedback Text,project_context,category,anonymous\r\n"
+            + FROM + "," + TO + ",\"꼼꼼함, \"\"최고\"\"\n두 번째 줄\",플랫폼,업무수행,true\r\n"
+            + "\r\n"
+            + FROM + "," + TO + ",짧은 피드백,,,\n");
+
+        assertThat(rows).hasSize(2);
+        FeedbackRow first = rows.get(0);
+        assertThat(first.line()).isEqualTo(2);
+        assertThat(first.item().getFromUserId()).isEqualTo(UUID.fromString(FROM));
+        assertThat(first.item().getFeedbackText()).isEqualTo("꼼꼼함, \"최고\"\n두 번째 줄");
+        assertThat(first.item().getProjectContext()).isEqualTo("플랫폼");
+        assertThat(first.item().isAnonymous()).isTrue();
+
+        FeedbackRow second = rows.get(1);
+        assertThat(second.line()).isEqualTo(5);
+        assertThat(second.item().getProjectContext()).isNull();
+        assertThat(second.item().isAnonymous()).isFalse();
+    }
+
+    @Test
+    void invalidRowsAreRejectedWithLineNumbers() throws IOException {
+        List<FeedbackRow> rows = readAll("from_user_id,to_user_id,feedback_text,anonymous\n"
+            + "bad," + TO + ",텍스트,false\n"
+            + FROM + "," + TO + ",텍스트,maybe\n"
+            + FROM + "," + TO + ",\"닫히지 않음");
+
+        assertThat(rows).extracting(FeedbackRow::line).containsExactly(2L, 3L, 4L);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.item()).isNull();
+            assertThat(row.error()).isNotBlank();
+        });
+    }
+
+    @Test
+    void headerMustNameRecipientAndText() {
+        assertThatThrownBy(() -> readAll("from_user_id,category\n" + FROM + ",업무수행\n"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<FeedbackRow> readAll(String csv) throws IOException {
+        FeedbackRowReader reader = FeedbackRowReader.of(FeedbackIngestFormat.CSV, new StringReader(csv), null);
+        List<FeedbackRow> rows = new ArrayList<>();
+        FeedbackRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,116 @@
+package com.hrm.hrm.feedback.service;
+
+import com.hrm.hrm.entity.PeerFeedback;
+import com.hrm.hrm.entity.User;
+import com.hrm.hrm.feedback.dto.PeerFeedbackImportItem;
+import com.hrm.hrm.feedback.repository.PeerFeedbackRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 피드백 일괄 저장이 SELECT 없이 배치 INSERT로 끝나는지 검증
+ * peer_feedback의 jsonb 컬럼을 만들 수 있도록 H2에 JSONB 도메인(문자열)을 등록
+ */
+@DataJpaTest(properties = {
+    "spring.test.database.replace=none",
+    "spring.datasource.url=jdbc:h2:mem:feedback-import;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS VARCHAR",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import(PeerFeedbackImportServiceImpl.class)
+class PeerFeedbackImportServiceImplTest {
+
+    private static final int FEEDBACK_COUNT = 120;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PeerFeedbackImportService importService;
+
+    @Autowired
+    private PeerFeedbackRepository peerFeedbackRepository;
+
+    private User from;
+    private User to;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        from = em.persist(user("보낸이"));
+        to = em.persist(user("받는이"));
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void feedbacksAreInsertedInBatchesWithoutSelects() {
+        List<PeerFeedbackImportItem> items = new ArrayList<>();
+        for (int i = 0; i < FEEDBACK_COUNT; i++) {
+            items.add(PeerFeedbackImportItem.builder()
+                .fromUserId(from.getId())
+                .toUserId(to.getId())
+                .feedbackText("꼼꼼하게 검토해 주었습니다. " + i)
+                .projectContext("프로젝트")
+                .category("업무수행")
+                .build());
+        }
+
+        int saved = importService.importFeedbacks(items);
+
+        assertThat(saved).isEqualTo(FEEDBACK_COUNT);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(FEEDBACK_COUNT);
+        // 50 + 50 + 20건, 배치마다 INSERT 문 하나
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        assertThat(peerFeedbackRepository.count()).isEqualTo(FEEDBACK_COUNT);
+        PeerFeedback stored = peerFeedbackRepository.findAll().get(0);
+        assertThat(stored.isNew()).isFalse();
+    }
+
+    @Test
+    void invalidItemRejectsWholeImport() {
+        List<PeerFeedbackImportItem> items = List.of(
+            PeerFeedbackImportItem.builder().fromUserId(from.getId()).toUserId(to.getId()).feedbackText("좋아요").build(),
+            PeerFeedbackImportItem.builder().fromUserId(from.getId()).toUserId(to.getId()).feedbackText(" ").build());
+
+        assertThatThrownBy(() -> importService.importFeedbacks(items))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("1번째 항목");
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+
+    private static User user(String name) {
+        return User.builder()
+            .id(UUID.randomUUID())
+            .userName(name)
+            .email(UUID.randomUUID() + "@example.com")
+            .password("pw")
+            .userType("INDIVIDUAL")
+            .build();
+    }
+}
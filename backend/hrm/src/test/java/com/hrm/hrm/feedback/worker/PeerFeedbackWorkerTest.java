@@ -0,0 +1,111 @@
+package com.hrm.hrm.feedback.worker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.AiService;
+import com.hrm.hrm.ai.dto.AiResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 워커 한 건 처리 - AI 호출 인자와 결과별 큐 기록(complete/defer/fail) 검증
+ */
+class PeerFeedbackWorkerTest {
+
+    private static final String LEASE = "lease-1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PeerFeedbackQueue queue = mock(PeerFeedbackQueue.class);
+    private final AiService aiService = mock(AiService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PeerFeedbackWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new PeerFeedbackWorker(queue, aiService, meterRegistry, objectMapper);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        when(queue.complete(any(), anyString(), any())).thenReturn(true);
+        when(queue.defer(any(), anyString(), anyString())).thenReturn(true);
+        when(queue.fail(any(), anyString(), any(), anyBoolean())).thenReturn(true);
+    }
+
+    @Test
+    void projectContextIsSentAsJsonObject() throws Exception {
+        AiResponse response = AiResponse.builder()
+            .success(true)
+            .processingInfo(Map.of("method", "classification_v2"))
+            .build();
+        when(aiService.processFeedback(eq("회의 준비가 꼼꼼합니다"), anyString())).thenReturn(response);
+        ClaimedFeedback item = new ClaimedFeedback(UUID.randomUUID(), "회의 준비가 꼼꼼합니다", "결제 \"v2\" 개편", 1);
+
+        assertThat(worker.process(item, LEASE)).isFalse();
+
+        ArgumentCaptor<String> context = ArgumentCaptor.forClass(String.class);
+        verify(aiService).processFeedback(eq("회의 준비가 꼼꼼합니다"), context.capture());
+        assertThat(objectMapper.readTree(context.getValue()).path("project").asText()).isEqualTo("결제 \"v2\" 개편");
+        verify(queue).complete(item.id(), LEASE, response);
+    }
+
+    @Test
+    void missingProjectContextIsSentAsNull() {
+        when(aiService.processFeedback(anyString(), isNull())).thenReturn(AiResponse.builder()
+            .success(true).processingInfo(Map.of("method", "classification_v2")).build());
+        ClaimedFeedback item = new ClaimedFeedback(UUID.randomUUID(), "피드백", null, 1);
+
+        worker.process(item, LEASE);
+
+        verify(aiService).processFeedback(eq("피드백"), isNull());
+    }
+
+    @Test
+    void fallbackResultIsDeferredInsteadOfCompleted() {
+        when(aiService.processFeedback(anyString(), any())).thenReturn(AiResponse.builder()
+            .success(true).processingInfo(Map.of("method", "fallback_keyword")).build());
+        ClaimedFeedback item = new ClaimedFeedback(UUID.randomUUID(), "피드백", "프로젝트", 1);
+
+        assertThat(worker.process(item, LEASE)).isTrue();
+
+        verify(queue).defer(eq(item.id()), eq(LEASE), anyString());
+        verify(queue, never()).complete(any(), anyString(), any());
+        verify(queue, never()).fail(any(), anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    void partiallyFallbackChunkedResultIsDeferred() {
+        when(aiService.processFeedback(anyString(), any())).thenReturn(AiResponse.builder()
+            .success(true).processingInfo(Map.of("method", "chunked", "fallback_chunks", 1)).build());
+        ClaimedFeedback item = new ClaimedFeedback(UUID.randomUUID(), "피드백", null, 1);
+
+        assertThat(worker.process(item, LEASE)).isTrue();
+
+        verify(queue, never()).complete(any(), anyString(), any());
+    }
+
+    @Test
+    void failureIsRetriedUntilMaxAttempts() {
+        when(aiService.processFeedback(anyString(), any())).thenReturn(AiResponse.error("실패", "c1"));
+
+        worker.process(new ClaimedFeedback(UUID.randomUUID(), "피드백", null, 1), LEASE);
+        worker.process(new ClaimedFeedback(UUID.randomUUID(), "피드백", null, 3), LEASE);
+
+        verify(queue).fail(any(), eq(LEASE), eq("실패"), eq(true));
+        verify(queue).fail(any(), eq(LEASE), eq("실패"), eq(false));
+    }
+}
@@ -0,0 +1,138 @@
+package com.hrm.hrm.manual.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.ai.dto.StructuredTag;
+import com.hrm.hrm.entity.PeerFeedback;
+import com.hrm.hrm.entity.PersonalManual;
+import com.hrm.hrm.entity.User;
+import com.hrm.hrm.entity.UserTagStat;
+import com.hrm.hrm.manual.repository.PersonalManualRepository;
+import com.hrm.hrm.manual.repository.UserTagStatRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 태그 증분 집계 값과, 반영 비용이 피드백 이력 길이에 따라 늘지 않는지 검증
+ * peer_feedbacks/personal_manuals의 jsonb 컬럼을 만들 수 있도록 H2에 JSONB 도메인(문자열)을 등록
+ */
+@DataJpaTest(properties = {
+    "spring.test.database.replace=none",
+    "spring.datasource.url=jdbc:h2:mem:manual-aggregation;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS VARCHAR",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ManualAggregationServiceImpl.class, ObjectMapper.class})
+class ManualAggregationServiceImplTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ManualAggregationService aggregationService;
+
+    @Autowired
+    private PersonalManualRepository personalManualRepository;
+
+    @Autowired
+    private UserTagStatRepository userTagStatRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User from;
+    private User to;
+
+    @BeforeEach
+    void setUp() {
+        from = em.persist(user("보낸이"));
+        to = em.persist(user("받는이"));
+        em.flush();
+    }
+
+    @Test
+    void tagsAreFoldedWithFeedbackWeights() throws Exception {
+        fold(PeerFeedback.create(from, to, "꼼꼼합니다", null, null),
+            tag("#꼼꼼함", "Positive", 0.9), tag("#소통능력", "Negative", 0.6), tag("#꼼꼼함", "Positive", 0.5));
+        fold(PeerFeedback.createAnonymous(to, "꼼꼼하지만 느립니다", null, null),
+            tag("#꼼꼼함", "Mixed", 0.8));
+
+        UserTagStat careful = userTagStatRepository.findByUserIdAndTags(to.getId(), List.of("#꼼꼼함")).get(0);
+        assertThat(careful.getFeedbackCount()).isEqualTo(2);
+        assertThat(careful.getWeightedCount()).isCloseTo(1.8, within(1e-9));
+        assertThat(careful.getPositiveWeight()).isCloseTo(1.4, within(1e-9));
+        assertThat(careful.getNegativeWeight()).isCloseTo(0.4, within(1e-9));
+        assertThat(careful.getAverageConfidence()).isCloseTo((0.9 + 0.8 * 0.8) / 1.8, within(1e-9));
+        assertThat(careful.getDominantSentiment()).isEqualTo("Positive");
+
+        PersonalManual manual = personalManualRepository.findByUserIdForUpdate(to.getId()).orElseThrow();
+        assertThat(manual.getTotalFeedbackCount()).isEqualTo(2);
+        JsonNode muscle = objectMapper.readTree(manual.getMuscleData());
+        assertThat(muscle.get("tag_count").asInt()).isEqualTo(2);
+        assertThat(muscle.get("tags").get(0).get("tag").asText()).isEqualTo("#꼼꼼함");
+        assertThat(muscle.get("tags").get(0).get("weighted_count").asDouble()).isEqualTo(1.8);
+        assertThat(muscle.get("tags").get(1).get("sentiment").asText()).isEqualTo("Negative");
+    }
+
+    @Test
+    void foldCostDoesNotGrowWithHistory() {
+        fold(PeerFeedback.create(from, to, "첫 피드백", null, null), tag("#리더십", "Positive", 0.7));
+        long early = statementsFor(PeerFeedback.create(from, to, "두 번째", null, null), tag("#리더십", "Positive", 0.7));
+
+        for (int i = 0; i < 50; i++) {
+            fold(PeerFeedback.create(from, to, "피드백 " + i, null, null), tag("#리더십", "Positive", 0.7));
+        }
+        long late = statementsFor(PeerFeedback.create(from, to, "마지막", null, null), tag("#리더십", "Positive", 0.7));
+
+        assertThat(late).isEqualTo(early);
+        assertThat(userTagStatRepository.findByUserId(to.getId()).get(0).getFeedbackCount()).isEqualTo(53);
+    }
+
+    private long statementsFor(PeerFeedback feedback, StructuredTag... tags) {
+        em.persist(feedback);
+        em.flush();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        aggregationService.foldFeedback(em.find(PeerFeedback.class, feedback.getId()), List.of(tags));
+        em.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void fold(PeerFeedback feedback, StructuredTag... tags) {
+        em.persist(feedback);
+        aggregationService.foldFeedback(feedback, List.of(tags));
+        em.flush();
+    }
+
+    private static StructuredTag tag(String name, String sentiment, double confidence) {
+        return StructuredTag.builder().tag(name).sentiment(sentiment).confidence(confidence).category("업무수행").build();
+    }
+
+    private static User user(String name) {
+        return User.builder()
+            .id(UUID.randomUUID())
+            .userName(name)
+            .email(UUID.randomUUID() + "@example.com")
+            .password("pw")
+            .userType("INDIVIDUAL")
+            .build();
+    }
+}
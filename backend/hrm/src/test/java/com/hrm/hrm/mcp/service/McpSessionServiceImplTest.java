@@ -0,0 +1,152 @@
+package com.hrm.hrm.mcp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.common.paging.KeysetCursor;
+import com.hrm.hrm.entity.McpSession;
+import com.hrm.hrm.entity.User;
+import com.hrm.hrm.mcp.dto.McpSessionDetailDto;
+import com.hrm.hrm.mcp.dto.McpSessionSummaryDto;
+import com.hrm.hrm.partition.McpPacketArchiver;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 세션 이력은 페이지당 SQL 한 번, 엔티티 로딩 없이(jsonb 컬럼 미조회) 끝나고 상세에서만 전체 컬럼을 읽는지 검증
+ */
+@DataJpaTest(properties = {
+    "spring.test.database.replace=none",
+    "spring.datasource.url=jdbc:h2:mem:mcp-session;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS VARCHAR",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({McpSessionServiceImpl.class, McpPacketArchiver.class, ObjectMapper.class})
+class McpSessionServiceImplTest {
+
+    private static final int SESSION_COUNT = 45;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private McpSessionService mcpSessionService;
+
+    private User manager;
+    private User target;
+    private UUID latestSessionId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        manager = em.persist(user("매니저"));
+        target = em.persist(user("팀원"));
+        User otherManager = em.persist(user("다른 매니저"));
+
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        for (int i = 0; i < SESSION_COUNT; i++) {
+            McpSession session = em.persist(session(manager, base.plusMinutes(i), i % 3 == 0 ? "FAILED" : "COMPLETED"));
+            latestSessionId = session.getId();
+        }
+        em.persist(session(otherManager, base, "COMPLETED"));
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void historyIsPagedWithoutLoadingSessions() {
+        List<McpSessionSummaryDto> sessions = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<McpSessionSummaryDto> page =
+                mcpSessionService.getSessionHistory(manager.getId(), null, null, cursor, 20);
+            sessions.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(sessions).hasSize(SESSION_COUNT);
+        assertThat(sessions).extracting(McpSessionSummaryDto::getId).doesNotHaveDuplicates();
+        assertThat(sessions.get(0).getId()).isEqualTo(latestSessionId);
+        assertThat(sessions.get(0).getTargetUserName()).isEqualTo("팀원");
+    }
+
+    @Test
+    void historyCanBeFilteredByStatus() {
+        CursorPage<McpSessionSummaryDto> page =
+            mcpSessionService.getSessionHistory(manager.getId(), target.getId(), "FAILED", null, 100);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getItems()).hasSize(SESSION_COUNT / 3)
+            .allMatch(s -> "FAILED".equals(s.getProcessingStatus()));
+    }
+
+    @Test
+    void detailReturnsJsonColumns() {
+        McpSessionDetailDto detail = mcpSessionService.getSessionDetail(latestSessionId);
+
+        assertThat(detail.getSummary().getId()).isEqualTo(latestSessionId);
+        assertThat(detail.getMcpPacket().path("context").asText()).isEqualTo("팀원");
+        assertThat(detail.isPacketArchived()).isFalse();
+        assertThat(detail.getFinalCoachingCard().path("title").asText()).isEqualTo("1:1 면담");
+    }
+
+    @Test
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> mcpSessionService.getSessionHistory(manager.getId(), null, null,
+            new KeysetCursor("not-a-date", UUID.randomUUID()).encode(), 20))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private McpSession session(User owner, LocalDateTime createdAt, String status) {
+        return McpSession.builder()
+            .id(UUID.randomUUID())
+            .manager(owner)
+            .targetUser(target)
+            .userQuery("팀원과 어떻게 면담할까요?")
+            .analyzedIntent("coaching")
+            .mcpPacket("{\"context\":\"팀원\"}")
+            .finalCoachingCard("{\"title\":\"1:1 면담\"}")
+            .processingStatus(status)
+            .confidenceScore(0.7)
+            .processingDurationMs(1200L)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    private static User user(String name) {
+        return User.builder()
+            .id(UUID.randomUUID())
+            .userName(name)
+            .email(UUID.randomUUID() + "@example.com")
+            .password("pw")
+            .userType("INDIVIDUAL")
+            .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.hrm.hrm.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionDdlTest {
+
+    @Test
+    void monthPartitionCoversOneCalendarMonth() {
+        assertThat(PartitionDdl.createMonthPartition("mcp_sessions", YearMonth.of(2026, 12)))
+            .isEqualTo("CREATE TABLE IF NOT EXISTS mcp_sessions_p2026_12 PARTITION OF mcp_sessions"
+                + " FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+        assertThat(PartitionDdl.monthOf("mcp_sessions", "mcp_sessions_p2026_12")).isEqualTo(YearMonth.of(2026, 12));
+        assertThat(PartitionDdl.monthOf("mcp_sessions", "mcp_sessions_default")).isNull();
+        assertThat(PartitionDdl.monthOf("mcp_sessions", "peer_feedbacks_p2026_12")).isNull();
+    }
+
+    @Test
+    void onlyMonthPartitionsOlderThanRetentionExpire() {
+        List<String> partitions = List.of("peer_feedbacks_default", "peer_feedbacks_p2024_09",
+            "peer_feedbacks_p2023_10", "peer_feedbacks_p2023_09", "peer_feedbacks_p2026_10");
+
+        assertThat(PartitionDdl.expiredPartitions("peer_feedbacks", partitions, YearMonth.of(2026, 10), 36))
+            .containsExactly("peer_feedbacks_p2023_09");
+        assertThat(PartitionDdl.expiredPartitions("peer_feedbacks", partitions, YearMonth.of(2026, 10), 0))
+            .isEmpty();
+    }
+
+    @Test
+    void monthsAreInclusive() {
+        assertThat(PartitionDdl.months(YearMonth.of(2026, 11), YearMonth.of(2027, 1)))
+            .containsExactly(YearMonth.of(2026, 11), YearMonth.of(2026, 12), YearMonth.of(2027, 1));
+    }
+}
@@ -0,0 +1,155 @@
+package com.hrm.hrm.team.service;
+
+import com.hrm.hrm.common.paging.CursorPage;
+import com.hrm.hrm.entity.Project;
+import com.hrm.hrm.entity.ProjectPosition;
+import com.hrm.hrm.entity.ProjectTeam;
+import com.hrm.hrm.entity.Team;
+import com.hrm.hrm.entity.User;
+import com.hrm.hrm.entity.UserPositionAssignment;
+import com.hrm.hrm.entity.UserTeam;
+import com.hrm.hrm.team.dto.ProjectSimpleDto;
+import com.hrm.hrm.team.dto.UserDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팀 멤버/프로젝트 페이지 조회가 팀 크기와 관계없이 페이지당 SQL 한 번으로 끝나는지 검증 (N+1 회귀 방지)
+ * 내장 H2 사용 - jsonb 컬럼을 쓰는 다른 엔티티의 DDL 오류 로그는 이 테스트와 무관
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(TeamServiceImpl.class)
+class TeamServiceImplTest {
+
+    private static final int MEMBER_COUNT = 200;
+    private static final int PROJECT_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TeamService teamService;
+
+    private Team team;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        team = em.persist(Team.builder().id(UUID.randomUUID()).name("플랫폼팀").build());
+        Team otherTeam = em.persist(Team.builder().id(UUID.randomUUID()).name("다른팀").build());
+
+        Project[] projects = new Project[PROJECT_COUNT];
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            projects[i] = em.persist(Project.builder().id(UUID.randomUUID()).name("프로젝트" + i).build());
+            em.persist(ProjectTeam.builder().id(UUID.randomUUID()).project(projects[i]).team(team).build());
+        }
+        Project otherProject = em.persist(Project.builder().id(UUID.randomUUID()).name("다른 프로젝트").build());
+        em.persist(ProjectTeam.builder().id(UUID.randomUUID()).project(otherProject).team(otherTeam).build());
+
+        ProjectPosition backend = em.persist(ProjectPosition.builder()
+            .id(UUID.randomUUID()).project(projects[0]).name("백엔드").build());
+        ProjectPosition designer = em.persist(ProjectPosition.builder()
+            .id(UUID.randomUUID()).project(projects[1]).name("디자이너").build());
+        ProjectPosition outsider = em.persist(ProjectPosition.builder()
+            .id(UUID.randomUUID()).project(otherProject).name("외부 포지션").build());
+
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            User user = em.persist(User.builder()
+                .id(UUID.randomUUID())
+                .userName(String.format("멤버%03d", i))
+                .email("member" + i + "@example.com")
+                .password("pw")
+                .userType("INDIVIDUAL")
+                .build());
+            em.persist(UserTeam.builder().id(UUID.randomUUID()).user(user).team(team).build());
+
+            if (i == 0) {
+                // 팀 프로젝트 포지션 두 개 - 이름순 첫 번째
+                assign(user, projects[0], backend);
+                assign(user, projects[1], designer);
+            } else if (i == 1) {
+                // 다른 팀 프로젝트 포지션만 있으면 null
+                assign(user, otherProject, outsider);
+            }
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void membersAreLoadedWithOneStatementPerPage() {
+        List<UserDto> members = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<UserDto> page = teamService.getMembersByTeam(team.getId(), null, cursor, 50);
+            members.addAll(page.getItems());
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(MEMBER_COUNT / 50);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(pages);
+        assertThat(members).hasSize(MEMBER_COUNT);
+        assertThat(members).extracting(UserDto::getUserName).doesNotHaveDuplicates().isSorted();
+        assertThat(members.get(0).getUserName()).isEqualTo("멤버000");
+        assertThat(members.get(0).getPosition()).isEqualTo("디자이너");
+        assertThat(members.get(1).getPosition()).isNull();
+        assertThat(members.get(2).getEmail()).isEqualTo("member2@example.com");
+        assertThat(members.get(2).getProjects()).isEmpty();
+    }
+
+    @Test
+    void membersCanBeFilteredByName() {
+        CursorPage<UserDto> page = teamService.getMembersByTeam(team.getId(), "멤버19", null, 20);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getItems()).extracting(UserDto::getUserName)
+            .containsExactly("멤버190", "멤버191", "멤버192", "멤버193", "멤버194",
+                "멤버195", "멤버196", "멤버197", "멤버198", "멤버199");
+    }
+
+    @Test
+    void projectsAreLoadedWithOneStatementPerPage() {
+        CursorPage<ProjectSimpleDto> first = teamService.getProjectsByTeam(team.getId(), null, null, 3);
+        CursorPage<ProjectSimpleDto> second = teamService.getProjectsByTeam(team.getId(), null, first.getNextCursor(), 3);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(first.getItems()).extracting(ProjectSimpleDto::getName)
+            .containsExactly("프로젝트0", "프로젝트1", "프로젝트2");
+        assertThat(second.getItems()).extracting(ProjectSimpleDto::getName)
+            .containsExactly("프로젝트3", "프로젝트4");
+    }
+
+    private void assign(User user, Project project, ProjectPosition position) {
+        em.persist(UserPositionAssignment.builder()
+            .id(UUID.randomUUID()).user(user).project(project).position(position).build());
+    }
+}